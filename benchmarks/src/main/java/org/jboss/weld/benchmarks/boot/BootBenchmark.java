@@ -0,0 +1,92 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks.boot;
+
+import static org.jboss.weld.benchmarks.Benchmarks.MEASUREMENT_ITERATIONS;
+import static org.jboss.weld.benchmarks.Benchmarks.WARMUP_ITERATIONS;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the bootstrap of a Weld SE container with a synthetic deployment of the given number of bean classes. The classes are defined by a new class
+ * loader before each boot, so that the class loading is not measured but the container never sees the same {@link Class} twice.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = WARMUP_ITERATIONS)
+@Measurement(iterations = MEASUREMENT_ITERATIONS)
+@Fork(1)
+public class BootBenchmark {
+
+    @Param({ "1000", "10000", "50000" })
+    private int classes;
+
+    private Map<String, byte[]> bytecode;
+
+    private ClassLoader classLoader;
+
+    private Class<?>[] beanClasses;
+
+    private WeldContainer container;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        bytecode = SyntheticClassLoader.generate(classes);
+    }
+
+    @Setup(Level.Invocation)
+    public void defineClasses() throws ClassNotFoundException {
+        classLoader = new SyntheticClassLoader(BootBenchmark.class.getClassLoader(), bytecode);
+        beanClasses = new Class<?>[classes];
+        for (int i = 0; i < classes; i++) {
+            beanClasses[i] = classLoader.loadClass(SyntheticClassLoader.getClassName(i));
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void shutdown() {
+        if (container != null) {
+            container.shutdown();
+            container = null;
+        }
+    }
+
+    @Benchmark
+    public WeldContainer boot() {
+        container = new Weld().disableDiscovery().setClassLoader(classLoader).beanClasses(beanClasses).initialize();
+        return container;
+    }
+
+}
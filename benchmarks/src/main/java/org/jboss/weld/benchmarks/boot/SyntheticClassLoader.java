@@ -0,0 +1,91 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks.boot;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+
+import org.jboss.classfilewriter.AccessFlag;
+import org.jboss.classfilewriter.ClassFile;
+import org.jboss.classfilewriter.ClassField;
+import org.jboss.classfilewriter.ClassMethod;
+import org.jboss.classfilewriter.annotations.ClassAnnotation;
+import org.jboss.classfilewriter.code.CodeAttribute;
+import org.jboss.classfilewriter.util.DescriptorUtils;
+
+/**
+ * Defines synthetic bean classes. Each class is a {@link Dependent} bean which injects the previously generated one so that the deployment also has to
+ * validate the given number of injection points.
+ */
+class SyntheticClassLoader extends ClassLoader {
+
+    private static final String INIT_METHOD_NAME = "<init>";
+
+    private static final String PACKAGE = SyntheticClassLoader.class.getPackage().getName() + ".synthetic.";
+
+    private final Map<String, byte[]> classes;
+
+    SyntheticClassLoader(ClassLoader parent, Map<String, byte[]> classes) {
+        super(parent);
+        this.classes = classes;
+    }
+
+    static String getClassName(int index) {
+        return PACKAGE + "Bean" + index;
+    }
+
+    /**
+     *
+     * @param count the number of classes to generate
+     * @return the bytecode of the generated classes, keyed by the class name
+     */
+    static Map<String, byte[]> generate(int count) {
+        Map<String, byte[]> classes = new HashMap<String, byte[]>();
+        for (int i = 0; i < count; i++) {
+            String name = getClassName(i);
+            ClassFile file = new ClassFile(name, AccessFlag.of(AccessFlag.PUBLIC, AccessFlag.SUPER), Object.class.getName());
+            file.getRuntimeVisibleAnnotationsAttribute()
+                    .addAnnotation(new ClassAnnotation(file.getConstPool(), Dependent.class.getName(), Collections.emptyList()));
+            if (i > 0) {
+                ClassField field = file.addField(AccessFlag.PRIVATE, "previous", DescriptorUtils.makeDescriptor(getClassName(i - 1)));
+                field.getRuntimeVisibleAnnotationsAttribute()
+                        .addAnnotation(new ClassAnnotation(file.getConstPool(), Inject.class.getName(), Collections.emptyList()));
+            }
+            ClassMethod constructor = file.addMethod(AccessFlag.PUBLIC, INIT_METHOD_NAME, "V");
+            CodeAttribute b = constructor.getCodeAttribute();
+            b.aload(0);
+            b.invokespecial(Object.class.getName(), INIT_METHOD_NAME, "()V");
+            b.returnInstruction();
+            classes.put(name, file.toBytecode());
+        }
+        return classes;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        byte[] bytecode = classes.get(name);
+        if (bytecode == null) {
+            throw new ClassNotFoundException(name);
+        }
+        return defineClass(name, bytecode, 0, bytecode.length);
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks.context;
+
+import static org.jboss.weld.benchmarks.Benchmarks.MEASUREMENT_ITERATIONS;
+import static org.jboss.weld.benchmarks.Benchmarks.WARMUP_ITERATIONS;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.context.beanstore.LockStore;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link LockStore} with the previous implementation which synchronizes on the whole store. Multiple threads lock one of the given number of beans,
+ * i.e. if there is only one bean all the threads contend on the same lock.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = WARMUP_ITERATIONS)
+@Measurement(iterations = MEASUREMENT_ITERATIONS)
+@Threads(Threads.MAX)
+@Fork(1)
+public class LockStoreBenchmark {
+
+    @Param({ "1", "100" })
+    private int beans;
+
+    private BeanIdentifier[] ids;
+
+    private LockStore lockStore;
+
+    private SynchronizedLockStore synchronizedLockStore;
+
+    @Setup
+    public void setup() {
+        ids = new BeanIdentifier[beans];
+        for (int i = 0; i < beans; i++) {
+            ids[i] = new StringBeanIdentifier("bean" + i);
+        }
+        lockStore = new LockStore();
+        synchronizedLockStore = new SynchronizedLockStore();
+    }
+
+    @Benchmark
+    public void lockStore() {
+        lockStore.lock(nextId()).unlock();
+    }
+
+    @Benchmark
+    public void synchronizedLockStore() {
+        synchronizedLockStore.lock(nextId()).unlock();
+    }
+
+    private BeanIdentifier nextId() {
+        return ids[ThreadLocalRandom.current().nextInt(beans)];
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks.context;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jboss.weld.context.beanstore.LockStore;
+import org.jboss.weld.context.beanstore.LockedBean;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+
+/**
+ * The previous implementation of {@link LockStore} which synchronizes on the whole store. Only used as a baseline.
+ */
+class SynchronizedLockStore {
+
+    private final Map<BeanIdentifier, ReferenceCountedLock> locks = new HashMap<BeanIdentifier, ReferenceCountedLock>();
+
+    LockedBean lock(BeanIdentifier id) {
+        ReferenceCountedLock refLock;
+        synchronized (this) {
+            refLock = locks.get(id);
+            if (refLock != null) {
+                refLock.count++;
+            } else {
+                refLock = new ReferenceCountedLock(id);
+                locks.put(id, refLock);
+            }
+        }
+        refLock.lock.lock();
+        return refLock;
+    }
+
+    private class ReferenceCountedLock implements LockedBean {
+
+        private final BeanIdentifier key;
+        private int count = 1;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private ReferenceCountedLock(BeanIdentifier key) {
+            this.key = key;
+        }
+
+        public void unlock() {
+            synchronized (SynchronizedLockStore.this) {
+                lock.unlock();
+                --count;
+                if (count == 0) {
+                    locks.remove(key);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks.dependent;
+
+import static org.jboss.weld.benchmarks.Benchmarks.MEASUREMENT_ITERATIONS;
+import static org.jboss.weld.benchmarks.Benchmarks.WARMUP_ITERATIONS;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.inject.Instance;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the creation and destruction of a {@link javax.enterprise.context.Dependent} bean with a deep injection graph. Each node injects two instances
+ * of the next node, i.e. a single {@link Node1} consists of 63 dependent instances.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = WARMUP_ITERATIONS)
+@Measurement(iterations = MEASUREMENT_ITERATIONS)
+@Fork(1)
+public class DependentCreationBenchmark {
+
+    private WeldContainer container;
+
+    private Instance<Node1> instance;
+
+    @Setup
+    public void setup() {
+        container = new Weld().disableDiscovery().beanClasses(Node1.class, Node2.class, Node3.class, Node4.class, Node5.class, Node6.class).initialize();
+        instance = container.select(Node1.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.shutdown();
+    }
+
+    @Benchmark
+    public Node1 createAndDestroy() {
+        Node1 node = instance.get();
+        instance.destroy(node);
+        return node;
+    }
+
+}
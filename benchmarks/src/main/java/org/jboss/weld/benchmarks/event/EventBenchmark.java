@@ -0,0 +1,86 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks.event;
+
+import static org.jboss.weld.benchmarks.Benchmarks.MEASUREMENT_ITERATIONS;
+import static org.jboss.weld.benchmarks.Benchmarks.WARMUP_ITERATIONS;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.event.Event;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Event#fire(Object)} and {@link Event#fireAsync(Object)} with the given number of synthetic observers. The asynchronous benchmark waits
+ * for the delivery to complete.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = WARMUP_ITERATIONS)
+@Measurement(iterations = MEASUREMENT_ITERATIONS)
+@Fork(1)
+public class EventBenchmark {
+
+    @Param({ "1", "10", "100" })
+    private int observers;
+
+    private WeldContainer container;
+
+    private Event<Payload> event;
+
+    @Setup
+    public void setup() {
+        // there is no beans.xml on the benchmark class path - with discovery disabled Weld SE refuses to start unless a synthetic bean archive is built,
+        // the observers themselves are added by the extension
+        container = new Weld().disableDiscovery().beanClasses(Payload.class).addExtension(new SyntheticObserversExtension(observers)).initialize();
+        event = container.event().select(Payload.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.shutdown();
+    }
+
+    @Benchmark
+    public void fire() {
+        event.fire(new Payload());
+    }
+
+    @Benchmark
+    public Payload fireAsync() throws InterruptedException, ExecutionException {
+        CompletionStage<Payload> stage = event.fireAsync(new Payload());
+        return stage.toCompletableFuture().get();
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks.event;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.AfterBeanDiscovery;
+import javax.enterprise.inject.spi.Extension;
+
+/**
+ * Registers the given number of synchronous and asynchronous observers of {@link Payload}.
+ */
+public class SyntheticObserversExtension implements Extension {
+
+    private final int observers;
+
+    private final LongAdder notifications = new LongAdder();
+
+    public SyntheticObserversExtension(int observers) {
+        this.observers = observers;
+    }
+
+    void registerObservers(@Observes AfterBeanDiscovery event) {
+        for (int i = 0; i < observers; i++) {
+            event.<Payload> addObserverMethod().beanClass(SyntheticObserversExtension.class).observedType(Payload.class)
+                    .notifyWith((ctx) -> notifications.increment());
+            event.<Payload> addObserverMethod().beanClass(SyntheticObserversExtension.class).observedType(Payload.class).async(true)
+                    .notifyWith((ctx) -> notifications.increment());
+        }
+    }
+
+    public long getNotifications() {
+        return notifications.sum();
+    }
+
+}
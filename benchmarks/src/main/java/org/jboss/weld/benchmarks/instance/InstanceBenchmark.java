@@ -0,0 +1,84 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks.instance;
+
+import static org.jboss.weld.benchmarks.Benchmarks.MEASUREMENT_ITERATIONS;
+import static org.jboss.weld.benchmarks.Benchmarks.WARMUP_ITERATIONS;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.inject.Instance;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the dynamic lookup of an {@link javax.enterprise.context.ApplicationScoped} bean through {@link Instance}, with and without a qualifier.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = WARMUP_ITERATIONS)
+@Measurement(iterations = MEASUREMENT_ITERATIONS)
+@Fork(1)
+public class InstanceBenchmark {
+
+    private WeldContainer container;
+
+    private Instance<Service> services;
+
+    private Instance<Object> instance;
+
+    @Setup
+    public void setup() {
+        container = new Weld().disableDiscovery().beanClasses(DefaultService.class, FastService.class).initialize();
+        services = container.select(Service.class);
+        instance = container.select(Object.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.shutdown();
+    }
+
+    @Benchmark
+    public Service get() {
+        return services.get();
+    }
+
+    @Benchmark
+    public Service selectGet() {
+        return instance.select(Service.class).get();
+    }
+
+    @Benchmark
+    public Service selectQualifiedGet() {
+        return instance.select(Service.class, Fast.Literal.INSTANCE).get();
+    }
+
+}
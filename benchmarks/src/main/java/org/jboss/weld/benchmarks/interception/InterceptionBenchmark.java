@@ -0,0 +1,91 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks.interception;
+
+import static org.jboss.weld.benchmarks.Benchmarks.MEASUREMENT_ITERATIONS;
+import static org.jboss.weld.benchmarks.Benchmarks.WARMUP_ITERATIONS;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares an invocation of an intercepted and a decorated method with an invocation of a plain method. All the beans are application scoped, i.e. each
+ * invocation goes through a client proxy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = WARMUP_ITERATIONS)
+@Measurement(iterations = MEASUREMENT_ITERATIONS)
+@Fork(1)
+public class InterceptionBenchmark {
+
+    private WeldContainer container;
+
+    private PlainCalculator plain;
+
+    private InterceptedCalculator intercepted;
+
+    private Calculator decorated;
+
+    private int x;
+
+    @Setup
+    public void setup() {
+        container = new Weld().disableDiscovery()
+                .beanClasses(PlainCalculator.class, InterceptedCalculator.class, DecoratedCalculator.class, MeasuredInterceptor.class,
+                        CalculatorDecorator.class)
+                .initialize();
+        plain = container.select(PlainCalculator.class).get();
+        intercepted = container.select(InterceptedCalculator.class).get();
+        decorated = container.select(Calculator.class).get();
+    }
+
+    @TearDown
+    public void tearDown() {
+        container.shutdown();
+    }
+
+    @Benchmark
+    public int plain() {
+        return plain.add(x++, 1);
+    }
+
+    @Benchmark
+    public int intercepted() {
+        return intercepted.add(x++, 1);
+    }
+
+    @Benchmark
+    public int decorated() {
+        return decorated.add(x++, 1);
+    }
+
+}
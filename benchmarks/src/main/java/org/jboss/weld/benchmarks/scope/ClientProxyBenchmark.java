@@ -0,0 +1,117 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.benchmarks.scope;
+
+import static org.jboss.weld.benchmarks.Benchmarks.MEASUREMENT_ITERATIONS;
+import static org.jboss.weld.benchmarks.Benchmarks.WARMUP_ITERATIONS;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.control.RequestContextController;
+
+import org.jboss.weld.context.bound.BoundConversationContext;
+import org.jboss.weld.context.bound.BoundLiteral;
+import org.jboss.weld.context.bound.BoundSessionContext;
+import org.jboss.weld.context.bound.MutableBoundRequest;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures an invocation of a client proxy of a bean with the given built-in normal scope. The contexts are activated for the whole trial so that only the
+ * lookup of the contextual instance and the invocation itself is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = WARMUP_ITERATIONS)
+@Measurement(iterations = MEASUREMENT_ITERATIONS)
+@Fork(1)
+public class ClientProxyBenchmark {
+
+    @Param({ "request", "session", "conversation", "application" })
+    private String scope;
+
+    private WeldContainer container;
+
+    private RequestContextController requestContextController;
+
+    private BoundSessionContext sessionContext;
+
+    private BoundConversationContext conversationContext;
+
+    private Counter counter;
+
+    @Setup
+    public void setup() {
+        container = new Weld().disableDiscovery()
+                .beanClasses(RequestScopedCounter.class, SessionScopedCounter.class, ConversationScopedCounter.class, ApplicationScopedCounter.class)
+                .initialize();
+        requestContextController = container.select(RequestContextController.class).get();
+        requestContextController.activate();
+        Map<String, Object> sessionMap = new HashMap<String, Object>();
+        sessionContext = container.select(BoundSessionContext.class, BoundLiteral.INSTANCE).get();
+        sessionContext.associate(sessionMap);
+        sessionContext.activate();
+        conversationContext = container.select(BoundConversationContext.class, BoundLiteral.INSTANCE).get();
+        conversationContext.associate(new MutableBoundRequest(new HashMap<String, Object>(), sessionMap));
+        conversationContext.activate();
+        counter = container.select(getBeanClass()).get();
+    }
+
+    @TearDown
+    public void tearDown() {
+        conversationContext.deactivate();
+        sessionContext.deactivate();
+        requestContextController.deactivate();
+        container.shutdown();
+    }
+
+    @Benchmark
+    public int invoke() {
+        return counter.increment();
+    }
+
+    private Class<? extends Counter> getBeanClass() {
+        switch (scope) {
+            case "request":
+                return RequestScopedCounter.class;
+            case "session":
+                return SessionScopedCounter.class;
+            case "conversation":
+                return ConversationScopedCounter.class;
+            case "application":
+                return ApplicationScopedCounter.class;
+            default:
+                throw new IllegalArgumentException(scope);
+        }
+    }
+
+}
@@ -0,0 +1,303 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc. and/or its affiliates, and individual
+ * contributors by the @authors tag. See the copyright.txt in the
+ * distribution for a full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.logging.Logger;
+import org.jboss.weld.environment.logging.CommonLogger;
+import org.jboss.weld.environment.util.ByteBufferInputStream;
+
+/**
+ * An on-disk cache of the bean archive scanning results. For each bean archive reference it records the stamp of the underlying file, the names of all the
+ * classes found and, once known, the names of the classes with a bean defining annotation. If the stamp of an archive did not change since the index was
+ * written, neither the archive entries nor the classes need to be read again.
+ * <p>
+ * The stamp of a JAR file consists of its size and last modification time. The stamp of a directory consists of the number of files and the latest
+ * modification time found in the directory tree, i.e. the tree is still walked but the classes are not loaded again.
+ * </p>
+ * <p>
+ * The bean classes recorded depend on the set of bean defining annotations. If the set changes, e.g. an extension registering a new bean defining annotation
+ * is added, the bean classes are ignored and found again. A class may also become a bean class because of a stereotype declared in another bean archive.
+ * Therefore, the bean classes of all the archives are found again if any bean archive was added, removed or changed.
+ * </p>
+ * <p>
+ * Note that a change which preserves both the number of files and the modification times in a directory tree (e.g. a copy preserving timestamps) is not
+ * detected.
+ * </p>
+ * <p>
+ * Only the entries used during the last discovery are written, i.e. class path entries which are no longer used are dropped. The index is written to a
+ * temporary file first and then moved to the target location so that a concurrently starting process never reads a partially written index.
+ * </p>
+ *
+ * @see FileSystemBeanArchiveHandler
+ * @see ReflectionDiscoveryStrategy
+ */
+public class BeanArchiveIndexCache {
+
+    static final String ENTRY_ATTRIBUTE_NAME = BeanArchiveIndexCache.class.getName() + ".entry";
+
+    private static final Logger logger = Logger.getLogger(BeanArchiveIndexCache.class);
+
+    private static final int MAGIC = 0x57454C44;
+
+    private static final int VERSION = 1;
+
+    private static final int UNKNOWN = -1;
+
+    private final File file;
+
+    private final String beanDefiningAnnotations;
+
+    private final Map<String, Entry> loadedEntries;
+
+    private final Map<String, Entry> usedEntries;
+
+    private boolean modified;
+
+    private boolean archivesChanged;
+
+    private BeanArchiveIndexCache(File file, String beanDefiningAnnotations, Map<String, Entry> loadedEntries, boolean modified) {
+        this.file = file;
+        this.beanDefiningAnnotations = beanDefiningAnnotations;
+        this.loadedEntries = loadedEntries;
+        this.usedEntries = new HashMap<>();
+        this.modified = modified;
+    }
+
+    /**
+     * Read the index from the given file. If the file does not exist or cannot be read an empty index is returned.
+     *
+     * @param file
+     * @param beanDefiningAnnotations
+     * @return the index
+     */
+    public static BeanArchiveIndexCache load(File file, Set<Class<? extends Annotation>> beanDefiningAnnotations) {
+        String beanDefiningAnnotationsKey = toKey(beanDefiningAnnotations);
+        if (!file.isFile()) {
+            logger.debugv("Bean archive index {0} not found", file);
+            return new BeanArchiveIndexCache(file, beanDefiningAnnotationsKey, Collections.<String, Entry> emptyMap(), true);
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            DataInputStream in = new DataInputStream(new ByteBufferInputStream(channel.map(MapMode.READ_ONLY, 0, channel.size())));
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Unsupported index format");
+            }
+            // Bean classes are only valid for the same set of bean defining annotations
+            boolean beanClassesValid = beanDefiningAnnotationsKey.equals(in.readUTF());
+            int size = in.readInt();
+            Map<String, Entry> entries = new HashMap<>(size);
+            for (int i = 0; i < size; i++) {
+                String ref = in.readUTF();
+                long length = in.readLong();
+                long lastModified = in.readLong();
+                Set<String> classes = readClasses(in);
+                Set<String> beanClasses = readClasses(in);
+                entries.put(ref, new Entry(length, lastModified, classes, beanClassesValid ? beanClasses : null));
+            }
+            logger.debugv("Bean archive index {0} loaded: {1} entries", file, size);
+            return new BeanArchiveIndexCache(file, beanDefiningAnnotationsKey, entries, !beanClassesValid);
+        } catch (IOException | RuntimeException e) {
+            CommonLogger.LOG.cannotReadBeanArchiveIndex(file, e);
+            return new BeanArchiveIndexCache(file, beanDefiningAnnotationsKey, Collections.<String, Entry> emptyMap(), true);
+        }
+    }
+
+    /**
+     *
+     * @param beanArchiveRef
+     * @param length
+     * @param lastModified
+     * @return the entry for the given bean archive reference if the stamp did not change, <code>null</code> otherwise
+     */
+    Entry get(String beanArchiveRef, long length, long lastModified) {
+        Entry entry = loadedEntries.get(beanArchiveRef);
+        if (entry == null || entry.length != length || entry.lastModified != lastModified) {
+            archivesChanged = true;
+            return null;
+        }
+        usedEntries.put(beanArchiveRef, entry);
+        return entry;
+    }
+
+    /**
+     *
+     * @param beanArchiveRef
+     * @param length
+     * @param lastModified
+     * @param classes
+     * @return a new entry for the given bean archive reference
+     */
+    Entry put(String beanArchiveRef, long length, long lastModified, Set<String> classes) {
+        Entry entry = new Entry(length, lastModified, new HashSet<>(classes), null);
+        usedEntries.put(beanArchiveRef, entry);
+        modified = true;
+        archivesChanged = true;
+        return entry;
+    }
+
+    /**
+     * The bean classes are only valid if no bean archive was added, removed or changed. This method should only be called once all the bean archive
+     * references were handled.
+     *
+     * @param entry
+     * @return the classes with a bean defining annotation or <code>null</code> if not known or no longer valid
+     */
+    Set<String> getBeanClasses(Entry entry) {
+        if (archivesChanged || usedEntries.size() != loadedEntries.size()) {
+            return null;
+        }
+        return entry.beanClasses;
+    }
+
+    /**
+     *
+     * @param entry
+     * @param beanClasses the classes with a bean defining annotation
+     */
+    void setBeanClasses(Entry entry, Set<String> beanClasses) {
+        entry.beanClasses = new HashSet<>(beanClasses);
+        modified = true;
+    }
+
+    /**
+     * Write the index if anything changed since it was loaded.
+     */
+    public void store() {
+        if (!modified && usedEntries.size() == loadedEntries.size()) {
+            return;
+        }
+        Path target = file.toPath().toAbsolutePath();
+        Path tmp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), null);
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeUTF(beanDefiningAnnotations);
+                out.writeInt(usedEntries.size());
+                for (Map.Entry<String, Entry> mapEntry : usedEntries.entrySet()) {
+                    Entry entry = mapEntry.getValue();
+                    out.writeUTF(mapEntry.getKey());
+                    out.writeLong(entry.length);
+                    out.writeLong(entry.lastModified);
+                    writeClasses(out, entry.classes);
+                    writeClasses(out, entry.beanClasses);
+                }
+            }
+            try {
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            modified = false;
+            logger.debugv("Bean archive index {0} written: {1} entries", file, usedEntries.size());
+        } catch (IOException e) {
+            CommonLogger.LOG.cannotWriteBeanArchiveIndex(file, e);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                    // Nothing to do
+                }
+            }
+        }
+    }
+
+    private static String toKey(Set<Class<? extends Annotation>> beanDefiningAnnotations) {
+        List<String> names = new ArrayList<>(beanDefiningAnnotations.size());
+        for (Class<? extends Annotation> annotation : beanDefiningAnnotations) {
+            names.add(annotation.getName());
+        }
+        Collections.sort(names);
+        return names.toString();
+    }
+
+    private static Set<String> readClasses(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        if (size == UNKNOWN) {
+            return null;
+        }
+        Set<String> classes = new HashSet<>(size);
+        for (int i = 0; i < size; i++) {
+            classes.add(in.readUTF());
+        }
+        return classes;
+    }
+
+    private static void writeClasses(DataOutputStream out, Set<String> classes) throws IOException {
+        if (classes == null) {
+            out.writeInt(UNKNOWN);
+            return;
+        }
+        out.writeInt(classes.size());
+        for (String className : classes) {
+            out.writeUTF(className);
+        }
+    }
+
+    /**
+     * The cached scanning results of a single bean archive.
+     */
+    static final class Entry {
+
+        private final long length;
+
+        private final long lastModified;
+
+        private final Set<String> classes;
+
+        private Set<String> beanClasses;
+
+        private Entry(long length, long lastModified, Set<String> classes, Set<String> beanClasses) {
+            this.length = length;
+            this.lastModified = lastModified;
+            this.classes = classes;
+            this.beanClasses = beanClasses;
+        }
+
+        /**
+         *
+         * @return all the classes found in the bean archive
+         */
+        Set<String> getClasses() {
+            return classes;
+        }
+
+    }
+
+}
@@ -23,9 +23,12 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URL;
 import java.security.AccessController;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -38,11 +41,13 @@ import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.environment.deployment.AbstractWeldDeployment;
 import org.jboss.weld.environment.logging.CommonLogger;
 import org.jboss.weld.security.GetSystemPropertyAction;
-import org.jboss.weld.util.collections.ImmutableList;
 import org.jboss.weld.util.collections.ImmutableSet;
 
 /**
  * Scans all the class path entries. Implicit bean archives which don't contain a beans.xml file are also supported.
+ * <p>
+ * The entries are scanned concurrently using the common {@link java.util.concurrent.ForkJoinPool} unless disabled or a security manager is installed (the
+ * bootstrap executor services are not available at this point). The results are always returned in the class path order.
  *
  * @author Martin Kouba
  * @see ConfigurationKey#IMPLICIT_SCAN
@@ -59,12 +64,24 @@ public class ClassPathBeanArchiveScanner extends AbstractBeanArchiveScanner {
 
     private static final String BEANS_XML_NOT_FOUND_MESSAGE = "beans.xml not found in {0}";
 
+    private final boolean concurrent;
+
     /**
      *
      * @param bootstrap
      */
     public ClassPathBeanArchiveScanner(Bootstrap bootstrap) {
+        this(bootstrap, true);
+    }
+
+    /**
+     *
+     * @param bootstrap
+     * @param concurrent if set to <code>true</code> the class path entries are scanned concurrently
+     */
+    public ClassPathBeanArchiveScanner(Bootstrap bootstrap, boolean concurrent) {
         super(bootstrap);
+        this.concurrent = concurrent;
     }
 
     @Override
@@ -73,50 +90,61 @@ public class ClassPathBeanArchiveScanner extends AbstractBeanArchiveScanner {
         if (javaClassPath == null) {
             throw CommonLogger.LOG.cannotReadJavaClassPathSystemProperty();
         }
-        ImmutableList.Builder<ScanResult> results = ImmutableList.builder();
         Set<String> entries = ImmutableSet.of(javaClassPath.split(Pattern.quote(File.pathSeparator)));
         logger.debugv("Scanning class path entries: {0}", entries);
+        List<String> paths = new ArrayList<>(entries.size());
         for (String entry : entries) {
-            if (entry == null || entry.isEmpty()) {
-                continue;
-            }
-            File entryFile = new File(entry);
-            if (!entryFile.canRead()) {
-                throw CommonLogger.LOG.cannotReadClassPathEntry(entryFile);
+            if (entry != null && !entry.isEmpty()) {
+                paths.add(entry);
             }
-            try {
-                if (entryFile.isDirectory()) {
-                    scanDirectory(entryFile, results);
-                } else {
-                    scanJarFile(entryFile, results);
-                }
-            } catch (IOException e) {
-                throw CommonLogger.LOG.cannotScanClassPathEntry(entryFile, e);
+        }
+        // An ordered stream keeps the class path order even if processed concurrently
+        return (isConcurrent(paths) ? paths.parallelStream() : paths.stream()).map(this::scanEntry).filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private boolean isConcurrent(List<String> paths) {
+        return concurrent && paths.size() > 1 && System.getSecurityManager() == null;
+    }
+
+    private ScanResult scanEntry(String entry) {
+        File entryFile = new File(entry);
+        if (!entryFile.canRead()) {
+            throw CommonLogger.LOG.cannotReadClassPathEntry(entryFile);
+        }
+        try {
+            if (entryFile.isDirectory()) {
+                return scanDirectory(entryFile);
+            } else {
+                return scanJarFile(entryFile);
             }
+        } catch (IOException e) {
+            throw CommonLogger.LOG.cannotScanClassPathEntry(entryFile, e);
         }
-        return results.build();
     }
 
-    private void scanDirectory(File entryDirectory, ImmutableList.Builder<ScanResult> results) throws IOException {
+    private ScanResult scanDirectory(File entryDirectory) throws IOException {
         // First try to find beans.xml
         File beansXmlFile = new File(entryDirectory, AbstractWeldDeployment.BEANS_XML);
         if (beansXmlFile.canRead()) {
             logger.debugv(BEANS_XML_FOUND_MESSAGE, entryDirectory);
             final BeansXml beansXml = parseBeansXml(beansXmlFile.toURI().toURL());
             if (accept(beansXml)) {
-                results.add(new ScanResult(beansXml, entryDirectory.getPath()));
+                return new ScanResult(beansXml, entryDirectory.getPath());
             }
         } else {
             // No beans.xml found - check whether the bean archive contains an extension
             logger.debugv(BEANS_XML_NOT_FOUND_MESSAGE, entryDirectory);
             File extensionFile = new File(entryDirectory, EXTENSION_FILE);
             if (!extensionFile.canRead()) {
-                results.add(new ScanResult(null, entryDirectory.getPath()));
+                return new ScanResult(null, entryDirectory.getPath());
             }
         }
+        return null;
     }
 
-    private void scanJarFile(File entryFile, ImmutableList.Builder<ScanResult> results) throws IOException {
+    private ScanResult scanJarFile(File entryFile) throws IOException {
+        // ZipFile only reads the central directory, no entry is decompressed unless a beans.xml is found
         try (ZipFile zip = new ZipFile(entryFile)) {
             ZipEntry beansXmlEntry = zip.getEntry(AbstractWeldDeployment.BEANS_XML);
             if (beansXmlEntry != null) {
@@ -124,16 +152,17 @@ public class ClassPathBeanArchiveScanner extends AbstractBeanArchiveScanner {
                 BeansXml beansXml = parseBeansXml(
                         new URL(PROCOTOL_JAR + ":" + entryFile.toURI().toURL().toExternalForm() + JAR_URL_SEPARATOR + beansXmlEntry.getName()));
                 if (accept(beansXml)) {
-                    results.add(new ScanResult(beansXml, entryFile.getPath()));
+                    return new ScanResult(beansXml, entryFile.getPath());
                 }
             } else {
                 // No beans.xml found - check whether the bean archive contains an extension
                 if (zip.getEntry(EXTENSION_FILE) == null) {
                     logger.debugv(BEANS_XML_NOT_FOUND_MESSAGE, entryFile);
-                    results.add(new ScanResult(null, entryFile.getPath()));
+                    return new ScanResult(null, entryFile.getPath());
                 }
             }
         }
+        return null;
     }
 
 }
@@ -23,6 +23,12 @@ import java.io.File;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumSet;
 import java.util.Enumeration;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
@@ -45,6 +51,16 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
 
     public static final String CLASS_FILE_EXTENSION = Files.CLASS_FILE_EXTENSION;
 
+    private BeanArchiveIndexCache indexCache;
+
+    /**
+     *
+     * @param indexCache the index used to skip scanning of unchanged files, may be <code>null</code>
+     */
+    public void setIndexCache(BeanArchiveIndexCache indexCache) {
+        this.indexCache = indexCache;
+    }
+
     @Override
     public BeanArchiveBuilder handle(String path) {
 
@@ -67,6 +83,28 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
 
         try {
             log.debugv("Handle path: {0}", path);
+            long length = 0;
+            long lastModified = 0;
+            if (indexCache != null) {
+                if (file.isDirectory()) {
+                    long[] stamp = new long[2];
+                    stampDirectory(file, stamp);
+                    length = stamp[0];
+                    lastModified = stamp[1];
+                } else {
+                    length = file.length();
+                    lastModified = file.lastModified();
+                }
+                BeanArchiveIndexCache.Entry entry = indexCache.get(path, length, lastModified);
+                if (entry != null) {
+                    log.debugv("Classes of {0} found in the bean archive index", path);
+                    for (String className : entry.getClasses()) {
+                        builder.addClass(className);
+                    }
+                    builder.setAttribute(BeanArchiveIndexCache.ENTRY_ATTRIBUTE_NAME, entry);
+                    return builder;
+                }
+            }
             if (file.isDirectory()) {
                 handleDirectory(new DirectoryEntry().setFile(file), builder);
             } else {
@@ -76,6 +114,9 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
                     handleFile(file, builder);
                 }
             }
+            if (indexCache != null) {
+                builder.setAttribute(BeanArchiveIndexCache.ENTRY_ATTRIBUTE_NAME, indexCache.put(path, length, lastModified, builder.getClasses()));
+            }
         } catch (Exception e) {
             CommonLogger.LOG.cannotHandleFilePath(file, path, e);
             return null;
@@ -96,22 +137,50 @@ public class FileSystemBeanArchiveHandler implements BeanArchiveHandler {
 
     protected void handleDirectory(DirectoryEntry entry, BeanArchiveBuilder builder) throws IOException {
         log.debugv("Handle directory: {0}", entry.getFile());
-        File[] files = entry.getFile().listFiles();
-        String parentPath = entry.getName();
-        for (File child : files) {
-            if(entry.getName() != null ) {
-                entry.setPath(entry.getName() + "/" + child.getName());
-            } else {
-                entry.setPath(child.getName());
+        final Path root = entry.getFile().toPath();
+        // The attributes are read together with the directory listing, i.e. no additional stat call per file
+        walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                add(entry.setPath(getEntryName(root, file)).setFile(file.toFile()), builder);
+                return FileVisitResult.CONTINUE;
             }
-            entry.setFile(child);
-            if (child.isDirectory()) {
-                handleDirectory(entry, builder);
-            } else {
-                add(entry, builder);
+        });
+    }
+
+    /**
+     * Count the files and find the latest modification time in the given directory tree. Adding, removing or renaming a file updates the modification time
+     * of its directory.
+     */
+    private void stampDirectory(File directory, long[] stamp) throws IOException {
+        final Path root = directory.toPath();
+        walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                if (!dir.equals(root)) {
+                    stamp[0]++;
+                }
+                stamp[1] = Math.max(stamp[1], attrs.lastModifiedTime().toMillis());
+                return FileVisitResult.CONTINUE;
             }
-            entry.setPath(parentPath);
-        }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                stamp[0]++;
+                stamp[1] = Math.max(stamp[1], attrs.lastModifiedTime().toMillis());
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static void walkFileTree(Path root, SimpleFileVisitor<Path> visitor) throws IOException {
+        // Symbolic links are followed, as File.isDirectory() does
+        java.nio.file.Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, visitor);
+    }
+
+    private static String getEntryName(Path root, Path file) {
+        String name = root.relativize(file).toString();
+        return File.separatorChar == '/' ? name : name.replace(File.separatorChar, '/');
     }
 
     protected void handleNestedFile(String path, File file, BeanArchiveBuilder builder) throws IOException {
@@ -18,6 +18,7 @@ package org.jboss.weld.environment.deployment.discovery;
 
 import static org.jboss.weld.environment.util.Reflections.hasBeanDefiningMetaAnnotationSpecified;
 
+import java.io.File;
 import java.lang.annotation.Annotation;
 import java.util.Iterator;
 import java.util.Set;
@@ -39,14 +40,36 @@ public class ReflectionDiscoveryStrategy extends AbstractDiscoveryStrategy {
 
     private final AtomicBoolean annotatedDiscoveryProcessed;
 
+    private final FileSystemBeanArchiveHandler fileSystemHandler;
+
+    private BeanArchiveIndexCache indexCache;
+
     public ReflectionDiscoveryStrategy(ResourceLoader resourceLoader, Bootstrap bootstrap, Set<Class<? extends Annotation>> initialBeanDefiningAnnotations) {
         super(resourceLoader, bootstrap, initialBeanDefiningAnnotations);
         this.annotatedDiscoveryProcessed = new AtomicBoolean(false);
-        registerHandler(new FileSystemBeanArchiveHandler());
+        this.fileSystemHandler = new FileSystemBeanArchiveHandler();
+        registerHandler(fileSystemHandler);
+    }
+
+    /**
+     * Use the given file as a persistent index of the scanning results. Unchanged bean archives are neither scanned nor their classes loaded again.
+     *
+     * @param indexFile
+     * @see BeanArchiveIndexCache
+     */
+    public void setIndexFile(File indexFile) {
+        this.indexCache = BeanArchiveIndexCache.load(indexFile, initialBeanDefiningAnnotations);
+        fileSystemHandler.setIndexCache(indexCache);
     }
 
     @Override
     protected WeldBeanDeploymentArchive processAnnotatedDiscovery(BeanArchiveBuilder builder) {
+        BeanArchiveIndexCache.Entry entry = (BeanArchiveIndexCache.Entry) builder.getAttribute(BeanArchiveIndexCache.ENTRY_ATTRIBUTE_NAME);
+        Set<String> beanClasses = entry != null ? indexCache.getBeanClasses(entry) : null;
+        if (beanClasses != null) {
+            builder.getClasses().retainAll(beanClasses);
+            return builder.build();
+        }
         if (annotatedDiscoveryProcessed.compareAndSet(false, true)) {
             CommonLogger.LOG.reflectionFallback();
         }
@@ -58,9 +81,19 @@ public class ReflectionDiscoveryStrategy extends AbstractDiscoveryStrategy {
                 classIterator.remove();
             }
         }
+        if (entry != null) {
+            indexCache.setBeanClasses(entry, builder.getClasses());
+        }
         return builder.build();
     }
 
+    @Override
+    protected void afterDiscovery(Set<WeldBeanDeploymentArchive> archives) {
+        if (indexCache != null) {
+            indexCache.store();
+        }
+    }
+
     private boolean hasBeanDefiningAnnotation(Class<?> clazz, Set<Class<? extends Annotation>> initialBeanDefiningAnnotations) {
         for (Class<? extends Annotation> beanDefiningAnnotation : initialBeanDefiningAnnotations) {
             if (clazz.isAnnotationPresent(beanDefiningAnnotation)) {
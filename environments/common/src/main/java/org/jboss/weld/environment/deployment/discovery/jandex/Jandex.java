@@ -15,6 +15,11 @@ public class Jandex {
 
     public static final String INDEX_ATTRIBUTE_NAME = JandexDiscoveryStrategy.class.getPackage().getName() + ".index";
 
+    /**
+     * The location of a prebuilt Jandex index within a bean archive.
+     */
+    public static final String INDEX_FILE = "META-INF/jandex.idx";
+
     private static final String JANDEX_INDEX_CLASS_NAME = "org.jboss.jandex.Index";
     public static final String JANDEX_DISCOVERY_STRATEGY_CLASS_NAME = "org.jboss.weld.environment.deployment.discovery.jandex.JandexDiscoveryStrategy";
 
@@ -18,6 +18,9 @@ package org.jboss.weld.environment.deployment.discovery.jandex;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.StandardOpenOption;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -29,6 +32,7 @@ import org.jboss.logging.Logger;
 import org.jboss.weld.environment.deployment.discovery.BeanArchiveBuilder;
 import org.jboss.weld.environment.deployment.discovery.BeanArchiveHandler;
 import org.jboss.weld.environment.logging.CommonLogger;
+import org.jboss.weld.environment.util.ByteBufferInputStream;
 import org.jboss.weld.util.Preconditions;
 
 /**
@@ -36,6 +40,11 @@ import org.jboss.weld.util.Preconditions;
  * {@link JandexIndexBeanArchiveHandler#handle(String)} method will return null.
  *
  * <p>
+ * Both JAR files and directories are supported. The index file of a directory is memory-mapped so that the classes do not have to be enumerated nor
+ * indexed one by one.
+ * </p>
+ *
+ * <p>
  * The class is not thread-safe and should only be used by a single thread.
  * </p>
  *
@@ -45,13 +54,10 @@ public class JandexIndexBeanArchiveHandler implements BeanArchiveHandler {
 
     private static final Logger logger = Logger.getLogger(JandexIndexBeanArchiveHandler.class);
 
-    private static final String JANDEX_INDEX_NAME = "META-INF/jandex.idx";
-
     @Override
     public BeanArchiveBuilder handle(String path) {
         File beanArchiveFile = new File(path);
-        if (!beanArchiveFile.canRead() || beanArchiveFile.isDirectory()) {
-            // Currently only JAR files are supported
+        if (!beanArchiveFile.canRead()) {
             return null;
         }
         Index index = getIndex(beanArchiveFile);
@@ -67,12 +73,8 @@ public class JandexIndexBeanArchiveHandler implements BeanArchiveHandler {
         Preconditions.checkArgumentNotNull(beanArchiveFile, "beanArchiveFile");
         logger.debugv("Try to get Jandex index for: {0}", beanArchiveFile);
         Index index = null;
-        try (ZipFile zip = new ZipFile(beanArchiveFile)) {
-            // Open the bean archive and try to find the index file
-            ZipEntry entry = zip.getEntry(JANDEX_INDEX_NAME);
-            if (entry != null) {
-                index = new IndexReader(zip.getInputStream(entry)).read();
-            }
+        try {
+            index = beanArchiveFile.isDirectory() ? getDirectoryIndex(beanArchiveFile) : getArchiveIndex(beanArchiveFile);
         } catch (IllegalArgumentException e) {
             CommonLogger.LOG.warnv("Jandex index is not valid: {0}", beanArchiveFile);
         } catch (UnsupportedVersion e) {
@@ -85,6 +87,25 @@ public class JandexIndexBeanArchiveHandler implements BeanArchiveHandler {
         return index;
     }
 
+    private Index getArchiveIndex(File beanArchiveFile) throws IOException {
+        try (ZipFile zip = new ZipFile(beanArchiveFile)) {
+            // Open the bean archive and try to find the index file
+            ZipEntry entry = zip.getEntry(Jandex.INDEX_FILE);
+            return entry != null ? new IndexReader(zip.getInputStream(entry)).read() : null;
+        }
+    }
+
+    private Index getDirectoryIndex(File beanArchiveDirectory) throws IOException {
+        File indexFile = new File(beanArchiveDirectory, Jandex.INDEX_FILE);
+        if (!indexFile.isFile()) {
+            return null;
+        }
+        // Map the index file instead of copying it through a stream buffer
+        try (FileChannel channel = FileChannel.open(indexFile.toPath(), StandardOpenOption.READ)) {
+            return new IndexReader(new ByteBufferInputStream(channel.map(MapMode.READ_ONLY, 0, channel.size()))).read();
+        }
+    }
+
     private void handleArchiveByIndex(Index index, BeanArchiveBuilder builder) {
         for (ClassInfo classInfo : index.getKnownClasses()) {
             builder.addClass(classInfo.name().toString());
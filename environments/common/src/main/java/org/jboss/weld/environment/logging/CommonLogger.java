@@ -155,4 +155,12 @@ public interface CommonLogger extends WeldEnvironmentLogger {
     @Message(id = 39, value = "Bean archive reference {0} handled by {1}", format = Format.MESSAGE_FORMAT)
     void beanArchiveReferenceHandled(Object beanArchiveRef, Object handler);
 
+    @LogMessage(level = Level.WARN)
+    @Message(id = 40, value = "Unable to read the bean archive index {0}, the class path entries will be scanned", format = Format.MESSAGE_FORMAT)
+    void cannotReadBeanArchiveIndex(Object path, @Cause Throwable cause);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 41, value = "Unable to write the bean archive index {0}", format = Format.MESSAGE_FORMAT)
+    void cannotWriteBeanArchiveIndex(Object path, @Cause Throwable cause);
+
 }
@@ -0,0 +1,167 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BeanArchiveIndexCacheTest {
+
+    private static final Set<Class<? extends Annotation>> BEAN_DEFINING_ANNOTATIONS = Collections.emptySet();
+
+    private static final String ALPHA = "org.alpha.Alpha";
+
+    private static final String BRAVO = "org.bravo.Bravo";
+
+    private File root;
+
+    private File index;
+
+    private File directory;
+
+    private File jar;
+
+    @Before
+    public void init() throws IOException {
+        root = Files.createTempDirectory("weld-index").toFile();
+        index = new File(root, "index.bin");
+        directory = new File(root, "classes");
+        File alpha = new File(directory, "org/alpha/Alpha.class");
+        assertTrue(alpha.getParentFile().mkdirs());
+        assertTrue(alpha.createNewFile());
+        jar = new File(root, "bravo.jar");
+        writeJar(jar, "org/bravo/Bravo.class");
+    }
+
+    @After
+    public void cleanup() {
+        delete(root);
+    }
+
+    @Test
+    public void testUnchangedArchivesNotScanned() throws IOException {
+        assertEquals(Arrays.asList(Collections.singleton(ALPHA), Collections.singleton(BRAVO)), scan());
+
+        // Replace the contents but keep the stamps - the results are read from the index, i.e. the archives are not scanned again
+        File alpha = new File(directory, "org/alpha/Alpha.class");
+        long directoryLastModified = alpha.getParentFile().lastModified();
+        long alphaLastModified = alpha.lastModified();
+        assertTrue(alpha.renameTo(new File(directory, "org/alpha/Alphx.class")));
+        assertTrue(new File(directory, "org/alpha/Alphx.class").setLastModified(alphaLastModified));
+        assertTrue(alpha.getParentFile().setLastModified(directoryLastModified));
+        long jarLastModified = jar.lastModified();
+        long jarLength = jar.length();
+        writeJar(jar, "org/bravo/Bravx.class");
+        assertEquals(jarLength, jar.length());
+        assertTrue(jar.setLastModified(jarLastModified));
+
+        assertEquals(Arrays.asList(Collections.singleton(ALPHA), Collections.singleton(BRAVO)), scan());
+    }
+
+    @Test
+    public void testModifiedArchivesScannedAgain() throws IOException {
+        assertEquals(Arrays.asList(Collections.singleton(ALPHA), Collections.singleton(BRAVO)), scan());
+
+        assertTrue(new File(directory, "org/alpha/Charlie.class").createNewFile());
+        writeJar(jar, "org/bravo/Bravo.class", "org/bravo/Delta.class");
+        assertTrue(jar.setLastModified(jar.lastModified() - 10000));
+
+        assertEquals(Arrays.asList(new HashSet<>(Arrays.asList(ALPHA, "org.alpha.Charlie")), new HashSet<>(Arrays.asList(BRAVO, "org.bravo.Delta"))),
+                scan());
+    }
+
+    @Test
+    public void testBeanClassesInvalidatedIfAnyArchiveChanged() throws IOException {
+        BeanArchiveIndexCache cache = BeanArchiveIndexCache.load(index, BEAN_DEFINING_ANNOTATIONS);
+        BeanArchiveIndexCache.Entry directoryEntry = handle(cache, directory, jar);
+        cache.setBeanClasses(directoryEntry, Collections.singleton(ALPHA));
+        cache.store();
+
+        // Nothing changed - the bean classes are valid
+        cache = BeanArchiveIndexCache.load(index, BEAN_DEFINING_ANNOTATIONS);
+        directoryEntry = handle(cache, directory, jar);
+        assertEquals(Collections.singleton(ALPHA), cache.getBeanClasses(directoryEntry));
+
+        // The other archive changed, e.g. a stereotype was added
+        writeJar(jar, "org/bravo/Bravo.class", "org/bravo/Stereotype.class");
+        cache = BeanArchiveIndexCache.load(index, BEAN_DEFINING_ANNOTATIONS);
+        directoryEntry = handle(cache, directory, jar);
+        assertNull(cache.getBeanClasses(directoryEntry));
+    }
+
+    private List<Set<String>> scan() {
+        BeanArchiveIndexCache cache = BeanArchiveIndexCache.load(index, BEAN_DEFINING_ANNOTATIONS);
+        FileSystemBeanArchiveHandler handler = new FileSystemBeanArchiveHandler();
+        handler.setIndexCache(cache);
+        List<Set<String>> classes = new ArrayList<>();
+        for (File archive : new File[] { directory, jar }) {
+            BeanArchiveBuilder builder = handler.handle(archive.getPath());
+            assertNotNull(builder);
+            classes.add(builder.getClasses());
+        }
+        cache.store();
+        return classes;
+    }
+
+    private static BeanArchiveIndexCache.Entry handle(BeanArchiveIndexCache cache, File directory, File jar) {
+        FileSystemBeanArchiveHandler handler = new FileSystemBeanArchiveHandler();
+        handler.setIndexCache(cache);
+        BeanArchiveBuilder builder = handler.handle(directory.getPath());
+        assertNotNull(handler.handle(jar.getPath()));
+        return (BeanArchiveIndexCache.Entry) builder.getAttribute(BeanArchiveIndexCache.ENTRY_ATTRIBUTE_NAME);
+    }
+
+    private static void writeJar(File file, String... entries) throws IOException {
+        try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(file))) {
+            for (String entry : entries) {
+                out.putNextEntry(new ZipEntry(entry));
+                out.closeEntry();
+            }
+        }
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.deployment.discovery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.weld.bootstrap.WeldBootstrap;
+import org.jboss.weld.environment.deployment.discovery.BeanArchiveScanner.ScanResult;
+import org.junit.Test;
+
+public class ClassPathBeanArchiveScannerTest {
+
+    @Test
+    public void testConcurrentScanKeepsClassPathOrder() {
+        WeldBootstrap bootstrap = new WeldBootstrap();
+        List<String> sequential = getRefs(new ClassPathBeanArchiveScanner(bootstrap, false).scan());
+        List<String> concurrent = getRefs(new ClassPathBeanArchiveScanner(bootstrap, true).scan());
+        assertFalse(sequential.isEmpty());
+        assertEquals(sequential, concurrent);
+    }
+
+    private static List<String> getRefs(List<ScanResult> results) {
+        List<String> refs = new ArrayList<>(results.size());
+        for (ScanResult result : results) {
+            refs.add(result.getBeanArchiveRef());
+        }
+        return refs;
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se;
+
+import java.io.File;
+
+import javax.enterprise.inject.Vetoed;
+
+import org.jboss.weld.bean.proxy.ProxyClassArchive;
+import org.jboss.weld.config.ConfigurationKey;
+
+/**
+ * Boots the application and writes all the generated proxy classes into an archive. The archive can be added to the class path of the application so that the
+ * proxy classes are loaded directly instead of being generated at runtime. Intended to be invoked as part of the build, e.g. using the exec-maven-plugin:
+ * <code>
+ * java -cp weld-se-shaded.jar:my-app.jar org.jboss.weld.environment.se.ProxyClassArchiveGenerator target/my-app-proxies.jar
+ * </code>
+ * <p>
+ * Client proxies of all the injected normal scoped beans and intercepted subclasses are generated during the boot. Proxy classes which are only generated
+ * lazily at runtime (e.g. decorator proxies or client proxies of beans obtained programmatically) are not included and will be generated on demand.
+ *
+ * @see ProxyClassArchive
+ * @see ConfigurationKey#PROXY_ARCHIVE
+ */
+@Vetoed
+public class ProxyClassArchiveGenerator {
+
+    private ProxyClassArchiveGenerator() {
+    }
+
+    /**
+     *
+     * @param args the path of the archive to write
+     */
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Usage: ProxyClassArchiveGenerator <archive>");
+        }
+        generate(new Weld(), new File(args[0]));
+    }
+
+    /**
+     * Boots the container with the given configuration, resolves all the injection points and writes the archive when the container is shut down.
+     *
+     * @param weld
+     * @param archive
+     */
+    public static void generate(Weld weld, File archive) {
+        weld.property(ConfigurationKey.PROXY_ARCHIVE.get(), archive.getPath()).property(ConfigurationKey.WARM_UP.get(), true).initialize().shutdown();
+    }
+
+}
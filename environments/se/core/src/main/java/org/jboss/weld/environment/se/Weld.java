@@ -78,6 +78,7 @@ import org.jboss.weld.environment.deployment.WeldResourceLoader;
 import org.jboss.weld.environment.deployment.discovery.ClassPathBeanArchiveScanner;
 import org.jboss.weld.environment.deployment.discovery.DiscoveryStrategy;
 import org.jboss.weld.environment.deployment.discovery.DiscoveryStrategyFactory;
+import org.jboss.weld.environment.deployment.discovery.ReflectionDiscoveryStrategy;
 import org.jboss.weld.environment.logging.CommonLogger;
 import org.jboss.weld.environment.se.ContainerLifecycleObserver.ContainerLifecycleObserverExtension;
 import org.jboss.weld.environment.se.contexts.ThreadScoped;
@@ -201,6 +202,14 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
      */
     public static final String SCAN_CLASSPATH_ENTRIES_SYSTEM_PROPERTY = "org.jboss.weld.se.scan.classpath.entries";
 
+    /**
+     * By default, all the bean archives are scanned during each initialization. If set to a file path, Weld uses the file as a persistent index of the
+     * scanning results and only scans the bean archives which changed since the index was written. The index is not used if Jandex is available.
+     * <p>
+     * This key can be also used through {@link #property(String, Object)}.
+     */
+    public static final String ARCHIVE_INDEX_FILE_SYSTEM_PROPERTY = "org.jboss.weld.se.archive.index.file";
+
     /**
      * See also the CDI specification, section <b>15.1 Bean archive in Java SE</b>.
      */
@@ -600,6 +609,7 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
      * @see #ARCHIVE_ISOLATION_SYSTEM_PROPERTY
      * @see #SHUTDOWN_HOOK_SYSTEM_PROPERTY
      * @see #DEV_MODE_SYSTEM_PROPERTY
+     * @see #ARCHIVE_INDEX_FILE_SYSTEM_PROPERTY
      * @see ConfigurationKey
      */
     public Weld property(String key, Object value) {
@@ -721,7 +731,8 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
         for (Entry<String, Object> property : properties.entrySet()) {
             String key = property.getKey();
             if (SHUTDOWN_HOOK_SYSTEM_PROPERTY.equals(key) || ARCHIVE_ISOLATION_SYSTEM_PROPERTY.equals(key) || DEV_MODE_SYSTEM_PROPERTY.equals(key)
-                    || SCAN_CLASSPATH_ENTRIES_SYSTEM_PROPERTY.equals(key) || JAVAX_ENTERPRISE_INJECT_SCAN_IMPLICIT.equals(key)) {
+                    || SCAN_CLASSPATH_ENTRIES_SYSTEM_PROPERTY.equals(key) || JAVAX_ENTERPRISE_INJECT_SCAN_IMPLICIT.equals(key)
+                    || ARCHIVE_INDEX_FILE_SYSTEM_PROPERTY.equals(key)) {
                 continue;
             }
             configurationBuilder.add(key, property.getValue());
@@ -824,7 +835,11 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
                             // Add ThreadScoped manually as Weld SE doesn't support implicit bean archives without beans.xml
                             .add(ThreadScoped.class).build());
             if (isImplicitScanEnabled()) {
-                strategy.setScanner(new ClassPathBeanArchiveScanner(bootstrap));
+                strategy.setScanner(new ClassPathBeanArchiveScanner(bootstrap, isEnabled(ConfigurationKey.CONCURRENT_DEPLOYMENT.get(), true)));
+            }
+            String indexFile = getProperty(ARCHIVE_INDEX_FILE_SYSTEM_PROPERTY);
+            if (indexFile != null && strategy instanceof ReflectionDiscoveryStrategy) {
+                ((ReflectionDiscoveryStrategy) strategy).setIndexFile(new File(indexFile));
             }
             beanDeploymentArchives.addAll(strategy.performDiscovery());
             ClassFileServices classFileServices = strategy.getClassFileServices();
@@ -1052,6 +1067,14 @@ public class Weld extends SeContainerInitializer implements ContainerInstanceFac
         return value.split("/");
     }
 
+    private String getProperty(String key) {
+        Object value = properties.get(key);
+        if (value != null) {
+            return value.toString();
+        }
+        return AccessController.doPrivileged(new GetSystemPropertyAction(key));
+    }
+
     private boolean isEnabled(String key, boolean defaultValue) {
         Object value = properties.get(key);
         if (value != null) {
@@ -0,0 +1,319 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.proxy.archive;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+
+import org.jboss.weld.bean.proxy.ProxyClassArchive;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.ProxyClassArchiveGenerator;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ProxyClassArchiveGeneratorTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testArchiveGenerated() throws Exception {
+        File archive = new File(folder.getRoot(), "proxies.jar");
+        generate(archive);
+        assertTrue(archive.isFile());
+        List<String> lines = readIndex(archive);
+        try (JarFile jar = new JarFile(archive)) {
+            String greetingProxy = null;
+            for (String line : lines) {
+                String[] parts = line.split(" ");
+                assertEquals(line, 2, parts.length);
+                assertNotNull(line, jar.getEntry(parts[0].replace('.', '/') + ".class"));
+                if (parts[0].startsWith(Greeting.class.getName())) {
+                    greetingProxy = parts[0];
+                }
+            }
+            assertNotNull(lines.toString(), greetingProxy);
+        }
+    }
+
+    @Test
+    public void testPregeneratedProxyClassDefinedInBeanClassLoader() throws Exception {
+        File archive = new File(folder.getRoot(), "proxies.jar");
+        generate(archive);
+        // The pre-generated proxy class is visible to a different class loader than the bean class
+        BeanClassLoader classLoader = new BeanClassLoader(archive);
+        File recorded = new File(folder.getRoot(), "recorded.jar");
+        ProxyClassGeneratedHandler handler = new ProxyClassGeneratedHandler(Greeting.class);
+        Class<?> proxyClass;
+        Class<?> reusedProxyClass;
+        File recordedAgain = new File(folder.getRoot(), "recorded-again.jar");
+        try {
+            proxyClass = getGreetingProxyClass(classLoader, recorded);
+            // Another container reuses the class already defined
+            reusedProxyClass = getGreetingProxyClass(classLoader, recordedAgain);
+        } finally {
+            handler.remove();
+        }
+        assertTrue(proxyClass.getName(), proxyClass.getName().startsWith(Greeting.class.getName()));
+        assertSame(proxyClass, reusedProxyClass);
+        // The pre-generated class was used and so no bytecode was generated
+        assertEquals(0, handler.generated.get());
+        // The reused class is recorded the same way as a generated one
+        assertTrue(containsGreetingProxy(recorded));
+        assertTrue(containsGreetingProxy(recordedAgain));
+    }
+
+    @Test
+    public void testOutdatedPregeneratedProxyClassIgnored() throws Exception {
+        File archive = new File(folder.getRoot(), "proxies.jar");
+        generate(archive);
+        // Simulate an archive generated for a different version of the proxied types
+        File outdated = new File(folder.getRoot(), "outdated.jar");
+        StringBuilder index = new StringBuilder();
+        for (String line : readIndex(archive)) {
+            index.append(line.substring(0, line.indexOf(' '))).append(" 0\n");
+        }
+        try (JarFile jar = new JarFile(archive); OutputStream out = Files.newOutputStream(outdated.toPath()); JarOutputStream outdatedJar = new JarOutputStream(out)) {
+            Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                outdatedJar.putNextEntry(new JarEntry(entry.getName()));
+                outdatedJar.write(ProxyClassArchive.INDEX.equals(entry.getName()) ? index.toString().getBytes(StandardCharsets.UTF_8)
+                        : readBytes(jar.getInputStream(entry)));
+                outdatedJar.closeEntry();
+            }
+        }
+        File recorded = new File(folder.getRoot(), "recorded.jar");
+        ProxyClassGeneratedHandler handler = new ProxyClassGeneratedHandler(Greeting.class);
+        try {
+            getGreetingProxyClass(new BeanClassLoader(outdated), recorded);
+        } finally {
+            handler.remove();
+        }
+        // The proxy class was generated
+        assertEquals(1, handler.generated.get());
+        assertTrue(containsGreetingProxy(recorded));
+    }
+
+    @Test
+    public void testPregeneratedSubclassIgnoredIfInterceptorsChange() throws Exception {
+        File archive = new File(folder.getRoot(), "proxies.jar");
+        BeanClassLoader generatorClassLoader = new BeanClassLoader(null);
+        Class<?> loudInterceptorClass = generatorClassLoader.loadClass(LoudInterceptor.class.getName());
+        ProxyClassArchiveGenerator.generate(new Weld().disableDiscovery().setClassLoader(generatorClassLoader)
+                .beanClasses(generatorClassLoader.loadClass(Echo.class.getName()), loudInterceptorClass).interceptors(loudInterceptorClass), archive);
+        assertTrue(containsProxy(archive, Echo.class));
+
+        // The bean class is the same but another interceptor is enabled
+        BeanClassLoader classLoader = new BeanClassLoader(archive);
+        Class<?> echoClass = classLoader.loadClass(Echo.class.getName());
+        ProxyClassGeneratedHandler handler = new ProxyClassGeneratedHandler(Echo.class);
+        Class<?> loudClass = classLoader.loadClass(LoudInterceptor.class.getName());
+        Class<?> exclaimedClass = classLoader.loadClass(ExclaimedInterceptor.class.getName());
+        try (WeldContainer container = new Weld().disableDiscovery().setClassLoader(classLoader).beanClasses(echoClass, loudClass, exclaimedClass)
+                .interceptors(loudClass, exclaimedClass).initialize()) {
+            Object echo = container.select(echoClass).get();
+            assertEquals("HELLO", echoClass.getMethod("hello").invoke(echo));
+            assertEquals("bye!", echoClass.getMethod("bye").invoke(echo));
+        } finally {
+            handler.remove();
+        }
+        assertEquals(1, handler.generated.get());
+    }
+
+    private static void generate(File archive) throws Exception {
+        // Generate the proxy classes as if in a new JVM
+        BeanClassLoader classLoader = new BeanClassLoader(null);
+        ProxyClassArchiveGenerator.generate(new Weld().disableDiscovery().setClassLoader(classLoader)
+                .beanClasses(classLoader.loadClass(Greeting.class.getName()), classLoader.loadClass(Greeter.class.getName())), archive);
+    }
+
+    private static Class<?> getGreetingProxyClass(BeanClassLoader classLoader, File recorded) throws Exception {
+        Class<?> greetingClass = classLoader.loadClass(Greeting.class.getName());
+        assertNotSame(Greeting.class, greetingClass);
+        Class<?> proxyClass;
+        try (WeldContainer container = new Weld().disableDiscovery().setClassLoader(classLoader)
+                .property(ConfigurationKey.PROXY_ARCHIVE.get(), recorded.getPath())
+                .beanClasses(greetingClass, classLoader.loadClass(Greeter.class.getName())).initialize()) {
+            proxyClass = container.select(greetingClass).get().getClass();
+        }
+        // The proxy class is defined in the class loader of the bean class
+        assertSame(classLoader, proxyClass.getClassLoader());
+        assertSame(greetingClass, proxyClass.getSuperclass());
+        return proxyClass;
+    }
+
+    private static boolean containsGreetingProxy(File archive) throws IOException {
+        return containsProxy(archive, Greeting.class);
+    }
+
+    private static boolean containsProxy(File archive, Class<?> beanClass) throws IOException {
+        if (!archive.isFile()) {
+            return false;
+        }
+        for (String line : readIndex(archive)) {
+            if (line.startsWith(beanClass.getName() + "$")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> readIndex(File archive) throws IOException {
+        try (JarFile jar = new JarFile(archive)) {
+            ZipEntry index = jar.getEntry(ProxyClassArchive.INDEX);
+            assertNotNull(index);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(jar.getInputStream(index), StandardCharsets.UTF_8))) {
+                return reader.lines().collect(Collectors.toList());
+            }
+        }
+    }
+
+    private static byte[] readBytes(InputStream in) throws IOException {
+        try (InputStream input = in; ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Counts the proxy classes generated for the given bean class.
+     */
+    private static class ProxyClassGeneratedHandler extends Handler {
+
+        private static final String BEAN_CATEGORY = "org.jboss.weld.Bean";
+
+        private static final String GENERATING_PROXY_CLASS_MESSAGE_ID = "WELD-001542";
+
+        private final AtomicInteger generated = new AtomicInteger();
+
+        private final String prefix;
+
+        private final Logger logger;
+
+        private final Level level;
+
+        ProxyClassGeneratedHandler(Class<?> beanClass) {
+            this.prefix = beanClass.getName() + "$";
+            this.logger = Logger.getLogger(BEAN_CATEGORY);
+            this.level = logger.getLevel();
+            logger.setLevel(Level.ALL);
+            logger.addHandler(this);
+        }
+
+        void remove() {
+            logger.removeHandler(this);
+            logger.setLevel(level);
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            if (record.getMessage() != null && record.getMessage().startsWith(GENERATING_PROXY_CLASS_MESSAGE_ID) && record.getParameters() != null
+                    && record.getParameters().length > 0 && record.getParameters()[0].toString().startsWith(prefix)) {
+                generated.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+    }
+
+    /**
+     * Defines its own copy of the classes from this package so that the proxy classes are not defined yet. The classes from the proxy class archive, if any,
+     * are loaded by a different class loader.
+     */
+    private static class BeanClassLoader extends ClassLoader {
+
+        private final String packagePrefix = ProxyClassArchiveGeneratorTest.class.getPackage().getName() + ".";
+
+        private final URLClassLoader archiveClassLoader;
+
+        BeanClassLoader(File archive) throws IOException {
+            super(ProxyClassArchiveGeneratorTest.class.getClassLoader());
+            this.archiveClassLoader = new URLClassLoader(archive != null ? new URL[] { archive.toURI().toURL() } : new URL[0], getParent());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> clazz = findLoadedClass(name);
+                if (clazz != null) {
+                    return clazz;
+                }
+                if (!name.startsWith(packagePrefix) || name.startsWith(ProxyClassArchiveGeneratorTest.class.getName())) {
+                    return super.loadClass(name, resolve);
+                }
+                if (name.contains("$Proxy$") || name.contains("_$$_Weld")) {
+                    return archiveClassLoader.loadClass(name);
+                }
+                try {
+                    byte[] bytecode = readBytes(getParent().getResourceAsStream(name.replace('.', '/') + ".class"));
+                    return defineClass(name, bytecode, 0, bytecode.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+
+        @Override
+        protected Enumeration<URL> findResources(String name) throws IOException {
+            return archiveClassLoader.findResources(name);
+        }
+
+    }
+
+}
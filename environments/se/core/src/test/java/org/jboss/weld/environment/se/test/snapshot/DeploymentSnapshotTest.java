@@ -0,0 +1,292 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.snapshot;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import javax.enterprise.inject.spi.DeploymentException;
+
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DeploymentSnapshotTest {
+
+    private static final String BOOTSTRAP_CATEGORY = "org.jboss.weld.Bootstrap";
+
+    private static final String VALIDATION_SKIPPED_MESSAGE_ID = "WELD-000176";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testSnapshot() throws IOException {
+        File snapshot = new File(folder.getRoot(), "snapshot");
+        ValidationSkippedHandler handler = new ValidationSkippedHandler();
+        Logger logger = Logger.getLogger(BOOTSTRAP_CATEGORY);
+        logger.addHandler(handler);
+        try {
+            try (WeldContainer container = newWeld(snapshot).beanClasses(Alpha.class, Bravo.class).initialize()) {
+                assertEquals("alpha", container.select(Bravo.class).get().ping());
+            }
+            assertTrue(snapshot.isFile());
+            assertEquals(0, handler.skipped.get());
+            byte[] fingerprint = Files.readAllBytes(snapshot.toPath());
+
+            // Unchanged deployment - validation skipped
+            try (WeldContainer container = newWeld(snapshot).beanClasses(Alpha.class, Bravo.class).initialize()) {
+                assertEquals("alpha", container.select(Bravo.class).get().ping());
+            }
+            assertEquals(1, handler.skipped.get());
+            assertArrayEquals(fingerprint, Files.readAllBytes(snapshot.toPath()));
+
+            // Changed deployment - Charlie has an unsatisfied dependency and must not pass
+            try (WeldContainer container = newWeld(snapshot).beanClasses(Alpha.class, Bravo.class, Charlie.class).initialize()) {
+                fail();
+            } catch (DeploymentException expected) {
+            }
+            assertEquals(1, handler.skipped.get());
+            assertArrayEquals(fingerprint, Files.readAllBytes(snapshot.toPath()));
+
+            // Changed deployment - a new snapshot is written
+            try (WeldContainer container = newWeld(snapshot).beanClasses(Alpha.class).initialize()) {
+                assertFalse(container.select(Bravo.class).isResolvable());
+            }
+            assertEquals(1, handler.skipped.get());
+            assertFalse(new String(fingerprint).equals(new String(Files.readAllBytes(snapshot.toPath()))));
+        } finally {
+            logger.removeHandler(handler);
+        }
+    }
+
+    @Test
+    public void testQualifierDefinitionChanged() throws Exception {
+        File snapshot = new File(folder.getRoot(), "snapshot");
+        ValidationSkippedHandler handler = new ValidationSkippedHandler();
+        Logger logger = Logger.getLogger(BOOTSTRAP_CATEGORY);
+        logger.addHandler(handler);
+        try {
+            // The value of QualifierV1 is @Nonbinding
+            VariantClassLoader classLoader = new VariantClassLoader(null);
+            try (WeldContainer container = newWeld(snapshot, classLoader, Engine.class, Car.class).initialize()) {
+                assertTrue(container.select(classLoader.loadClass(Car.class.getName())).isResolvable());
+            }
+            byte[] fingerprint = Files.readAllBytes(snapshot.toPath());
+            // The same bean classes but the value is binding and so the injection point of Car is not satisfied
+            try (WeldContainer container = newWeld(snapshot, new VariantClassLoader(QualifierV1.class), Engine.class, Car.class).initialize()) {
+                fail();
+            } catch (DeploymentException expected) {
+            }
+            assertEquals(0, handler.skipped.get());
+            assertArrayEquals(fingerprint, Files.readAllBytes(snapshot.toPath()));
+        } finally {
+            logger.removeHandler(handler);
+        }
+    }
+
+    @Test
+    public void testStereotypeDefinitionChanged() throws Exception {
+        // StereotypeV2 declares an interceptor binding
+        assertValidated(StereotypeV1.class, "park", "parked", "honk parked");
+    }
+
+    @Test
+    public void testInterceptorBindingDefinitionChanged() throws Exception {
+        // The value of BindingV1 is @Nonbinding, the value of BindingV2 is not
+        assertValidated(BindingV1.class, "drive", "honk truck", "truck");
+    }
+
+    @Test
+    public void testExtensionInjectionTargetChanged() throws IOException {
+        File snapshot = new File(folder.getRoot(), "snapshot");
+        ValidationSkippedHandler handler = new ValidationSkippedHandler();
+        Logger logger = Logger.getLogger(BOOTSTRAP_CATEGORY);
+        logger.addHandler(handler);
+        try {
+            try (WeldContainer container = newWeld(snapshot).beanClasses(Alpha.class, Bravo.class).addExtension(new InjectionTargetExtension(Bravo.class))
+                    .initialize()) {
+                assertEquals("alpha", container.select(Bravo.class).get().ping());
+            }
+            byte[] fingerprint = Files.readAllBytes(snapshot.toPath());
+            // The same beans but the injection target created by the extension is not valid
+            try (WeldContainer container = newWeld(snapshot).beanClasses(Alpha.class, Bravo.class).addExtension(new InjectionTargetExtension(Charlie.class))
+                    .initialize()) {
+                fail();
+            } catch (DeploymentException expected) {
+            }
+            assertEquals(0, handler.skipped.get());
+            assertArrayEquals(fingerprint, Files.readAllBytes(snapshot.toPath()));
+        } finally {
+            logger.removeHandler(handler);
+        }
+    }
+
+    /**
+     * Invokes a method of {@link Truck} deployed with the original definition of the given annotation, then again with the original definition and finally
+     * with the changed definition. Verifies that the deployment is validated again after the change.
+     */
+    private void assertValidated(Class<?> variant, String method, String expected, String expectedForVariant) throws Exception {
+        File snapshot = new File(folder.getRoot(), "snapshot");
+        ValidationSkippedHandler handler = new ValidationSkippedHandler();
+        Logger logger = Logger.getLogger(BOOTSTRAP_CATEGORY);
+        logger.addHandler(handler);
+        try {
+            assertEquals(expected, invoke(snapshot, new VariantClassLoader(null), method));
+            byte[] fingerprint = Files.readAllBytes(snapshot.toPath());
+            // The original definition - validation skipped
+            assertEquals(expected, invoke(snapshot, new VariantClassLoader(null), method));
+            assertEquals(1, handler.skipped.get());
+            // The changed definition - validated and a new snapshot is written
+            assertEquals(expectedForVariant, invoke(snapshot, new VariantClassLoader(variant), method));
+            assertEquals(1, handler.skipped.get());
+            assertFalse(new String(fingerprint).equals(new String(Files.readAllBytes(snapshot.toPath()))));
+        } finally {
+            logger.removeHandler(handler);
+        }
+    }
+
+    private Object invoke(File snapshot, VariantClassLoader classLoader, String method) throws Exception {
+        Class<?> truckClass = classLoader.loadClass(Truck.class.getName());
+        Class<?> hornClass = classLoader.loadClass(HornInterceptor.class.getName());
+        try (WeldContainer container = newWeld(snapshot).setClassLoader(classLoader).beanClasses(truckClass, hornClass).interceptors(hornClass)
+                .initialize()) {
+            return truckClass.getMethod(method).invoke(container.select(truckClass).get());
+        }
+    }
+
+    private Weld newWeld(File snapshot, VariantClassLoader classLoader, Class<?>... beanClasses) throws ClassNotFoundException {
+        Class<?>[] loaded = new Class<?>[beanClasses.length];
+        for (int i = 0; i < beanClasses.length; i++) {
+            loaded[i] = classLoader.loadClass(beanClasses[i].getName());
+        }
+        return newWeld(snapshot).setClassLoader(classLoader).beanClasses(loaded);
+    }
+
+    private Weld newWeld(File snapshot) {
+        return new Weld().disableDiscovery().property(ConfigurationKey.DEPLOYMENT_SNAPSHOT.get(), snapshot.getPath());
+    }
+
+    private static class ValidationSkippedHandler extends Handler {
+
+        private final AtomicInteger skipped = new AtomicInteger();
+
+        @Override
+        public void publish(LogRecord record) {
+            if (record.getMessage() != null && record.getMessage().startsWith(VALIDATION_SKIPPED_MESSAGE_ID)) {
+                skipped.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+    }
+
+    /**
+     * Defines its own copy of the classes from this package. If a variant is set, e.g. {@code QualifierV1}, its definition is replaced with the bytecode of
+     * the corresponding {@code V2} class.
+     */
+    private static class VariantClassLoader extends ClassLoader {
+
+        private final String packagePrefix = DeploymentSnapshotTest.class.getPackage().getName() + ".";
+
+        private final String variant;
+
+        VariantClassLoader(Class<?> variant) {
+            super(DeploymentSnapshotTest.class.getClassLoader());
+            this.variant = variant != null ? variant.getName() : null;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> clazz = findLoadedClass(name);
+                if (clazz != null) {
+                    return clazz;
+                }
+                if (!name.startsWith(packagePrefix) || name.startsWith(DeploymentSnapshotTest.class.getName()) || name.contains("_$$_Weld")) {
+                    return super.loadClass(name, resolve);
+                }
+                try {
+                    byte[] bytecode;
+                    if (name.equals(variant)) {
+                        // The names have the same length and so the bytecode remains valid
+                        String replacement = name.substring(0, name.length() - 1) + "2";
+                        bytecode = replace(readBytes(getParent().getResourceAsStream(replacement.replace('.', '/') + ".class")), replacement.replace('.', '/'),
+                                name.replace('.', '/'));
+                    } else {
+                        bytecode = readBytes(getParent().getResourceAsStream(name.replace('.', '/') + ".class"));
+                    }
+                    return defineClass(name, bytecode, 0, bytecode.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+
+        private static byte[] replace(byte[] bytecode, String target, String replacement) {
+            byte[] targetBytes = target.getBytes(StandardCharsets.UTF_8);
+            byte[] replacementBytes = replacement.getBytes(StandardCharsets.UTF_8);
+            for (int i = 0; i <= bytecode.length - targetBytes.length; i++) {
+                int j = 0;
+                while (j < targetBytes.length && bytecode[i + j] == targetBytes[j]) {
+                    j++;
+                }
+                if (j == targetBytes.length) {
+                    System.arraycopy(replacementBytes, 0, bytecode, i, replacementBytes.length);
+                }
+            }
+            return bytecode;
+        }
+
+        private static byte[] readBytes(InputStream in) throws IOException {
+            try (InputStream input = in; ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+                byte[] buffer = new byte[1024];
+                int read;
+                while ((read = input.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+                return out.toByteArray();
+            }
+        }
+
+    }
+
+}
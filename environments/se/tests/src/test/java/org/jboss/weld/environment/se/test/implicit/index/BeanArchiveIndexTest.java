@@ -0,0 +1,72 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.implicit.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+
+import org.jboss.arquillian.container.se.api.ClassPath;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.environment.se.test.implicit.index.annotated.Alpha;
+import org.jboss.weld.environment.se.test.implicit.index.unannotated.Charlie;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(Arquillian.class)
+public class BeanArchiveIndexTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ClassPath.builder().add(ShrinkWrap.create(BeanArchive.class).addClasses(BeanArchiveIndexTest.class)).addDirectory("index-dir")
+                .addClass(Alpha.class).addClass(Charlie.class).buildAndUp().build();
+    }
+
+    @Test
+    public void testIndexUsedForUnchangedArchives() throws IOException {
+        File index = File.createTempFile("weld-index", ".bin");
+        assertTrue(index.delete());
+        try {
+            assertDiscovery(index);
+            assertTrue(index.isFile());
+            // Set an old modification time - the index is only written again if something changed
+            long lastModified = 1000000000000L;
+            assertTrue(index.setLastModified(lastModified));
+            assertDiscovery(index);
+            assertEquals(lastModified, index.lastModified());
+        } finally {
+            index.delete();
+        }
+    }
+
+    private void assertDiscovery(File index) {
+        try (WeldContainer container = new Weld().property(Weld.JAVAX_ENTERPRISE_INJECT_SCAN_IMPLICIT, Boolean.TRUE)
+                .property(Weld.ARCHIVE_INDEX_FILE_SYSTEM_PROPERTY, index.getPath()).initialize()) {
+            assertEquals(1, container.select(Alpha.class).get().ping());
+            assertTrue(container.select(Charlie.class).isUnsatisfied());
+        }
+    }
+
+}
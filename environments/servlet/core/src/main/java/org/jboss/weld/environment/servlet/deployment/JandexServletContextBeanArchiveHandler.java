@@ -21,19 +21,29 @@ import java.io.InputStream;
 
 import javax.servlet.ServletContext;
 
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
 import org.jboss.jandex.Indexer;
+import org.jboss.jandex.UnsupportedVersion;
 import org.jboss.weld.environment.deployment.discovery.BeanArchiveBuilder;
 import org.jboss.weld.environment.deployment.discovery.jandex.Jandex;
 import org.jboss.weld.environment.logging.CommonLogger;
+import org.jboss.weld.environment.servlet.logging.WeldServletLogger;
+import org.jboss.weld.environment.util.Files;
 
 /**
+ * If a prebuilt Jandex index ({@value Jandex#INDEX_FILE}) is found in {@code WEB-INF/classes} or in a library, it is used instead of enumerating the
+ * resource paths and indexing every class file.
+ *
  * @author Tomas Remes
  */
 public class JandexServletContextBeanArchiveHandler extends ServletContextBeanArchiveHandler {
 
     private final Indexer indexer = new Indexer();
 
+    private Index prebuiltIndex;
+
     /**
      * @param servletContext
      */
@@ -43,11 +53,25 @@ public class JandexServletContextBeanArchiveHandler extends ServletContextBeanAr
 
     @Override
     public BeanArchiveBuilder handle(String path) {
+        if (path.equals(WebAppBeanArchiveScanner.WEB_INF_CLASSES)) {
+            Index index = readPrebuiltIndex(path + SLASH + Jandex.INDEX_FILE);
+            if (index != null) {
+                BeanArchiveBuilder builder = new BeanArchiveBuilder().setAttribute(Jandex.INDEX_ATTRIBUTE_NAME, index);
+                for (ClassInfo classInfo : index.getKnownClasses()) {
+                    builder.addClass(classInfo.name().toString());
+                }
+                return builder;
+            }
+        }
+        prebuiltIndex = null;
         BeanArchiveBuilder builder = super.handle(path);
+        // Always complete the index so that the indexer is reset for the next bean archive
+        Index index = buildIndex();
         if (builder == null) {
             return null;
         }
-        builder.setAttribute(Jandex.INDEX_ATTRIBUTE_NAME, buildIndex());
+        builder.setAttribute(Jandex.INDEX_ATTRIBUTE_NAME, prebuiltIndex != null ? prebuiltIndex : index);
+        prebuiltIndex = null;
         return builder;
     }
 
@@ -65,6 +89,38 @@ public class JandexServletContextBeanArchiveHandler extends ServletContextBeanAr
         addToIndex(servletContext.getResourceAsStream(subpath));
     }
 
+    @Override
+    protected void addLibraryEntry(String name, InputStream in, BeanArchiveBuilder builder) {
+        super.addLibraryEntry(name, in, builder);
+        if (Jandex.INDEX_FILE.equals(name)) {
+            prebuiltIndex = readIndex(in, name);
+        } else if (prebuiltIndex == null && Files.isClass(name)) {
+            // There is no need to index the remaining classes once a prebuilt index is found
+            addToIndex(in);
+        }
+    }
+
+    private Index readPrebuiltIndex(String resourcePath) {
+        try (InputStream in = servletContext.getResourceAsStream(resourcePath)) {
+            return in != null ? readIndex(in, resourcePath) : null;
+        } catch (IOException e) {
+            CommonLogger.LOG.catchingDebug(e);
+            return null;
+        }
+    }
+
+    private Index readIndex(InputStream in, String name) {
+        try {
+            Index index = new IndexReader(in).read();
+            WeldServletLogger.LOG.debugv("Prebuilt Jandex index found: {0}", name);
+            return index;
+        } catch (IllegalArgumentException | UnsupportedVersion | IOException e) {
+            CommonLogger.LOG.warnv("Cannot read Jandex index: {0}", name);
+            CommonLogger.LOG.catchingDebug(e);
+            return null;
+        }
+    }
+
     private Index buildIndex() {
         return indexer.complete();
     }
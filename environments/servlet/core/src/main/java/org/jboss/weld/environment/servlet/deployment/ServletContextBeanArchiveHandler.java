@@ -104,13 +104,24 @@ public class ServletContextBeanArchiveHandler implements BeanArchiveHandler {
         try (ZipInputStream zip = new ZipInputStream(in)) {
             ZipEntry entry = null;
             while ((entry = zip.getNextEntry()) != null) {
-                if (Files.isClass(entry.getName())) {
-                    builder.addClass(Files.filenameToClassname(entry.getName()));
-                }
+                addLibraryEntry(entry.getName(), zip, builder);
             }
         }
     }
 
+    /**
+     * Process a single entry of a library. The stream is positioned at the start of the entry and must not be closed.
+     *
+     * @param name
+     * @param in
+     * @param builder
+     */
+    protected void addLibraryEntry(String name, InputStream in, BeanArchiveBuilder builder) {
+        if (Files.isClass(name)) {
+            builder.addClass(Files.filenameToClassname(name));
+        }
+    }
+
     private String toClassName(String rootPath, String resourcePath) {
         // Remove WEB-INF/classes part, suffix and replace slashes with dots
         return resourcePath.substring(rootPath.length() + 1, resourcePath.lastIndexOf(Files.CLASS_FILE_EXTENSION)).replace(SLASH, DOT);
@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.servlet.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.jboss.weld.environment.deployment.discovery.BeanArchiveBuilder;
+import org.jboss.weld.environment.deployment.discovery.jandex.Jandex;
+import org.jboss.weld.environment.servlet.deployment.ServletContextBeanArchiveHandlerTest.ServletContextMock;
+import org.junit.Test;
+
+public class JandexServletContextBeanArchiveHandlerTest {
+
+    @Test
+    public void testPrebuiltIndexUsedForWebInfClasses() throws IOException {
+        final byte[] indexBytes = writeIndex(JandexServletContextBeanArchiveHandlerTest.class, ServletContextBeanArchiveHandler.class);
+        JandexServletContextBeanArchiveHandler handler = new JandexServletContextBeanArchiveHandler(new ServletContextMock() {
+
+            @Override
+            public InputStream getResourceAsStream(String path) {
+                return (WebAppBeanArchiveScanner.WEB_INF_CLASSES + "/" + Jandex.INDEX_FILE).equals(path) ? new ByteArrayInputStream(indexBytes) : null;
+            }
+
+        });
+        BeanArchiveBuilder builder = handler.handle(WebAppBeanArchiveScanner.WEB_INF_CLASSES);
+        // The resource paths are not enumerated at all
+        Collection<String> classes = builder.getClasses();
+        assertEquals(2, classes.size());
+        assertTrue(classes.contains(JandexServletContextBeanArchiveHandlerTest.class.getName()));
+        assertTrue(classes.contains(ServletContextBeanArchiveHandler.class.getName()));
+        IndexView index = (IndexView) builder.getAttribute(Jandex.INDEX_ATTRIBUTE_NAME);
+        assertNotNull(index);
+        assertEquals(2, index.getKnownClasses().size());
+    }
+
+    private static byte[] writeIndex(Class<?>... classes) throws IOException {
+        Indexer indexer = new Indexer();
+        for (Class<?> clazz : classes) {
+            try (InputStream in = clazz.getResourceAsStream(clazz.getSimpleName() + ".class")) {
+                indexer.index(in);
+            }
+        }
+        Index index = indexer.complete();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new IndexWriter(out).write(index);
+        return out.toByteArray();
+    }
+
+}
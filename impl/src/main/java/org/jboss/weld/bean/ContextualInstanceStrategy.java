@@ -31,6 +31,7 @@ import javax.enterprise.inject.spi.BeanAttributes;
 import javax.inject.Singleton;
 
 import org.jboss.weld.context.cache.RequestScopedCache;
+import org.jboss.weld.context.cache.RequestScopedCacheSlots;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.util.collections.ImmutableSet;
 import org.jboss.weld.util.reflection.Reflections;
@@ -51,6 +52,9 @@ import org.jboss.weld.util.reflection.Reflections;
  * a {@link ThreadLocal}. This implementation respects the possibility of an instance being destroyed via {@link AlterableContext} and the cached instance is
  * flushed in such case. This is done indirectly by {@link RequestScopedCache}.
  *
+ * If {@link RequestScopedCacheSlots} service is installed, the instances of {@link SessionScoped}, {@link ConversationScoped} and {@link RequestScoped}
+ * beans are not cached in a {@link ThreadLocal} per bean. Instead, each bean is assigned a slot in the indexed part of the {@link RequestScopedCache}.
+ *
  * @author Jozef Hartinger
  *
  * @param <T>
@@ -66,6 +70,10 @@ public abstract class ContextualInstanceStrategy<T> {
         if (ApplicationScoped.class == bean.getScope() || Singleton.class == bean.getScope()) {
             return new ApplicationScopedContextualInstanceStrategy<T>();
         } else if (CachingContextualInstanceStrategy.CACHEABLE_SCOPES.contains(bean.getScope())) {
+            RequestScopedCacheSlots slots = manager.getServices().get(RequestScopedCacheSlots.class);
+            if (slots != null) {
+                return new IndexedCachingContextualInstanceStrategy<T>(slots.allocate());
+            }
             return new CachingContextualInstanceStrategy<T>();
         }
         return defaultStrategy();
@@ -181,4 +189,37 @@ public abstract class ContextualInstanceStrategy<T> {
             return cached;
         }
     }
+
+    private static class IndexedCachingContextualInstanceStrategy<T> extends DefaultContextualInstanceStrategy<T> {
+
+        private final int slot;
+
+        IndexedCachingContextualInstanceStrategy(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        T getIfExists(Bean<T> bean, BeanManagerImpl manager) {
+            T cached = Reflections.cast(RequestScopedCache.getIndexed(slot, this));
+            if (cached != null) {
+                return cached;
+            }
+            cached = super.getIfExists(bean, manager);
+            if (cached != null) {
+                RequestScopedCache.putIndexedIfActive(slot, this, cached);
+            }
+            return cached;
+        }
+
+        @Override
+        T get(Bean<T> bean, BeanManagerImpl manager, CreationalContext<?> ctx) {
+            T cached = Reflections.cast(RequestScopedCache.getIndexed(slot, this));
+            if (cached != null) {
+                return cached;
+            }
+            cached = super.get(bean, manager, ctx);
+            RequestScopedCache.putIndexedIfActive(slot, this, cached);
+            return cached;
+        }
+    }
 }
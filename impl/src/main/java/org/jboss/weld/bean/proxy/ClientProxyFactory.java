@@ -131,12 +131,13 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
     @Override
     protected void createForwardingMethodBody(ClassMethod classMethod, final MethodInformation methodInfo, ClassMethod staticConstructor) {
         final Method method = methodInfo.getMethod();
-        // we can only use bytecode based invocation for some methods
-        // at the moment we restrict it solely to public methods with public
-        // return and parameter types
-        boolean bytecodeInvocationAllowed = Modifier.isPublic(method.getModifiers()) && Modifier.isPublic(method.getReturnType().getModifiers());
+        // we can only use bytecode based invocation if the method, its declaring class, its return type and all its parameter types
+        // are accessible from the proxy class, otherwise the invocation is delegated to the method handler
+        final String proxyPackage = getPackageName(classMethod.getClassFile().getName());
+        boolean bytecodeInvocationAllowed = isAccessible(method, proxyPackage) && isAccessible(method.getDeclaringClass(), proxyPackage)
+                && isAccessible(method.getReturnType(), proxyPackage);
         for (Class<?> paramType : method.getParameterTypes()) {
-            if (!Modifier.isPublic(paramType.getModifiers())) {
+            if (!isAccessible(paramType, proxyPackage)) {
                 bytecodeInvocationAllowed = false;
                 break;
             }
@@ -201,6 +202,39 @@ public class ClientProxyFactory<T> extends ProxyFactory<T> {
         }.runStartIfNotEmpty();
     }
 
+    /**
+     * A public type is always accessible. Otherwise, the proxy class must be defined in the same runtime package, i.e. in the same package and by the same class
+     * loader, as the type.
+     */
+    private boolean isAccessible(Class<?> type, String proxyPackage) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        return type.isPrimitive() || Modifier.isPublic(type.getModifiers()) || isInRuntimePackage(type, proxyPackage);
+    }
+
+    /**
+     * A package-private or protected method is only accessible if the proxy class is defined in the same runtime package as the class which declares the
+     * method. Note that a protected method of a superclass from a different package is not accessible this way as the target of the invocation is not the
+     * proxy itself.
+     */
+    private boolean isAccessible(Method method, String proxyPackage) {
+        int modifiers = method.getModifiers();
+        if (Modifier.isPublic(modifiers)) {
+            return true;
+        }
+        return !Modifier.isPrivate(modifiers) && isInRuntimePackage(method.getDeclaringClass(), proxyPackage);
+    }
+
+    private boolean isInRuntimePackage(Class<?> type, String proxyPackage) {
+        return getClassLoader() != null && getClassLoader().equals(type.getClassLoader()) && proxyPackage.equals(getPackageName(type.getName()));
+    }
+
+    private static String getPackageName(String className) {
+        int lastDot = className.lastIndexOf('.');
+        return lastDot < 0 ? "" : className.substring(0, lastDot);
+    }
+
     private void loadBeanInstance(ClassFile file, MethodInformation methodInfo, CodeAttribute b) {
         b.aload(0);
         getMethodHandlerField(file, b);
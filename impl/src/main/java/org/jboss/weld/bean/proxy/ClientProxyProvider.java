@@ -196,7 +196,7 @@ public class ClientProxyProvider {
     }
 
     private <T> T createClientProxy(Bean<T> bean, Set<Type> types) {
-        BeanIdentifier id = Container.instance(contextId).services().get(ContextualStore.class).putIfAbsent(bean);
+        BeanIdentifier id = services().get(ContextualStore.class).putIfAbsent(bean);
         if (id == null) {
             throw BeanLogger.LOG.beanIdCreationFailed(bean);
         }
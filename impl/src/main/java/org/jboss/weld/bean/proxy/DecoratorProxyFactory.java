@@ -25,6 +25,7 @@ import java.security.AccessController;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Set;
 
 import javax.enterprise.inject.spi.Bean;
@@ -95,6 +96,17 @@ public class DecoratorProxyFactory<T> extends ProxyFactory<T> {
         interfaces.add(DecoratorProxy.class);
     }
 
+    @Override
+    protected void addDigestInputs(List<String> inputs) {
+        // The delegate injection point determines the delegate initializer code
+        StringBuilder delegate = new StringBuilder("delegate ");
+        delegate.append(delegateInjectionPoint.getType().getTypeName()).append(' ').append(delegateInjectionPoint.getMember());
+        if (delegateInjectionPoint instanceof ParameterInjectionPoint<?, ?>) {
+            delegate.append(' ').append(((ParameterInjectionPoint<?, ?>) delegateInjectionPoint).getAnnotated().getPosition());
+        }
+        inputs.add(delegate.toString());
+    }
+
     @Override
     protected void addMethodsFromClass(ClassFile proxyClassType, ClassMethod staticConstructor) {
         Method initializerMethod = null;
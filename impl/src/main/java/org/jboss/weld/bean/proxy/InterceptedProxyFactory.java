@@ -24,6 +24,7 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.security.AccessController;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.jboss.classfilewriter.ClassFile;
@@ -77,6 +78,13 @@ public class InterceptedProxyFactory<T> extends ProxyFactory<T> {
         return PROXY_SUFFIX + suffix;
     }
 
+    @Override
+    protected void addDigestInputs(List<String> inputs) {
+        // Enhanced methods which are not intercepted only invoke the superclass method
+        addDigestInputs(inputs, "enhanced ", enhancedMethodSignatures);
+        addDigestInputs(inputs, "intercepted ", interceptedMethodSignatures);
+    }
+
     @Override
     protected void addMethodsFromClass(ClassFile proxyClassType, ClassMethod staticConstructor) {
         try {
@@ -26,6 +26,7 @@ import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.security.AccessController;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import javax.enterprise.inject.spi.Bean;
@@ -108,6 +109,13 @@ public class InterceptedSubclassFactory<T> extends ProxyFactory<T> {
         return PROXY_SUFFIX;
     }
 
+    @Override
+    protected void addDigestInputs(List<String> inputs) {
+        // Enhanced methods which are not intercepted only invoke the superclass method
+        addDigestInputs(inputs, "enhanced ", enhancedMethodSignatures);
+        addDigestInputs(inputs, "intercepted ", interceptedMethodSignatures);
+    }
+
     @Override
     protected void addMethods(ClassFile proxyClassType, ClassMethod staticConstructor) {
         // Add all class methods for interception
@@ -44,10 +44,12 @@ public class InterceptionDecorationContext {
         private boolean removeWhenEmpty;
         private final Deque<CombinedInterceptorAndDecoratorStackMethodHandler> elements;
         private final ThreadLocal<Stack> interceptionContexts;
+        private final Thread thread;
         private boolean valid;
 
         private Stack(ThreadLocal<Stack> interceptionContexts) {
             this.interceptionContexts = interceptionContexts;
+            this.thread = Thread.currentThread();
             this.elements = new ArrayDeque<CombinedInterceptorAndDecoratorStackMethodHandler>();
             /*
              * Setting / removing of a thread-local is much more expensive compared to get. Therefore,
@@ -125,6 +127,16 @@ public class InterceptionDecorationContext {
             return elements.size();
         }
 
+        /**
+         * A valid stack is always the one bound to its thread. Therefore, a stack obtained earlier may be used instead of looking up the thread-local again as long
+         * as it is still valid and the current thread is the one it was created for.
+         *
+         * @return true if this stack is the current stack of the current thread
+         */
+        boolean isCurrent() {
+            return valid && thread == Thread.currentThread();
+        }
+
         @Override
         public String toString() {
             return "Stack [valid=" + valid + ", cached=" + !removeWhenEmpty + ", elements=" + elements + "]";
@@ -203,6 +215,25 @@ public class InterceptionDecorationContext {
         return null;
     }
 
+    /**
+     * Pushes the given context to the given stack if the given stack is the current stack of the current thread. Otherwise, this method behaves exactly as
+     * {@link #startIfNotOnTop(CombinedInterceptorAndDecoratorStackMethodHandler)}. This allows callers that already obtained the stack to avoid the
+     * thread-local lookup, e.g. when an interceptor proceeds in the same thread in which the interceptor chain was started.
+     *
+     * @param stack the stack obtained previously, may be null
+     * @param context the given context
+     * @return the stack the given context was pushed to or null if the given context was on top already
+     */
+    public static Stack startIfNotOnTop(Stack stack, CombinedInterceptorAndDecoratorStackMethodHandler context) {
+        if (stack == null || !stack.isCurrent()) {
+            return startIfNotOnTop(context);
+        }
+        if (stack.startIfNotOnTop(context)) {
+            return stack;
+        }
+        return null;
+    }
+
     /**
      * Gets the current Stack. If the stack is not set, a new empty instance is created and set.
      * @return
@@ -18,6 +18,7 @@ package org.jboss.weld.bean.proxy;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
@@ -45,7 +46,9 @@ import org.jboss.weld.util.cache.ComputingCacheBuilder;
 /**
  * Allows to share data required for effective {@link InterceptionFactory} implementation.
  * <p>
- * This is a per-BeanManager service.
+ * This is a per-BeanManager service. Configured types are compared structurally (see {@link AnnotatedTypes#createTypeId(AnnotatedType)}) so that identical
+ * configurations share a single interception model. Moreover, the intercepted proxy class only depends on the set of enhanced and intercepted methods and
+ * therefore it is shared by all the configurations of the same type which intercept the same methods.
  *
  * @author Martin Kouba
  */
@@ -55,12 +58,17 @@ public class InterceptionFactoryDataCache implements Service {
 
     private final ComputingCache<Key, Optional<InterceptionFactoryData<?>>> cache;
 
+    private final ComputingCache<ProxyKey, InterceptedProxyFactory<?>> proxyFactories;
+
     /**
      *
      * @param beanManager
      */
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public InterceptionFactoryDataCache(BeanManagerImpl beanManager) {
+        this.proxyFactories = ComputingCacheBuilder.newBuilder().<ProxyKey, InterceptedProxyFactory<?>> build((key) -> new InterceptedProxyFactory<>(
+                beanManager.getContextId(), key.javaClass, Collections.singleton(key.javaClass), key.enhancedMethodSignatures, key.interceptedMethodSignatures,
+                "" + INDEX.incrementAndGet()));
         this.cache = ComputingCacheBuilder.newBuilder().<Key, Optional<InterceptionFactoryData<?>>> build((key) -> {
 
             ClassTransformer classTransformer = beanManager.getServices().get(ClassTransformer.class);
@@ -92,8 +100,8 @@ public class InterceptionFactoryDataCache implements Service {
                     interceptedMethodSignatures.add(MethodSignatureImpl.of(method));
                 }
             }
-            InterceptedProxyFactory<?> proxyFactory = new InterceptedProxyFactory<>(beanManager.getContextId(), enhancedAnnotatedType.getJavaClass(),
-                    Collections.singleton(enhancedAnnotatedType.getJavaClass()), enhancedMethodSignatures, interceptedMethodSignatures, "" + idx);
+            InterceptedProxyFactory<?> proxyFactory = proxyFactories
+                    .getValue(new ProxyKey(enhancedAnnotatedType.getJavaClass(), enhancedMethodSignatures, interceptedMethodSignatures));
 
             InterceptionFactoryData data = new InterceptionFactoryData(proxyFactory, slimAnnotatedType, interceptionModel);
             return Optional.of(data);
@@ -112,6 +120,7 @@ public class InterceptionFactoryDataCache implements Service {
     @Override
     public void cleanup() {
         cache.clear();
+        proxyFactories.clear();
     }
 
     public static class InterceptionFactoryData<T> {
@@ -144,6 +153,43 @@ public class InterceptionFactoryDataCache implements Service {
 
     }
 
+    private static class ProxyKey {
+
+        private final Class<?> javaClass;
+
+        private final Set<MethodSignature> enhancedMethodSignatures;
+
+        private final Set<MethodSignature> interceptedMethodSignatures;
+
+        private final int hashCode;
+
+        ProxyKey(Class<?> javaClass, Set<MethodSignature> enhancedMethodSignatures, Set<MethodSignature> interceptedMethodSignatures) {
+            this.javaClass = javaClass;
+            this.enhancedMethodSignatures = enhancedMethodSignatures;
+            this.interceptedMethodSignatures = interceptedMethodSignatures;
+            this.hashCode = Objects.hash(javaClass, enhancedMethodSignatures, interceptedMethodSignatures);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ProxyKey)) {
+                return false;
+            }
+            ProxyKey other = (ProxyKey) obj;
+            return javaClass.equals(other.javaClass) && enhancedMethodSignatures.equals(other.enhancedMethodSignatures)
+                    && interceptedMethodSignatures.equals(other.interceptedMethodSignatures);
+        }
+
+    }
+
     private static class Key {
 
         private final String typeId;
@@ -0,0 +1,263 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.proxy;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.logging.BeanLogger;
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.jboss.weld.resources.spi.ResourceLoadingException;
+
+/**
+ * Allows to generate the proxy classes ahead of time.
+ * <p>
+ * If {@link ConfigurationKey#PROXY_ARCHIVE} is set, the bytecode of all the proxy classes generated by {@link ProxyFactory} (client proxies, intercepted
+ * subclasses and decorator proxies) is recorded and written into a JAR file when the container is shut down. Besides the class files the archive contains
+ * an index of the proxy classes - {@value #INDEX}.
+ * <p>
+ * If such an archive is available to the application, the bytecode of the proxy classes listed in the index is read from the archive and no bytecode is
+ * generated for them. The pre-generated class is defined in the same class loader a generated proxy class would be defined in. Each class name in the index
+ * is accompanied by a digest of the proxied types and the other inputs of the bytecode generation, e.g. the intercepted methods (see {@link #digest(List)}).
+ * If the digest does not match, e.g. the bean class was modified or an interceptor was enabled after the archive had been generated, the pre-generated class
+ * is ignored and the proxy class is generated as usual. The pre-generated classes which are used are recorded the same way as the generated ones.
+ */
+public class ProxyClassArchive implements Service {
+
+    /**
+     * The index of the pre-generated proxy classes, one class name and the digest of the proxied types per line.
+     */
+    public static final String INDEX = "META-INF/org.jboss.weld.proxies";
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final char INDEX_SEPARATOR = ' ';
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private final File archive;
+
+    private final ConcurrentMap<String, GeneratedProxyClass> generated;
+
+    private final ConcurrentMap<String, PregeneratedProxyClass> pregenerated;
+
+    public ProxyClassArchive(WeldConfiguration configuration, ResourceLoader resourceLoader) {
+        String path = configuration.getStringProperty(ConfigurationKey.PROXY_ARCHIVE);
+        if (path.isEmpty()) {
+            this.archive = null;
+            this.generated = null;
+        } else {
+            this.archive = new File(path);
+            this.generated = new ConcurrentHashMap<String, GeneratedProxyClass>();
+        }
+        this.pregenerated = readIndex(resourceLoader);
+    }
+
+    /**
+     * A pre-generated proxy class is only returned once - the proxy class is either defined afterwards or it's generated and defined.
+     *
+     * @param className
+     * @return the pre-generated proxy class listed in an index of pre-generated proxy classes or <code>null</code> if no such class is listed
+     */
+    PregeneratedProxyClass removePregenerated(String className) {
+        return pregenerated.isEmpty() ? null : pregenerated.remove(className);
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the generated proxy classes are recorded, <code>false</code> otherwise
+     */
+    boolean isRecording() {
+        return generated != null;
+    }
+
+    /**
+     * Records the bytecode of a generated proxy class if the proxy class archive should be written.
+     *
+     * @param className
+     * @param digest the digest of the proxied types
+     * @param bytecode
+     */
+    void generated(String className, String digest, byte[] bytecode) {
+        if (generated != null) {
+            generated.put(className, new GeneratedProxyClass(digest, bytecode));
+        }
+    }
+
+    /**
+     * Computes the digest of the proxied types. A pre-generated proxy class is only used if the digest of its proxied types did not change.
+     *
+     * @param members the string representations of the proxied types and their members, the order is not significant
+     * @return the hex-encoded digest
+     */
+    static String digest(List<String> members) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        Collections.sort(members);
+        for (String member : members) {
+            digest.update(member.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+        }
+        StringBuilder builder = new StringBuilder();
+        for (byte b : digest.digest()) {
+            builder.append(String.format("%02x", b));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public void cleanup() {
+        if (generated == null || generated.isEmpty()) {
+            return;
+        }
+        // Sort the entries so that the archive content is stable
+        Map<String, GeneratedProxyClass> classes = new TreeMap<String, GeneratedProxyClass>(generated);
+        File parent = archive.getAbsoluteFile().getParentFile();
+        if (!parent.isDirectory() && !parent.mkdirs()) {
+            BeanLogger.LOG.directoryCannotBeCreated(parent);
+            return;
+        }
+        try (OutputStream out = Files.newOutputStream(archive.toPath()); JarOutputStream jar = new JarOutputStream(out)) {
+            StringBuilder index = new StringBuilder();
+            for (Map.Entry<String, GeneratedProxyClass> entry : classes.entrySet()) {
+                jar.putNextEntry(new JarEntry(toPath(entry.getKey())));
+                jar.write(entry.getValue().bytecode);
+                jar.closeEntry();
+                index.append(entry.getKey()).append(INDEX_SEPARATOR).append(entry.getValue().digest).append('\n');
+            }
+            jar.putNextEntry(new JarEntry(INDEX));
+            jar.write(index.toString().getBytes(StandardCharsets.UTF_8));
+            jar.closeEntry();
+        } catch (IOException e) {
+            BeanLogger.LOG.proxyClassArchiveCannotBeWritten(archive, e);
+            return;
+        }
+        BeanLogger.LOG.proxyClassArchiveWritten(classes.size(), archive);
+        generated.clear();
+    }
+
+    private static ConcurrentMap<String, PregeneratedProxyClass> readIndex(ResourceLoader resourceLoader) {
+        ConcurrentMap<String, PregeneratedProxyClass> classes = new ConcurrentHashMap<String, PregeneratedProxyClass>();
+        for (URL index : resourceLoader.getResources(INDEX)) {
+            // The class files are located in the same archive or directory as the index
+            String base = index.toString();
+            base = base.substring(0, base.length() - INDEX.length());
+            try (InputStream in = index.openStream(); BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String line = reader.readLine();
+                while (line != null) {
+                    line = line.trim();
+                    if (!line.isEmpty()) {
+                        int separator = line.indexOf(INDEX_SEPARATOR);
+                        // An index without digests was written by a previous version and is never used
+                        String className = separator != -1 ? line.substring(0, separator) : line;
+                        String digest = separator != -1 ? line.substring(separator + 1).trim() : null;
+                        classes.putIfAbsent(className, new PregeneratedProxyClass(digest, new URL(base + toPath(className))));
+                    }
+                    line = reader.readLine();
+                }
+            } catch (IOException e) {
+                throw new ResourceLoadingException(e);
+            }
+            BeanLogger.LOG.pregeneratedProxyClassesFound(classes.size(), index);
+        }
+        return classes;
+    }
+
+    private static String toPath(String className) {
+        return className.replace('.', '/') + CLASS_FILE_SUFFIX;
+    }
+
+    private static final class GeneratedProxyClass {
+
+        private final String digest;
+
+        private final byte[] bytecode;
+
+        private GeneratedProxyClass(String digest, byte[] bytecode) {
+            this.digest = digest;
+            this.bytecode = bytecode;
+        }
+
+    }
+
+    static final class PregeneratedProxyClass {
+
+        private final String digest;
+
+        private final URL classFile;
+
+        private PregeneratedProxyClass(String digest, URL classFile) {
+            this.digest = digest;
+            this.classFile = classFile;
+        }
+
+        /**
+         *
+         * @param digest the digest of the current proxied types
+         * @return <code>true</code> if the class was generated for the same proxied types, <code>false</code> otherwise
+         */
+        boolean matches(String digest) {
+            return digest.equals(this.digest);
+        }
+
+        byte[] readBytecode() throws IOException {
+            try (InputStream in = classFile.openStream(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int read = in.read(buffer);
+                while (read != -1) {
+                    out.write(buffer, 0, read);
+                    read = in.read(buffer);
+                }
+                return out.toByteArray();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return classFile.toString();
+        }
+
+    }
+
+}
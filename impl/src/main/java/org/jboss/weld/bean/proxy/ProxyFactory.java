@@ -52,6 +52,7 @@ import org.jboss.classfilewriter.code.CodeAttribute;
 import org.jboss.classfilewriter.util.Boxing;
 import org.jboss.classfilewriter.util.DescriptorUtils;
 import org.jboss.weld.Container;
+import org.jboss.weld.annotated.enhanced.MethodSignature;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.exceptions.DefinitionException;
 import org.jboss.weld.exceptions.WeldException;
@@ -107,6 +108,8 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
 
     private final ProxyInstantiator proxyInstantiator;
 
+    private final ProxyClassArchive proxyClassArchive;
+
     protected static final BytecodeMethodResolver DEFAULT_METHOD_RESOLVER = new DefaultBytecodeMethodResolver();
 
     protected static final String LJAVA_LANG_REFLECT_METHOD = "Ljava/lang/reflect/Method;";
@@ -191,7 +194,8 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
         this.bean = bean;
         this.contextId = contextId;
         this.proxiedBeanType = proxiedBeanType;
-        this.configuration = Container.instance(contextId).deploymentManager().getServices().get(WeldConfiguration.class);
+        final Container container = Container.instance(contextId);
+        this.configuration = container.deploymentManager().getServices().get(WeldConfiguration.class);
         addInterfacesFromTypeClosure(typeClosure, proxiedBeanType);
         TypeInfo typeInfo = TypeInfo.of(typeClosure);
         Class<?> superClass = typeInfo.getSuperClass();
@@ -220,7 +224,8 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
             additionalInterfaces.addAll(sorted);
         }
 
-        this.proxyInstantiator = Container.instance(contextId).services().get(ProxyInstantiator.class);
+        this.proxyInstantiator = container.services().get(ProxyInstantiator.class);
+        this.proxyClassArchive = container.services().get(ProxyClassArchive.class);
     }
 
     static String getProxyName(String contextId, Class<?> proxiedBeanType, Set<? extends Type> typeClosure, Bean<?> bean) {
@@ -362,23 +367,34 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
             proxyClassName = proxyClassName.replaceFirst(JAVA, "org.jboss.weld");
         }
         Class<T> proxyClass = null;
+        ProxyClassArchive.PregeneratedProxyClass pregenerated = proxyClassArchive != null ? proxyClassArchive.removePregenerated(proxyClassName) : null;
+        if (pregenerated != null) {
+            proxyClass = definePregeneratedProxyClass(proxyClassName, pregenerated);
+            if (proxyClass != null) {
+                return proxyClass;
+            }
+        }
         BeanLogger.LOG.generatingProxyClass(proxyClassName);
+        // First check to see if we already have this proxy class
+        // A class listed in the proxy class archive is not loaded - the class loader could load the ignored class from the archive
+        if (pregenerated == null) {
+            try {
+                return cast(classLoader.loadClass(proxyClassName));
+            } catch (ClassNotFoundException e) {
+                // the proxy class is created below
+            }
+        }
+        // Create the proxy class for this instance
         try {
-            // First check to see if we already have this proxy class
-            proxyClass = cast(classLoader.loadClass(proxyClassName));
-        } catch (ClassNotFoundException e) {
-            // Create the proxy class for this instance
+            proxyClass = createProxyClass(proxyClassName);
+        } catch (Throwable e1) {
+            //attempt to load the class again, just in case another thread
+            //defined it between the check and the create method
             try {
-                proxyClass = createProxyClass(proxyClassName);
-            } catch (Throwable e1) {
-                //attempt to load the class again, just in case another thread
-                //defined it between the check and the create method
-                try {
-                    proxyClass = cast(classLoader.loadClass(proxyClassName));
-                } catch (ClassNotFoundException e2) {
-                    BeanLogger.LOG.catchingDebug(e1);
-                    throw BeanLogger.LOG.unableToLoadProxyClass(bean, proxiedBeanType, classLoader, e1);
-                }
+                proxyClass = cast(classLoader.loadClass(proxyClassName));
+            } catch (ClassNotFoundException e2) {
+                BeanLogger.LOG.catchingDebug(e1);
+                throw BeanLogger.LOG.unableToLoadProxyClass(bean, proxiedBeanType, classLoader, e1);
             }
         }
         return proxyClass;
@@ -393,6 +409,15 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
         return baseProxyName;
     }
 
+    /**
+     * Returns the class loader the proxy class is defined in.
+     *
+     * @return the class loader of the proxy class
+     */
+    protected ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
     /**
      * Convenience method to set the underlying bean instance for a proxy.
      *
@@ -430,6 +455,8 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
     }
 
     private Class<T> createProxyClass(String proxyClassName) throws Exception {
+        // The digest is computed before the special interfaces are removed, the same way the digest of a pre-generated proxy class is
+        String digest = proxyClassArchive != null && proxyClassArchive.isRecording() ? getProxiedTypesDigest() : null;
         Set<Class<?>> specialInterfaces = Sets.newHashSet(LifecycleMixin.class, TargetInstanceProxy.class, ProxyObject.class);
         addAdditionalInterfaces(specialInterfaces);
         // Remove special interfaces from main set (deserialization scenario)
@@ -466,8 +493,18 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
         // which PD to use
 
         // Dump proxy type bytecode if necessary
-        dumpToFile(proxyClassName, proxyClassType.toBytecode());
+        byte[] bytecode = proxyClassType.toBytecode();
+        dumpToFile(proxyClassName, bytecode);
+        if (digest != null) {
+            proxyClassArchive.generated(proxyClassName, digest, bytecode);
+        }
 
+        Class<T> proxyClass = cast(ClassFileUtils.toClass(proxyClassType, classLoader, getProtectionDomain()));
+        BeanLogger.LOG.createdProxyClass(proxyClass, Arrays.toString(proxyClass.getInterfaces()));
+        return proxyClass;
+    }
+
+    private ProtectionDomain getProtectionDomain() {
         ProtectionDomain domain = AccessController.doPrivileged(new GetProtectionDomainAction(proxiedBeanType));
 
         if (proxiedBeanType.getPackage() == null || proxiedBeanType.equals(Object.class)) {
@@ -476,11 +513,118 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
             ProtectionDomainCache cache = Container.instance(contextId).services().get(ProtectionDomainCache.class);
             domain = cache.getProtectionDomainForProxy(domain);
         }
-        Class<T> proxyClass = cast(ClassFileUtils.toClass(proxyClassType, classLoader, domain));
-        BeanLogger.LOG.createdProxyClass(proxyClass, Arrays.toString(proxyClass.getInterfaces()));
+        return domain;
+    }
+
+    /**
+     * The pre-generated proxy class is defined in the class loader a generated proxy class would be defined in. Loading the class from the proxy class archive
+     * could end up in a different class loader, i.e. in a different runtime package than the proxied type.
+     *
+     * @param proxyClassName
+     * @param pregenerated
+     * @return the pre-generated proxy class or <code>null</code> if the proxy class must be generated
+     */
+    private Class<T> definePregeneratedProxyClass(String proxyClassName, ProxyClassArchive.PregeneratedProxyClass pregenerated) {
+        String digest = getProxiedTypesDigest();
+        if (!pregenerated.matches(digest)) {
+            BeanLogger.LOG.pregeneratedProxyClassOutdated(proxyClassName, pregenerated);
+            return null;
+        }
+        byte[] bytecode;
+        try {
+            bytecode = pregenerated.readBytecode();
+        } catch (IOException e) {
+            BeanLogger.LOG.catchingDebug(e);
+            BeanLogger.LOG.pregeneratedProxyClassNotLoaded(proxyClassName, classLoader);
+            return null;
+        }
+        Class<T> proxyClass = null;
+        try {
+            proxyClass = cast(ClassFileUtils.toClass(proxyClassName, bytecode, classLoader, getProtectionDomain()));
+            BeanLogger.LOG.createdProxyClass(proxyClass, Arrays.toString(proxyClass.getInterfaces()));
+        } catch (RuntimeException | LinkageError e) {
+            BeanLogger.LOG.catchingDebug(e);
+            proxyClass = loadDefinedProxyClass(proxyClassName);
+        }
+        if (proxyClass == null) {
+            BeanLogger.LOG.pregeneratedProxyClassNotLoaded(proxyClassName, classLoader);
+            return null;
+        }
+        // A reused class is recorded the same way as a generated one so that a regenerated archive contains it
+        proxyClassArchive.generated(proxyClassName, digest, bytecode);
         return proxyClass;
     }
 
+    /**
+     * The class may have been defined already, e.g. by another container.
+     *
+     * @param proxyClassName
+     * @return the proxy class defined in the class loader of the proxy or <code>null</code>
+     */
+    private Class<T> loadDefinedProxyClass(String proxyClassName) {
+        try {
+            Class<T> proxyClass = cast(classLoader.loadClass(proxyClassName));
+            if (proxyClass.getClassLoader() == classLoader) {
+                return proxyClass;
+            }
+        } catch (ClassNotFoundException | LinkageError e) {
+            BeanLogger.LOG.catchingDebug(e);
+        }
+        return null;
+    }
+
+    /**
+     * The digest covers the proxied types, their supertypes and all the members and annotations the proxy class is generated from, plus the inputs added by
+     * {@link #addDigestInputs(List)}.
+     *
+     * @return the digest of the proxied types
+     * @see ProxyClassArchive#digest(List)
+     */
+    private String getProxiedTypesDigest() {
+        Set<Class<?>> types = new HashSet<Class<?>>();
+        addProxiedType(types, getBeanType());
+        for (Class<?> additionalInterface : additionalInterfaces) {
+            addProxiedType(types, additionalInterface);
+        }
+        List<String> members = new ArrayList<String>();
+        for (Class<?> type : types) {
+            members.add(type.getModifiers() + type.getName() + Arrays.toString(type.getDeclaredAnnotations()));
+            for (Constructor<?> constructor : AccessController.doPrivileged(new GetDeclaredConstructorsAction(type))) {
+                members.add(constructor.toGenericString() + Arrays.toString(constructor.getDeclaredAnnotations()));
+            }
+            for (Method method : AccessController.doPrivileged(new GetDeclaredMethodsAction(type))) {
+                members.add(method.toGenericString() + Arrays.toString(method.getDeclaredAnnotations()));
+            }
+        }
+        addDigestInputs(members);
+        return ProxyClassArchive.digest(members);
+    }
+
+    /**
+     * Sub classes may override to add the inputs of the bytecode generation which are not part of the proxied types, e.g. the set of intercepted methods.
+     * A pre-generated proxy class is only used if these inputs did not change either. The order of the inputs is not significant.
+     *
+     * @param inputs
+     */
+    protected void addDigestInputs(List<String> inputs) {
+    }
+
+    static void addDigestInputs(List<String> inputs, String kind, Set<MethodSignature> signatures) {
+        for (MethodSignature signature : signatures) {
+            inputs.add(kind + signature.getMethodName() + Arrays.toString(signature.getParameterTypes()));
+        }
+    }
+
+    private static void addProxiedType(Set<Class<?>> types, Class<?> type) {
+        if (type == null || type == Object.class || !types.add(type)) {
+            return;
+        }
+        addProxiedType(types, type.getSuperclass());
+        for (Class<?> interfaceType : type.getInterfaces()) {
+            addProxiedType(types, interfaceType);
+        }
+    }
+
     private ClassFile newClassFile(String name, int accessFlags, String superclass, String... interfaces) {
         try {
             if (CONFIGURABLE_CLASSLOADER_CONSTRUCTOR != null) {
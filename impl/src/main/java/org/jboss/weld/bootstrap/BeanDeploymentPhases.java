@@ -0,0 +1,93 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.executor.AbstractExecutorServices;
+import org.jboss.weld.executor.ProfilingExecutorServices;
+import org.jboss.weld.logging.BootstrapLogger;
+import org.jboss.weld.manager.api.ExecutorServices;
+
+/**
+ * Performs a single bootstrap phase for all the bean deployments. Each phase acts as a barrier - the next phase is not started until all the bean
+ * deployments complete the current one. Therefore, the ordering required across the bean deployment archives (e.g. by specialization) is preserved as
+ * long as the dependent operations are performed in separate phases.
+ * <p>
+ * If concurrent deployment is enabled and there is more than one bean deployment, the bean deployments are processed concurrently. Only
+ * {@link AbstractExecutorServices} is used as it supports nested invocations from within a task - a bean deployment is processed concurrently itself, see
+ * {@link ConcurrentBeanDeployer}.
+ */
+class BeanDeploymentPhases {
+
+    private final ExecutorServices executor;
+
+    BeanDeploymentPhases(ServiceRegistry services) {
+        ExecutorServices executor = services.get(ExecutorServices.class);
+        if (executor != null && services.get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.CONCURRENT_DEPLOYMENT)
+                && supportsNestedInvocations(executor)) {
+            this.executor = executor;
+        } else {
+            this.executor = null;
+        }
+    }
+
+    /**
+     * Performs the given action for each bean deployment and waits until all the actions are completed.
+     *
+     * @param phase the name of the phase, used for logging
+     * @param deployments
+     * @param action
+     */
+    void run(String phase, Collection<BeanDeployment> deployments, Consumer<BeanDeployment> action) {
+        final long start = System.nanoTime();
+        final boolean concurrent = executor != null && deployments.size() > 1;
+        if (concurrent) {
+            List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(deployments.size());
+            for (BeanDeployment deployment : deployments) {
+                tasks.add(() -> {
+                    action.accept(deployment);
+                    return null;
+                });
+            }
+            executor.invokeAllAndCheckForExceptions(tasks);
+        } else {
+            for (BeanDeployment deployment : deployments) {
+                action.accept(deployment);
+            }
+        }
+        if (BootstrapLogger.LOG.isDebugEnabled()) {
+            BootstrapLogger.LOG.bootstrapPhaseCompleted(phase, deployments.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), concurrent);
+        }
+    }
+
+    private static boolean supportsNestedInvocations(ExecutorServices executor) {
+        if (executor instanceof ProfilingExecutorServices) {
+            return supportsNestedInvocations(((ProfilingExecutorServices) executor).getDelegate());
+        }
+        return executor instanceof AbstractExecutorServices;
+    }
+
+}
@@ -0,0 +1,338 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.AccessController;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.InjectionPoint;
+import javax.enterprise.inject.spi.ObserverMethod;
+import javax.enterprise.inject.spi.Producer;
+
+import org.jboss.weld.bootstrap.enablement.ModuleEnablement;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.injection.producer.InjectionTargetService;
+import org.jboss.weld.logging.BootstrapLogger;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.security.GetDeclaredConstructorsAction;
+import org.jboss.weld.security.GetDeclaredFieldsAction;
+import org.jboss.weld.security.GetDeclaredMethodsAction;
+import org.jboss.weld.util.reflection.Formats;
+
+/**
+ * A snapshot of a successfully validated deployment. The snapshot file holds a fingerprint of the deployment metadata the validation depends on - the
+ * configuration, the enablement and the accessible bean deployment archives of each bean deployment archive, the beans (types, qualifiers, scope, name,
+ * injection points), the observer methods, the injection points of the producers created by portable extensions, the structure of the bean classes
+ * (modifiers, signatures and annotations of the constructors, methods and fields of the whole hierarchy) and the definitions of all the annotations used
+ * (e.g. the {@link javax.enterprise.util.Nonbinding} members of a qualifier or the meta-annotations of a stereotype).
+ * <p>
+ * If the fingerprint of the current deployment matches the snapshot, the result of the validation is known in advance and the validation is skipped. The
+ * fingerprint is computed from the metadata already built during the bootstrap and does not require any injection point to be resolved. Therefore, it is
+ * much cheaper than the validation itself.
+ *
+ * @see ConfigurationKey#DEPLOYMENT_SNAPSHOT
+ */
+class DeploymentSnapshot {
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private static final char SEPARATOR = '|';
+
+    private static final int HEX_SHIFT = 4;
+
+    private static final int HEX_MASK = 0xF;
+
+    private static final int HEX_RADIX = 16;
+
+    private final File file;
+
+    private final String fingerprint;
+
+    DeploymentSnapshot(File file, WeldConfiguration configuration, Collection<BeanDeployment> deployments) {
+        this.file = file;
+        this.fingerprint = fingerprint(configuration, deployments);
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the snapshot file exists and matches the current deployment, <code>false</code> otherwise
+     */
+    boolean matches() {
+        if (!file.isFile()) {
+            return false;
+        }
+        try {
+            return fingerprint.equals(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8).trim());
+        } catch (IOException e) {
+            BootstrapLogger.LOG.catchingDebug(e);
+            return false;
+        }
+    }
+
+    /**
+     * Writes the snapshot of the current deployment. The snapshot is written to a temporary file first and then moved to the target location so that a
+     * concurrently starting process never reads a partially written snapshot.
+     */
+    void store() {
+        Path target = file.toPath();
+        Path temp = new File(file.getPath() + TEMP_SUFFIX).toPath();
+        try {
+            File parent = file.getAbsoluteFile().getParentFile();
+            if (parent != null) {
+                Files.createDirectories(parent.toPath());
+            }
+            Files.write(temp, fingerprint.getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            BootstrapLogger.LOG.deploymentSnapshotCannotBeWritten(file, e);
+        }
+    }
+
+    File getFile() {
+        return file;
+    }
+
+    private static String fingerprint(WeldConfiguration configuration, Collection<BeanDeployment> deployments) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        update(digest, Formats.version(null));
+        for (ConfigurationKey key : ConfigurationKey.values()) {
+            update(digest, key.get() + SEPARATOR + getProperty(configuration, key));
+        }
+        // The order of bean deployments and beans is not stable
+        List<BeanDeployment> sortedDeployments = new ArrayList<BeanDeployment>(deployments);
+        Collections.sort(sortedDeployments, (d1, d2) -> d1.getBeanManager().getId().compareTo(d2.getBeanManager().getId()));
+        Set<Class<?>> processedClasses = new HashSet<Class<?>>();
+        Set<Class<? extends Annotation>> annotationTypes = new HashSet<Class<? extends Annotation>>();
+        for (BeanDeployment deployment : sortedDeployments) {
+            BeanManagerImpl beanManager = deployment.getBeanManager();
+            update(digest, beanManager.getId());
+            // The accessibility of other bean deployments affects the resolution
+            List<String> accessibleManagers = new ArrayList<String>();
+            for (BeanManagerImpl accessibleManager : beanManager.getAccessibleManagers()) {
+                accessibleManagers.add(accessibleManager.getId());
+            }
+            Collections.sort(accessibleManagers);
+            update(digest, accessibleManagers.toString());
+            ModuleEnablement enablement = beanManager.getEnabled();
+            // The order of enabled interceptors and decorators is significant
+            update(digest, enablement.getInterceptors().toString() + SEPARATOR + enablement.getDecorators() + SEPARATOR + sort(enablement.getAllAlternatives()));
+            List<String> entries = new ArrayList<String>();
+            List<Class<?>> beanClasses = new ArrayList<Class<?>>();
+            addBeans(entries, beanClasses, annotationTypes, beanManager.getBeans());
+            addBeans(entries, beanClasses, annotationTypes, beanManager.getDecorators());
+            addBeans(entries, beanClasses, annotationTypes, beanManager.getInterceptors());
+            for (ObserverMethod<?> observer : beanManager.getObservers()) {
+                entries.add(observer.getClass().getName() + SEPARATOR + observer.getBeanClass().getName() + SEPARATOR + observer.getObservedType().getTypeName()
+                        + SEPARATOR + sort(observer.getObservedQualifiers()) + SEPARATOR + observer.getReception() + SEPARATOR
+                        + observer.getTransactionPhase() + SEPARATOR + observer.isAsync() + SEPARATOR + observer.getPriority());
+                addAnnotationTypes(annotationTypes, observer.getObservedQualifiers());
+            }
+            // Producers and injection targets created by portable extensions are validated together with the beans
+            for (Producer<?> producer : beanManager.getServices().get(InjectionTargetService.class).getProducersToValidate()) {
+                entries.add(producer.getClass().getName() + SEPARATOR + getInjectionPoints(producer.getInjectionPoints(), annotationTypes));
+            }
+            for (Class<?> beanClass : beanClasses) {
+                addClassStructure(entries, beanClass, processedClasses, annotationTypes);
+            }
+            Collections.sort(entries);
+            for (String entry : entries) {
+                update(digest, entry);
+            }
+        }
+        // The definitions of qualifiers, stereotypes and interceptor bindings, e.g. @Nonbinding members
+        List<String> annotationEntries = new ArrayList<String>();
+        Set<Class<? extends Annotation>> processedAnnotationTypes = new HashSet<Class<? extends Annotation>>();
+        for (Class<? extends Annotation> annotationType : annotationTypes) {
+            addAnnotationDefinition(annotationEntries, annotationType, processedAnnotationTypes);
+        }
+        Collections.sort(annotationEntries);
+        for (String entry : annotationEntries) {
+            update(digest, entry);
+        }
+        return toHex(digest.digest());
+    }
+
+    private static void addBeans(List<String> entries, List<Class<?>> beanClasses, Set<Class<? extends Annotation>> annotationTypes,
+            Iterable<? extends Bean<?>> beans) {
+        for (Bean<?> bean : beans) {
+            StringBuilder builder = new StringBuilder();
+            builder.append(bean.getClass().getName()).append(SEPARATOR);
+            builder.append(bean.getBeanClass().getName()).append(SEPARATOR);
+            builder.append(bean.getScope().getName()).append(SEPARATOR);
+            builder.append(bean.getName()).append(SEPARATOR);
+            builder.append(bean.isAlternative()).append(SEPARATOR);
+            builder.append(sortTypes(bean.getTypes())).append(SEPARATOR);
+            builder.append(sort(bean.getQualifiers())).append(SEPARATOR);
+            builder.append(sort(bean.getStereotypes()));
+            builder.append(getInjectionPoints(bean.getInjectionPoints(), annotationTypes));
+            entries.add(builder.toString());
+            beanClasses.add(bean.getBeanClass());
+            addAnnotationTypes(annotationTypes, bean.getQualifiers());
+            annotationTypes.addAll(bean.getStereotypes());
+        }
+    }
+
+    private static List<String> getInjectionPoints(Set<InjectionPoint> injectionPoints, Set<Class<? extends Annotation>> annotationTypes) {
+        List<String> sorted = new ArrayList<String>();
+        for (InjectionPoint injectionPoint : injectionPoints) {
+            sorted.add(injectionPoint.getType().getTypeName() + SEPARATOR + sort(injectionPoint.getQualifiers()) + SEPARATOR + injectionPoint.isDelegate()
+                    + SEPARATOR + injectionPoint.isTransient() + SEPARATOR + injectionPoint.getMember());
+            addAnnotationTypes(annotationTypes, injectionPoint.getQualifiers());
+        }
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    private static void addAnnotationTypes(Set<Class<? extends Annotation>> annotationTypes, Iterable<Annotation> annotations) {
+        for (Annotation annotation : annotations) {
+            annotationTypes.add(annotation.annotationType());
+        }
+    }
+
+    private static void addAnnotationTypes(Set<Class<? extends Annotation>> annotationTypes, Annotation[]... annotations) {
+        for (Annotation[] array : annotations) {
+            addAnnotationTypes(annotationTypes, Arrays.asList(array));
+        }
+    }
+
+    /**
+     * Adds the definition of the given annotation type and of its meta-annotations, e.g. the interceptor bindings and stereotypes declared on a stereotype.
+     */
+    private static void addAnnotationDefinition(List<String> entries, Class<? extends Annotation> annotationType,
+            Set<Class<? extends Annotation>> processedAnnotationTypes) {
+        if (!processedAnnotationTypes.add(annotationType)) {
+            return;
+        }
+        List<String> members = new ArrayList<String>();
+        for (Method method : AccessController.doPrivileged(new GetDeclaredMethodsAction(annotationType))) {
+            members.add(method.toGenericString() + Arrays.toString(method.getDeclaredAnnotations()) + SEPARATOR
+                    + Arrays.deepToString(new Object[] { method.getDefaultValue() }));
+        }
+        Collections.sort(members);
+        Annotation[] metaAnnotations = annotationType.getDeclaredAnnotations();
+        entries.add(annotationType.getModifiers() + annotationType.getName() + Arrays.toString(metaAnnotations) + members);
+        for (Annotation metaAnnotation : metaAnnotations) {
+            addAnnotationDefinition(entries, metaAnnotation.annotationType(), processedAnnotationTypes);
+        }
+    }
+
+    private static void addClassStructure(List<String> entries, Class<?> clazz, Set<Class<?>> processedClasses,
+            Set<Class<? extends Annotation>> annotationTypes) {
+        Class<?> current = clazz;
+        while (current != null && current != Object.class && processedClasses.add(current)) {
+            List<String> members = new ArrayList<String>();
+            for (Constructor<?> constructor : AccessController.doPrivileged(new GetDeclaredConstructorsAction(current))) {
+                members.add(constructor.toGenericString() + Arrays.toString(constructor.getDeclaredAnnotations())
+                        + Arrays.deepToString(constructor.getParameterAnnotations()));
+                addAnnotationTypes(annotationTypes, constructor.getDeclaredAnnotations());
+                addAnnotationTypes(annotationTypes, constructor.getParameterAnnotations());
+            }
+            for (Method method : AccessController.doPrivileged(new GetDeclaredMethodsAction(current))) {
+                members.add(method.toGenericString() + Arrays.toString(method.getDeclaredAnnotations()) + Arrays.deepToString(method.getParameterAnnotations()));
+                addAnnotationTypes(annotationTypes, method.getDeclaredAnnotations());
+                addAnnotationTypes(annotationTypes, method.getParameterAnnotations());
+            }
+            for (Field field : AccessController.doPrivileged(new GetDeclaredFieldsAction(current))) {
+                members.add(field.toGenericString() + Arrays.toString(field.getDeclaredAnnotations()));
+                addAnnotationTypes(annotationTypes, field.getDeclaredAnnotations());
+            }
+            Collections.sort(members);
+            entries.add(current.getModifiers() + current.getName() + Arrays.toString(current.getDeclaredAnnotations()) + members);
+            addAnnotationTypes(annotationTypes, current.getDeclaredAnnotations());
+            current = current.getSuperclass();
+        }
+    }
+
+    private static Object getProperty(WeldConfiguration configuration, ConfigurationKey key) {
+        Object defaultValue = key.getDefaultValue();
+        if (defaultValue instanceof Boolean) {
+            return configuration.getBooleanProperty(key);
+        } else if (defaultValue instanceof Long) {
+            return configuration.getLongProperty(key);
+        } else if (defaultValue instanceof Integer) {
+            return configuration.getIntegerProperty(key);
+        } else {
+            return configuration.getStringProperty(key);
+        }
+    }
+
+    private static List<String> sort(Collection<?> values) {
+        List<String> sorted = new ArrayList<String>(values.size());
+        for (Object value : values) {
+            sorted.add(value instanceof Class<?> ? ((Class<?>) value).getName() : value.toString());
+        }
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    private static List<String> sortTypes(Set<Type> types) {
+        List<String> sorted = new ArrayList<String>(types.size());
+        for (Type type : types) {
+            sorted.add(type.getTypeName());
+        }
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(Character.forDigit((b >> HEX_SHIFT) & HEX_MASK, HEX_RADIX));
+            builder.append(Character.forDigit(b & HEX_MASK, HEX_RADIX));
+        }
+        return builder.toString();
+    }
+
+}
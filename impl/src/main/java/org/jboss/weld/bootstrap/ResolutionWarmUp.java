@@ -0,0 +1,94 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.InjectionPoint;
+
+import org.jboss.weld.bean.RIBean;
+import org.jboss.weld.bean.proxy.ClientProxyProvider;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.resolution.ResolvableBuilder;
+import org.jboss.weld.resolution.TypeSafeBeanResolver;
+
+/**
+ * Resolves the injection points of all the beans, interceptors and decorators of a bean deployment and creates the client proxies for the normal scoped
+ * beans injected. As a result, the resolver caches which were flushed at the end of bootstrap are populated before the first request is served.
+ * <p>
+ * The injection points are resolved the same way the injectable references are looked up at runtime. A resolution problem is not reported here - the
+ * deployment is already validated and the problem would be detected on the actual injection anyway.
+ *
+ * @see org.jboss.weld.config.ConfigurationKey#WARM_UP
+ */
+class ResolutionWarmUp {
+
+    private final AtomicInteger injectionPoints = new AtomicInteger();
+
+    private final AtomicInteger clientProxies = new AtomicInteger();
+
+    void warmUp(BeanDeployment deployment) {
+        BeanManagerImpl beanManager = deployment.getBeanManager();
+        warmUp(beanManager, beanManager.getBeans());
+        warmUp(beanManager, beanManager.getInterceptors());
+        warmUp(beanManager, beanManager.getDecorators());
+    }
+
+    private void warmUp(BeanManagerImpl beanManager, Iterable<? extends Bean<?>> beans) {
+        TypeSafeBeanResolver resolver = beanManager.getBeanResolver();
+        ClientProxyProvider clientProxyProvider = beanManager.getClientProxyProvider();
+        for (Bean<?> bean : beans) {
+            for (InjectionPoint injectionPoint : bean.getInjectionPoints()) {
+                if (injectionPoint.isDelegate()) {
+                    // Delegate injection points are not resolved through the bean resolver
+                    continue;
+                }
+                Set<Bean<?>> resolved = resolver.resolve(resolver.resolve(new ResolvableBuilder(injectionPoint, beanManager).create(), true));
+                injectionPoints.incrementAndGet();
+                if (resolved.size() == 1) {
+                    Bean<?> resolvedBean = resolved.iterator().next();
+                    if (isProxyRequired(beanManager, resolvedBean)) {
+                        try {
+                            clientProxyProvider.getClientProxy(resolvedBean, injectionPoint.getType());
+                            clientProxies.incrementAndGet();
+                        } catch (RuntimeException ignored) {
+                            // The bean is not proxyable - the problem is reported when the injectable reference is looked up
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isProxyRequired(BeanManagerImpl beanManager, Bean<?> bean) {
+        if (bean instanceof RIBean<?>) {
+            return ((RIBean<?>) bean).isProxyRequired();
+        }
+        return beanManager.isNormalScope(bean.getScope());
+    }
+
+    int getInjectionPoints() {
+        return injectionPoints.get();
+    }
+
+    int getClientProxies() {
+        return clientProxies.get();
+    }
+
+}
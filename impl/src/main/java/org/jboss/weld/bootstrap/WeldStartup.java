@@ -18,12 +18,14 @@ package org.jboss.weld.bootstrap;
 
 import static org.jboss.weld.config.ConfigurationKey.ROLLING_UPGRADES_ID_DELIMITER;
 
+import java.io.File;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.context.ConversationScoped;
@@ -51,6 +53,7 @@ import org.jboss.weld.bean.builtin.BeanManagerBean;
 import org.jboss.weld.bean.builtin.BeanManagerImplBean;
 import org.jboss.weld.bean.builtin.ContextBean;
 import org.jboss.weld.bean.proxy.ProtectionDomainCache;
+import org.jboss.weld.bean.proxy.ProxyClassArchive;
 import org.jboss.weld.bean.proxy.ProxyInstantiator;
 import org.jboss.weld.bean.proxy.util.SimpleProxyServices;
 import org.jboss.weld.bootstrap.api.Environment;
@@ -85,6 +88,7 @@ import org.jboss.weld.context.bound.BoundRequestContext;
 import org.jboss.weld.context.bound.BoundRequestContextImpl;
 import org.jboss.weld.context.bound.BoundSessionContext;
 import org.jboss.weld.context.bound.BoundSessionContextImpl;
+import org.jboss.weld.context.cache.RequestScopedCacheSlots;
 import org.jboss.weld.context.unbound.ApplicationContextImpl;
 import org.jboss.weld.context.unbound.DependentContextImpl;
 import org.jboss.weld.context.unbound.RequestContextImpl;
@@ -151,6 +155,7 @@ public class WeldStartup {
     private Environment environment;
     private Deployment deployment;
     private DeploymentVisitor deploymentVisitor;
+    private BeanDeploymentPhases phases;
     private final ServiceRegistry initialServices = new SimpleServiceRegistry();
     private String contextId;
 
@@ -208,6 +213,7 @@ public class WeldStartup {
         }
 
         addImplementationServices(registry);
+        this.phases = new BeanDeploymentPhases(registry);
 
         verifyServices(registry, environment.getRequiredDeploymentServices(), contextId);
         if (!registry.contains(TransactionServices.class)) {
@@ -280,6 +286,9 @@ public class WeldStartup {
         }
 
         services.add(ContextualStore.class, new ContextualStoreImpl(contextId, beanIdentifierIndex));
+        if (configuration.getBooleanProperty(ConfigurationKey.INDEXED_CONTEXTUAL_INSTANCE_CACHE)) {
+            services.add(RequestScopedCacheSlots.class, new RequestScopedCacheSlots());
+        }
         services.add(CurrentInjectionPoint.class, new CurrentInjectionPoint());
         services.add(CurrentEventMetadata.class, new CurrentEventMetadata());
         services.add(SpecializationAndEnablementRegistry.class, new SpecializationAndEnablementRegistry());
@@ -303,6 +312,7 @@ public class WeldStartup {
             services.add(HttpContextActivationFilter.class, AcceptingHttpContextActivationFilter.INSTANCE);
         }
         services.add(ProtectionDomainCache.class, new ProtectionDomainCache());
+        services.add(ProxyClassArchive.class, new ProxyClassArchive(configuration, services.get(ResourceLoader.class)));
 
         services.add(ProxyInstantiator.class, ProxyInstantiator.Factory.create(configuration));
 
@@ -400,14 +410,17 @@ public class WeldStartup {
 
 
     public void deployBeans() {
+        // createBeans runs the module callbacks and registers built-in beans, which are also added to the shared beans, so that this loop is not performed
+        // concurrently - the order of beans must not depend on the scheduling
         for (BeanDeployment deployment : getBeanDeployments()) {
             deployment.createBeans(environment);
         }
         // we must use separate loops, otherwise cyclic specialization would not work
+        // ProcessBeanAttributes is fired for class beans so that this loop is not performed concurrently
         for (BeanDeployment deployment : getBeanDeployments()) {
             deployment.getBeanDeployer().processClassBeanAttributes();
-            deployment.getBeanDeployer().createProducersAndObservers();
         }
+        phases.run("createProducersAndObservers", getBeanDeployments(), deployment -> deployment.getBeanDeployer().createProducersAndObservers());
         for (BeanDeployment deployment : getBeanDeployments()) {
             deployment.getBeanDeployer().processProducerAttributes();
             deployment.getBeanDeployer().createNewBeans();
@@ -444,21 +457,38 @@ public class WeldStartup {
         // outside the physical structure
         deploymentVisitor.visit();
 
-        for (BeanDeployment beanDeployment : getBeanDeployments()) {
+        phases.run("afterBeanDiscovery", getBeanDeployments(), beanDeployment -> {
             beanDeployment.getBeanManager().getServices().get(InjectionTargetService.class).initialize();
             beanDeployment.afterBeanDiscovery(environment);
-        }
+        });
         getContainer().putBeanDeployments(bdaMapping);
         getContainer().setState(ContainerState.DEPLOYED);
     }
 
     public void validateBeans() {
-        BootstrapLogger.LOG.validatingBeans();
-        for (BeanDeployment beanDeployment : getBeanDeployments()) {
-            BeanManagerImpl beanManager = beanDeployment.getBeanManager();
-            beanManager.getBeanResolver().clear();
-            deployment.getServices().get(Validator.class).validateDeployment(beanManager, beanDeployment);
-            beanManager.getServices().get(InjectionTargetService.class).validate();
+        DeploymentSnapshot snapshot = null;
+        WeldConfiguration configuration = deployment.getServices().get(WeldConfiguration.class);
+        String snapshotPath = configuration.getStringProperty(ConfigurationKey.DEPLOYMENT_SNAPSHOT);
+        if (!snapshotPath.isEmpty()) {
+            snapshot = new DeploymentSnapshot(new File(snapshotPath), configuration, getBeanDeployments());
+        }
+        if (snapshot != null && snapshot.matches()) {
+            BootstrapLogger.LOG.deploymentValidationSkipped(snapshot.getFile());
+            for (BeanDeployment beanDeployment : getBeanDeployments()) {
+                beanDeployment.getBeanManager().getBeanResolver().clear();
+            }
+        } else {
+            BootstrapLogger.LOG.validatingBeans();
+            final Validator validator = deployment.getServices().get(Validator.class);
+            phases.run("validateBeans", getBeanDeployments(), beanDeployment -> {
+                BeanManagerImpl beanManager = beanDeployment.getBeanManager();
+                beanManager.getBeanResolver().clear();
+                validator.validateDeployment(beanManager, beanDeployment);
+                beanManager.getServices().get(InjectionTargetService.class).validate();
+            });
+            if (snapshot != null) {
+                snapshot.store();
+            }
         }
         getContainer().setState(ContainerState.VALIDATED);
         AfterDeploymentValidationImpl.fire(deploymentManager);
@@ -479,11 +509,15 @@ public class WeldStartup {
         flushCaches();
         deploymentManager.getServices().cleanupAfterBoot();
         deploymentManager.cleanupAfterBoot();
+        // the service registries share the deployment services so that these are not cleaned up concurrently
         for (BeanDeployment beanDeployment : getBeanDeployments()) {
             BeanManagerImpl beanManager = beanDeployment.getBeanManager();
             beanManager.getInterceptorMetadataReader().cleanAfterBoot();
             beanManager.getServices().cleanupAfterBoot();
             beanManager.cleanupAfterBoot();
+        }
+        phases.run("cleanupBeans", getBeanDeployments(), beanDeployment -> {
+            BeanManagerImpl beanManager = beanDeployment.getBeanManager();
             // clean up beans
             for (Bean<?> bean : beanManager.getBeans()) {
                 if (bean instanceof RIBean<?>) {
@@ -503,9 +537,10 @@ public class WeldStartup {
                     Reflections.<InterceptorImpl<?>>cast(interceptor).cleanupAfterBoot();
                 }
             }
-        }
-        for (BeanDeployment beanDeployment : getBeanDeployments()) {
-            beanDeployment.getBeanDeployer().cleanup();
+        });
+        phases.run("cleanupBeanDeployers", getBeanDeployments(), beanDeployment -> beanDeployment.getBeanDeployer().cleanup());
+        if (deployment.getServices().get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.WARM_UP)) {
+            warmUp();
         }
         // feed BeanDeploymentModule registry
         final BeanDeploymentModules modules = deploymentManager.getServices().get(BeanDeploymentModules.class);
@@ -527,6 +562,13 @@ public class WeldStartup {
         }
     }
 
+    private void warmUp() {
+        final long start = System.nanoTime();
+        final ResolutionWarmUp warmUp = new ResolutionWarmUp();
+        phases.run("warmUp", getBeanDeployments(), warmUp::warmUp);
+        BootstrapLogger.LOG.warmUpCompleted(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), warmUp.getInjectionPoints(), warmUp.getClientProxies());
+    }
+
     private void flushCaches() {
         deploymentManager.getBeanResolver().clear();
         deploymentManager.getAccessibleLenientObserverNotifier().clear();
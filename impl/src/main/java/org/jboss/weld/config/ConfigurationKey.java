@@ -96,11 +96,11 @@ public enum ConfigurationKey {
     /**
      * Weld caches resolved injection points in order to resolve them faster in the future. There exists a separate type safe resolver for beans,
      * decorators, disposers, interceptors and observers. Each of them stores resolved injection points in its cache, which maximum size is bounded by a default
-     * value (common to all of them).
+     * value (common to all of them). If the bound is exceeded, the entries which were not used recently are evicted.
      *
      * @see <a href="https://issues.jboss.org/browse/WELD-1323">WELD-1323</a>
      */
-    @Description("Weld caches already resolved injection points in order to resolve them faster in the future. There exists a separate type safe resolver for beans, decorators, disposers, interceptors and observers. Each of them stores resolved injection points in its cache, which maximum size is bounded by a common default value.")
+    @Description("Weld caches already resolved injection points in order to resolve them faster in the future. There exists a separate type safe resolver for beans, decorators, disposers, interceptors and observers. Each of them stores resolved injection points in its cache, which maximum size is bounded by a common default value. If the bound is exceeded, the entries which were not used recently are evicted.")
     RESOLUTION_CACHE_SIZE("org.jboss.weld.resolution.cacheSize", 0x10000L),
 
     /**
@@ -109,6 +109,15 @@ public enum ConfigurationKey {
     @Description("For debugging purposes, it’s possible to dump the generated bytecode of client proxies and enhanced subclasses to the filesystem. The value represents the file path where the files should be stored.")
     PROXY_DUMP("org.jboss.weld.proxy.dump", ""),
 
+    /**
+     * The bytecode of all the generated proxy classes is written into a JAR file at the given path when the container is shut down. The archive may be used
+     * to avoid the bytecode generation at runtime.
+     *
+     * @see org.jboss.weld.bean.proxy.ProxyClassArchive
+     */
+    @Description("The file path of a JAR file the generated proxy classes are written into when the container is shut down. If the archive is available to the application, the proxy classes are loaded directly instead of being generated at runtime.")
+    PROXY_ARCHIVE("org.jboss.weld.proxy.archive", ""),
+
     /**
      * Weld supports a non-standard workaround to be able to create client proxies for Java types that cannot be proxied by the container, using non-portable
      * JVM APIs.
@@ -162,6 +171,24 @@ public enum ConfigurationKey {
     @Description("<strong>DEVELOPMENT MODE</strong> - an event class matching this regular expression is excluded from monitoring.")
     PROBE_EVENT_MONITOR_EXCLUDE_TYPE("org.jboss.weld.probe.eventMonitor.excludeType", ""),
 
+    /**
+     * The maximum number of invocation trees kept by the invocation monitor. If the limit is exceeded the oldest invocation trees are overwritten.
+     */
+    @Description("<strong>DEVELOPMENT MODE</strong> - the maximum number of invocation trees kept by the invocation monitor. If exceeded, the oldest invocation trees are overwritten.")
+    PROBE_INVOCATION_MONITOR_LIMIT("org.jboss.weld.probe.invocationMonitor.limit", 5000),
+
+    /**
+     * Only 1 in N invocation trees is recorded by the invocation monitor. The default value of 1 means that all invocation trees are recorded.
+     */
+    @Description("<strong>DEVELOPMENT MODE</strong> - only 1 in N invocation trees is recorded by the invocation monitor. By default, all invocation trees are recorded.")
+    PROBE_INVOCATION_MONITOR_SAMPLING_RATE("org.jboss.weld.probe.invocationMonitor.samplingRate", 1),
+
+    /**
+     * The maximum number of events kept by the event monitor. If the limit is exceeded the oldest events are overwritten.
+     */
+    @Description("<strong>DEVELOPMENT MODE</strong> - the maximum number of events kept by the event monitor. If exceeded, the oldest events are overwritten.")
+    PROBE_EVENT_MONITOR_LIMIT("org.jboss.weld.probe.eventMonitor.limit", 5000),
+
     /**
      * This optimization is used to reduce the HTTP session replication overhead. However, the inconsistency detection mechanism may cause problems in some
      * development environments.
@@ -264,6 +291,46 @@ public enum ConfigurationKey {
     @Description("If a non-empty string and development mode is enabled, the Probe data will be automatically exported after deployment validation. The value represents a path of the directory where to export the data file.")
     PROBE_EXPORT_DATA_AFTER_DEPLOYMENT("org.jboss.weld.probe.exportDataAfterDeployment", ""),
 
+    /**
+     * If set to <code>true</code>, asynchronous observer methods are not notified serially in a single worker thread. Instead, each observer method is notified
+     * in a separate task. Observer methods with the same priority are notified concurrently, observer methods with a different priority are still notified in
+     * the order given by the priority. This default may be overriden for a particular event using {@link org.jboss.weld.event.WeldNotificationOptions}.
+     */
+    @Description("If set to <code>true</code>, asynchronous observer methods with the same priority are notified concurrently, each in a separate task. Otherwise, all asynchronous observer methods are notified serially in a single worker thread.")
+    CONCURRENT_ASYNC_NOTIFICATION("org.jboss.weld.event.concurrentAsyncNotification", false),
+
+    /**
+     * Contextual instances of request, session and conversation scoped beans are cached for the duration of a request so that client proxy invocations do not
+     * need to look up the context. By default, each bean uses a separate {@link ThreadLocal}. If set to <code>true</code>, each bean is assigned a slot in an
+     * array bound to the current request instead. The array is discarded at the end of the request.
+     */
+    @Description("If set to <code>true</code>, contextual instances of request, session and conversation scoped beans are cached in an array of slots bound to the current request instead of a <code>ThreadLocal</code> per bean.")
+    INDEXED_CONTEXTUAL_INSTANCE_CACHE("org.jboss.weld.context.indexedContextualInstanceCache", false),
+
+    /**
+     * If set to <code>true</code>, the injection points of all the beans are resolved and the client proxies of the injected normal scoped beans are created
+     * at the end of bootstrap, i.e. the resolver caches are populated before the container is initialized. This results in a longer bootstrap but the first
+     * requests are not slowed down by the lazy resolution.
+     */
+    @Description("If set to <code>true</code>, the injection points are resolved and the client proxies are created at the end of bootstrap so that the first requests are not slowed down by the lazy resolution.")
+    WARM_UP("org.jboss.weld.bootstrap.warmUp", false),
+
+    /**
+     * The file path of a snapshot of the deployment. If the snapshot matches the deployment, i.e. the configuration, the beans, the observer methods and the
+     * bean classes did not change since the snapshot was written, the deployment validation is skipped. Otherwise, the deployment is validated and a new
+     * snapshot is written. Only suitable for immutable deployments.
+     */
+    @Description("The file path of a snapshot of a successfully validated deployment. If the deployment did not change since the snapshot was written, the deployment validation is skipped.")
+    DEPLOYMENT_SNAPSHOT("org.jboss.weld.bootstrap.deploymentSnapshot", ""),
+
+    /**
+     * If set to <code>true</code>, all the contextual instances of session scoped beans are stored in a single HTTP session attribute. The attribute is set
+     * again at the end of a request only if an instance was added or removed during the request. This reduces the number of replication messages in
+     * containers which replicate each session attribute separately.
+     */
+    @Description("If set to <code>true</code>, all the contextual instances of session scoped beans are stored in a single HTTP session attribute which is only set again at the end of a request if modified.")
+    CONTEXT_SESSION_COMPOSITE_ATTRIBUTE("org.jboss.weld.context.session.compositeAttribute", false),
+
     ;
 
     /**
@@ -49,6 +49,9 @@ public abstract class AbstractContext implements AlterableContext {
 
     private final ServiceRegistry serviceRegistry;
 
+    // Looked up lazily as some contexts are created before the service is registered
+    private volatile ContextualStore contextualStore;
+
     /**
      * Constructor
      *
@@ -95,7 +98,7 @@ public abstract class AbstractContext implements AlterableContext {
                 }
                 T instance = contextual.create(creationalContext);
                 if (instance != null) {
-                    beanInstance = new SerializableContextualInstanceImpl<Contextual<T>, T>(contextual, instance, creationalContext, serviceRegistry.get(ContextualStore.class));
+                    beanInstance = new SerializableContextualInstanceImpl<Contextual<T>, T>(contextual, instance, creationalContext, getContextualStore());
                     beanStore.put(id, beanInstance);
                 }
                 return instance;
@@ -182,7 +185,16 @@ public abstract class AbstractContext implements AlterableContext {
         if (contextual instanceof WrappedContextual<?>) {
             contextual = ((WrappedContextual<?>) contextual).delegate();
         }
-        return Beans.getIdentifier(contextual, serviceRegistry);
+        return Beans.getIdentifier(contextual, getContextualStore());
+    }
+
+    protected ContextualStore getContextualStore() {
+        ContextualStore store = contextualStore;
+        if (store == null) {
+            store = serviceRegistry.get(ContextualStore.class);
+            contextualStore = store;
+        }
+        return store;
     }
 
     protected ServiceRegistry getServiceRegistry() {
@@ -26,6 +26,8 @@ public abstract class AbstractManagedContext extends AbstractContext implements
 
     private final ThreadLocal<ManagedState> state;
 
+    private volatile ActiveContextRegistry.Registration registration;
+
     public AbstractManagedContext(String contextId, boolean multithreaded) {
         super(contextId, multithreaded);
         this.state = new ThreadLocal<ManagedState>();
@@ -38,6 +40,14 @@ public abstract class AbstractManagedContext extends AbstractContext implements
 
     protected void setActive(boolean active) {
         getManagedState().setActive(active);
+        ActiveContextRegistry.Registration registration = this.registration;
+        if (registration != null) {
+            if (active) {
+                registration.activated();
+            } else {
+                registration.deactivated();
+            }
+        }
     }
 
     public void invalidate() {
@@ -67,6 +77,23 @@ public abstract class AbstractManagedContext extends AbstractContext implements
     protected void removeState() {
         ContextLogger.LOG.tracev("State thread-local removed: {0}", this);
         state.remove();
+        ActiveContextRegistry.Registration registration = this.registration;
+        if (registration != null) {
+            registration.deactivated();
+        }
+    }
+
+    /**
+     *
+     * @param registration
+     * @return <code>true</code> if the registration was set, <code>false</code> if this context is already registered, e.g. with another deployment
+     */
+    synchronized boolean setRegistration(ActiveContextRegistry.Registration registration) {
+        if (this.registration != null) {
+            return false;
+        }
+        this.registration = registration;
+        return true;
     }
 
     private ManagedState getManagedState() {
@@ -0,0 +1,226 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.context;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.spi.Context;
+
+import org.jboss.weld.logging.BeanManagerLogger;
+
+/**
+ * Holds all the contexts registered within a deployment, grouped by scope. Each scope is assigned a slot.
+ * <p>
+ * The {@link AbstractManagedContext}s notify the registry whenever they are activated or deactivated on the current thread. The registry maintains a
+ * per-thread table of the active contexts indexed by slot. So if all the contexts of a scope are managed contexts, finding the active context is a single
+ * array read. For other scopes (e.g. with a custom context or a context which is always active) all the contexts are checked.
+ * </p>
+ * <p>
+ * If more than one context of a scope is active on the same thread, the table entry is marked as unknown and the contexts are checked too. This results in
+ * the usual error.
+ * </p>
+ *
+ * @see AbstractManagedContext
+ */
+public final class ActiveContextRegistry {
+
+    private static final Object UNKNOWN = new Object();
+
+    private final Map<Class<? extends Annotation>, Slot> slots;
+
+    private final AtomicInteger nextSlot;
+
+    private final ThreadLocal<ActiveContexts> activeContexts;
+
+    public ActiveContextRegistry() {
+        this.slots = new ConcurrentHashMap<>();
+        this.nextSlot = new AtomicInteger();
+        this.activeContexts = new ThreadLocal<>();
+    }
+
+    /**
+     *
+     * @param context the context to register
+     * @param registered the context which should be returned by {@link #getActiveContext(Class)}, e.g. a wrapper
+     */
+    public void register(Context context, Context registered) {
+        Slot slot = slots.computeIfAbsent(context.getScope(), (scope) -> new Slot(nextSlot.getAndIncrement()));
+        slot.contexts.add(registered);
+        Registration registration = new Registration(slot, registered);
+        if (!(context instanceof AbstractManagedContext) || !((AbstractManagedContext) context).setRegistration(registration)) {
+            slot.tracked = false;
+        } else if (context.isActive()) {
+            registration.activated();
+        }
+    }
+
+    /**
+     *
+     * @param scope
+     * @return the active context for the given scope or <code>null</code> if no such context is active
+     * @throws IllegalStateException if there are multiple active contexts for the given scope
+     */
+    public Context getActiveContext(Class<? extends Annotation> scope) {
+        Slot slot = slots.get(scope);
+        if (slot == null) {
+            return null;
+        }
+        Object context;
+        if (slot.tracked) {
+            ActiveContexts active = activeContexts.get();
+            context = active != null ? active.get(slot.index) : null;
+            if (context != UNKNOWN) {
+                return (Context) context;
+            }
+        }
+        context = slot.findActiveContext();
+        if (context == UNKNOWN) {
+            throw BeanManagerLogger.LOG.duplicateActiveContexts(scope.getName());
+        }
+        return (Context) context;
+    }
+
+    public void clear() {
+        slots.clear();
+    }
+
+    /**
+     * Binds a registered {@link AbstractManagedContext} to its slot.
+     */
+    final class Registration {
+
+        private final Slot slot;
+
+        private final Context registered;
+
+        private Registration(Slot slot, Context registered) {
+            this.slot = slot;
+            this.registered = registered;
+        }
+
+        void activated() {
+            ActiveContexts active = activeContexts.get();
+            if (active == null) {
+                active = new ActiveContexts();
+                activeContexts.set(active);
+            }
+            Object current = active.get(slot.index);
+            if (current == null) {
+                active.set(slot.index, registered);
+            } else if (current != registered) {
+                active.set(slot.index, UNKNOWN);
+            }
+        }
+
+        void deactivated() {
+            ActiveContexts active = activeContexts.get();
+            if (active == null) {
+                return;
+            }
+            Object current = active.get(slot.index);
+            if (current == registered) {
+                active.set(slot.index, null);
+            } else if (current == UNKNOWN) {
+                // Find out which context remains active
+                active.set(slot.index, slot.findActiveContext());
+            }
+            if (active.isEmpty()) {
+                // Do not leak the table
+                activeContexts.remove();
+            }
+        }
+
+    }
+
+    private static final class Slot {
+
+        private final int index;
+
+        private final List<Context> contexts;
+
+        // False if there is at least one context which does not notify the registry
+        private volatile boolean tracked;
+
+        private Slot(int index) {
+            this.index = index;
+            this.contexts = new CopyOnWriteArrayList<>();
+            this.tracked = true;
+        }
+
+        /**
+         *
+         * @return the active context, <code>null</code> if no context is active or {@link ActiveContextRegistry#UNKNOWN} if there are multiple active contexts
+         */
+        private Object findActiveContext() {
+            Context activeContext = null;
+            for (Context context : contexts) {
+                if (context.isActive()) {
+                    if (activeContext == null) {
+                        activeContext = context;
+                    } else {
+                        return UNKNOWN;
+                    }
+                }
+            }
+            return activeContext;
+        }
+
+    }
+
+    /**
+     * The active contexts of a single thread, indexed by slot.
+     */
+    private static final class ActiveContexts {
+
+        private Object[] contexts = new Object[0];
+
+        private int size;
+
+        private Object get(int index) {
+            return index < contexts.length ? contexts[index] : null;
+        }
+
+        private void set(int index, Object context) {
+            if (index >= contexts.length) {
+                if (context == null) {
+                    return;
+                }
+                contexts = Arrays.copyOf(contexts, index + 1);
+            }
+            if (contexts[index] == null) {
+                if (context != null) {
+                    size++;
+                }
+            } else if (context == null) {
+                size--;
+            }
+            contexts[index] = context;
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+    }
+
+}
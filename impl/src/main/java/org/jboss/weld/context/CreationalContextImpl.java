@@ -54,9 +54,17 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     @SuppressWarnings(value = "SE_TRANSIENT_FIELD_NOT_RESTORED", justification = "Not needed after initial creation")
     private final transient Contextual<T> contextual;
 
-    private final List<ContextualInstance<?>> dependentInstances;
+    /**
+     * Allocated lazily, most dependent instances do not need to be destroyed explicitly and are therefore never tracked. Guarded by this
+     * {@link CreationalContextImpl}. The lock is uncontended unless dependent instances are created concurrently, e.g. via {@link javax.enterprise.inject.Instance}
+     * injected into a normal-scoped bean.
+     */
+    private List<ContextualInstance<?>> dependentInstances;
 
-    private final List<ContextualInstance<?>> parentDependentInstances;
+    /**
+     * Set if a dependent instance was added to a context without a parent, i.e. there is no creational context which would destroy the instance.
+     */
+    private boolean hasUntrackedDependentInstances;
 
     private final CreationalContextImpl<?> parentCreationalContext;
 
@@ -69,16 +77,13 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     private transient InterceptionContext aroundConstructInterceptionContext;
 
     public CreationalContextImpl(Contextual<T> contextual) {
-        this(contextual, null, Collections.synchronizedList(new ArrayList<ContextualInstance<?>>()), null);
+        this(contextual, null, null);
     }
 
-    private CreationalContextImpl(Contextual<T> contextual, Map<Contextual<?>, Object> incompleteInstances,
-            List<ContextualInstance<?>> parentDependentInstancesStore, CreationalContextImpl<?> parentCreationalContext) {
+    private CreationalContextImpl(Contextual<T> contextual, Map<Contextual<?>, Object> incompleteInstances, CreationalContextImpl<?> parentCreationalContext) {
         this.incompleteInstances = incompleteInstances;
         this.contextual = contextual;
         // this is direct ref by intention - to track dependencies hierarchy
-        this.dependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
-        this.parentDependentInstances = parentDependentInstancesStore;
         this.parentCreationalContext = parentCreationalContext;
         this.constructorInterceptionSuppressed = false;
     }
@@ -86,9 +91,6 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     private CreationalContextImpl() {
         this.contextual = null;
         this.parentCreationalContext = null;
-        // We can't use immutable empty lists because of some rare scenarios with Instance.get()
-        this.dependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
-        this.parentDependentInstances = Collections.synchronizedList(new ArrayList<ContextualInstance<?>>());
     }
 
     public void push(T incompleteInstance) {
@@ -99,11 +101,11 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     }
 
     public <S> CreationalContextImpl<S> getCreationalContext(Contextual<S> contextual) {
-        return new CreationalContextImpl<S>(contextual, incompleteInstances, dependentInstances, this);
+        return new CreationalContextImpl<S>(contextual, incompleteInstances, this);
     }
 
     public <S> CreationalContextImpl<S> getProducerReceiverCreationalContext(Contextual<S> contextual) {
-        return new CreationalContextImpl<S>(contextual, incompleteInstances != null ? new HashMap<Contextual<?>, Object>(incompleteInstances) : null, Collections.synchronizedList(new ArrayList<ContextualInstance<?>>()), null);
+        return new CreationalContextImpl<S>(contextual, incompleteInstances != null ? new HashMap<Contextual<?>, Object>(incompleteInstances) : null, null);
     }
 
     public <S> S getIncompleteInstance(Contextual<S> bean) {
@@ -115,7 +117,20 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     }
 
     public void addDependentInstance(ContextualInstance<?> contextualInstance) {
-        parentDependentInstances.add(contextualInstance);
+        if (parentCreationalContext != null) {
+            parentCreationalContext.trackDependentInstance(contextualInstance);
+        } else {
+            synchronized (this) {
+                hasUntrackedDependentInstances = true;
+            }
+        }
+    }
+
+    private synchronized void trackDependentInstance(ContextualInstance<?> contextualInstance) {
+        if (dependentInstances == null) {
+            dependentInstances = new ArrayList<ContextualInstance<?>>(1);
+        }
+        dependentInstances.add(contextualInstance);
     }
 
     public void release() {
@@ -124,11 +139,13 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
 
     // should not be public
     public void release(Contextual<T> contextual, T instance) {
-        synchronized (dependentInstances) {
-            for (ContextualInstance<?> dependentInstance : dependentInstances) {
-                // do not destroy contextual again, since it's just being destroyed
-                if (contextual == null || !(dependentInstance.getContextual().equals(contextual))) {
-                    destroy(dependentInstance);
+        synchronized (this) {
+            if (dependentInstances != null) {
+                for (ContextualInstance<?> dependentInstance : dependentInstances) {
+                    // do not destroy contextual again, since it's just being destroyed
+                    if (contextual == null || !(dependentInstance.getContextual().equals(contextual))) {
+                        destroy(dependentInstance);
+                    }
                 }
             }
         }
@@ -153,13 +170,16 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
     /**
      * Returns an unmodifiable list of dependent instances.
      */
-    public List<ContextualInstance<?>> getDependentInstances() {
+    public synchronized List<ContextualInstance<?>> getDependentInstances() {
+        if (dependentInstances == null) {
+            return Collections.emptyList();
+        }
         return WeldCollections.immutableListView(dependentInstances);
     }
 
     // Serialization
-    protected Object writeReplace() throws ObjectStreamException {
-        synchronized (dependentInstances) {
+    protected synchronized Object writeReplace() throws ObjectStreamException {
+        if (dependentInstances != null) {
             for (Iterator<ContextualInstance<?>> iterator = dependentInstances.iterator(); iterator.hasNext();) {
                 ContextualInstance<?> instance = iterator.next();
                 if (!(instance.getInstance() instanceof Serializable)) {
@@ -186,7 +206,7 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
             }
         }
         // Return a serialization proxy for an "empty" instance
-        if (parentCreationalContext == null && dependentInstances.isEmpty() && (parentDependentInstances == null || parentDependentInstances.isEmpty())) {
+        if (parentCreationalContext == null && (dependentInstances == null || dependentInstances.isEmpty()) && !hasUntrackedDependentInstances) {
             return SERIALIZATION_PROXY;
         }
         return this;
@@ -209,8 +229,8 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
      * @param instance
      * @return true if the instance was destroyed, false otherwise
      */
-    public boolean destroyDependentInstance(T instance) {
-        synchronized (dependentInstances) {
+    public synchronized boolean destroyDependentInstance(T instance) {
+        if (dependentInstances != null) {
             for (Iterator<ContextualInstance<?>> iterator = dependentInstances.iterator(); iterator.hasNext();) {
                 ContextualInstance<?> contextualInstance = iterator.next();
                 if (contextualInstance.getInstance() == instance) {
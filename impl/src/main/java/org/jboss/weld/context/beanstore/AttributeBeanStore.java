@@ -46,8 +46,10 @@ import org.jboss.weld.serialization.spi.BeanIdentifier;
  */
 public abstract class AttributeBeanStore implements BoundBeanStore {
 
-    private final HashMapBeanStore beanStore;
+    private final IndexedBeanStore beanStore;
     private final NamingScheme namingScheme;
+    // Not null if the naming scheme is able to prefix by index position
+    private final BeanIdentifierIndexNamingScheme indexNamingScheme;
 
     private final boolean attributeLazyFetchingEnabled;
 
@@ -60,7 +62,13 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
      */
     public AttributeBeanStore(NamingScheme namingScheme, boolean attributeLazyFetchingEnabled) {
         this.namingScheme = namingScheme;
-        this.beanStore = new HashMapBeanStore();
+        if (namingScheme instanceof BeanIdentifierIndexNamingScheme) {
+            this.indexNamingScheme = (BeanIdentifierIndexNamingScheme) namingScheme;
+            this.beanStore = new IndexedBeanStore(indexNamingScheme.getBeanIdentifierIndex());
+        } else {
+            this.indexNamingScheme = null;
+            this.beanStore = new IndexedBeanStore(null);
+        }
         this.attributeLazyFetchingEnabled = attributeLazyFetchingEnabled;
     }
 
@@ -93,7 +101,7 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
         if (!attached) {
             attached = true;
             if (isLocalBeanStoreSyncNeeded()) {
-                if (!beanStore.delegate().isEmpty()) {
+                if (!beanStore.isEmpty()) {
                     // The local bean store is authoritative, so copy everything to the backing store
                     for (BeanIdentifier id : beanStore) {
                         ContextualInstance<?> instance = beanStore.get(id);
@@ -133,11 +141,12 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
 
     @Override
     public <T> ContextualInstance<T> get(BeanIdentifier id) {
-        ContextualInstance<T> instance = beanStore.get(id);
+        int position = beanStore.getPosition(id);
+        ContextualInstance<T> instance = beanStore.get(position, id);
         if(instance == null && isAttached() && isAttributeLazyFetchingEnabled()) {
-            instance = cast(getAttribute(namingScheme.prefix(id)));
+            instance = cast(getAttribute(prefix(position, id)));
             if(instance != null) {
-                beanStore.put(id, instance);
+                beanStore.put(position, id, instance);
             }
         }
         ContextLogger.LOG.contextualInstanceFound(id, instance, this);
@@ -146,19 +155,21 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
 
     @Override
     public <T> void put(BeanIdentifier id, ContextualInstance<T> instance) {
-        beanStore.put(id, instance); // moved due to WELD-892
+        int position = beanStore.getPosition(id);
+        beanStore.put(position, id, instance); // moved due to WELD-892
         if (isAttached()) {
-            setAttribute(namingScheme.prefix(id), instance);
+            setAttribute(prefix(position, id), instance);
         }
         ContextLogger.LOG.contextualInstanceAdded(instance.getContextual(), id, this);
     }
 
     @Override
     public <T> ContextualInstance<T> remove(BeanIdentifier id) {
-        ContextualInstance<T> instance = beanStore.remove(id);
+        int position = beanStore.getPosition(id);
+        ContextualInstance<T> instance = beanStore.remove(position, id);
         if (instance != null) {
             if (isAttached()) {
-                removeAttribute(namingScheme.prefix(id));
+                removeAttribute(prefix(position, id));
             }
             ContextLogger.LOG.contextualInstanceRemoved(id, this);
         }
@@ -187,6 +198,11 @@ public abstract class AttributeBeanStore implements BoundBeanStore {
         return namingScheme;
     }
 
+    private String prefix(int position, BeanIdentifier id) {
+        // Use the cached attribute name if possible
+        return position >= 0 && indexNamingScheme != null ? indexNamingScheme.prefix(position) : namingScheme.prefix(id);
+    }
+
     public Iterator<BeanIdentifier> iterator() {
         Iterator<BeanIdentifier> iterator;
         if (isAttributeLazyFetchingEnabled()) {
@@ -24,6 +24,9 @@ import org.jboss.weld.serialization.spi.BeanIdentifier;
 
 /**
  * An abstract naming scheme which makes use of {@link BeanIdentifierIndex} if possible.
+ * <p>
+ * The prefixed names of indexed identifiers are computed once and cached per index position so that a lookup does not build a new {@link String}.
+ * </p>
  *
  * @author Martin Kouba
  */
@@ -31,8 +34,13 @@ public abstract class BeanIdentifierIndexNamingScheme extends AbstractNamingSche
 
     private static final String FALLBACK_FLAG = "F_";
 
+    private static final int RADIX = 10;
+
     private final BeanIdentifierIndex index;
 
+    // Racy caching is fine - the names are immutable and computed deterministically
+    private volatile String[] prefixedIds;
+
     public BeanIdentifierIndexNamingScheme(String delimiter, BeanIdentifierIndex index) {
         super(delimiter);
         this.index = index;
@@ -40,18 +48,14 @@ public abstract class BeanIdentifierIndexNamingScheme extends AbstractNamingSche
 
     @Override
     public BeanIdentifier deprefix(String id) {
-        String deprefixed = id.substring(getPrefix().length() + getDelimiter().length());
+        int start = getPrefix().length() + getDelimiter().length();
         if (index == null) {
-            return new StringBeanIdentifier(deprefixed);
-        }
-        if (deprefixed.startsWith(FALLBACK_FLAG)) {
-            return new StringBeanIdentifier(deprefixed.substring(FALLBACK_FLAG.length()));
+            return new StringBeanIdentifier(id.substring(start));
         }
-        try {
-            return index.getIdentifier(Integer.parseInt(deprefixed));
-        } catch (NumberFormatException e) {
-            throw new IllegalStateException("Unable to deprefix id:" + id, e);
+        if (id.startsWith(FALLBACK_FLAG, start)) {
+            return new StringBeanIdentifier(id.substring(start + FALLBACK_FLAG.length()));
         }
+        return index.getIdentifier(parsePosition(id, start));
     }
 
     @Override
@@ -59,11 +63,68 @@ public abstract class BeanIdentifierIndexNamingScheme extends AbstractNamingSche
         if (index == null) {
             return getPrefix() + getDelimiter() + id.asString();
         }
-        Integer idx = index.getIndex(id);
-        if (idx == null) {
+        int position = getPosition(id);
+        if (position < 0) {
             return getPrefix() + getDelimiter() + FALLBACK_FLAG + id.asString();
         }
-        return getPrefix() + getDelimiter() + idx;
+        return prefix(position);
+    }
+
+    /**
+     *
+     * @param position
+     * @return the prefixed name of the identifier at the given index position
+     */
+    String prefix(int position) {
+        String[] cache = prefixedIds;
+        if (cache == null) {
+            cache = new String[index.size()];
+            prefixedIds = cache;
+        }
+        String prefixed = cache[position];
+        if (prefixed == null) {
+            prefixed = getPrefix() + getDelimiter() + position;
+            cache[position] = prefixed;
+        }
+        return prefixed;
+    }
+
+    /**
+     *
+     * @param id
+     * @return the index position of the given identifier or -1 if the identifier is not indexed
+     */
+    int getPosition(BeanIdentifier id) {
+        if (index == null || !index.isBuilt()) {
+            return -1;
+        }
+        Integer position = index.getIndex(id);
+        return position != null ? position : -1;
+    }
+
+    BeanIdentifierIndex getBeanIdentifierIndex() {
+        return index;
+    }
+
+    /**
+     * Must be called whenever the value returned from {@link #getPrefix()} changes.
+     */
+    protected void prefixChanged() {
+        prefixedIds = null;
+    }
+
+    private int parsePosition(String id, int start) {
+        // Parse the position in place, no need to extract a substring first
+        int end = id.length();
+        int position = start < end ? 0 : -1;
+        for (int i = start; i < end && position >= 0; i++) {
+            int digit = Character.digit(id.charAt(i), RADIX);
+            position = digit < 0 ? -1 : position * RADIX + digit;
+        }
+        if (position < 0) {
+            throw new IllegalStateException("Unable to deprefix id:" + id);
+        }
+        return position;
     }
 
 }
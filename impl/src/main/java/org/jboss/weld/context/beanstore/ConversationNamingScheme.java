@@ -29,6 +29,7 @@ public class ConversationNamingScheme extends BeanIdentifierIndexNamingScheme {
 
     public void setCid(String cid) {
         this.cid = cid;
+        prefixChanged();
     }
 
     @Override
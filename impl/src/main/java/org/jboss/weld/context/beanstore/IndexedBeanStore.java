@@ -0,0 +1,236 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.context.beanstore;
+
+import static org.jboss.weld.util.reflection.Reflections.cast;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.serialization.BeanIdentifierIndex;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+
+/**
+ * A local bean store which keeps the instances of indexed beans in a slot array addressed by the {@link BeanIdentifierIndex} position. Instances of beans
+ * which are not indexed are kept in a {@link HashMapBeanStore}.
+ * <p>
+ * This construct is not thread safe.
+ * </p>
+ *
+ * @see AttributeBeanStore
+ */
+public class IndexedBeanStore implements BeanStore {
+
+    private final BeanIdentifierIndex index;
+
+    private ContextualInstance<?>[] instances;
+
+    private BeanIdentifier[] identifiers;
+
+    private int size;
+
+    private HashMapBeanStore fallback;
+
+    /**
+     *
+     * @param index The index, may be null
+     */
+    public IndexedBeanStore(BeanIdentifierIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public <T> ContextualInstance<T> get(BeanIdentifier id) {
+        return get(getPosition(id), id);
+    }
+
+    @Override
+    public boolean contains(BeanIdentifier id) {
+        return get(id) != null;
+    }
+
+    @Override
+    public <T> void put(BeanIdentifier id, ContextualInstance<T> instance) {
+        put(getPosition(id), id, instance);
+    }
+
+    @Override
+    public <T> ContextualInstance<T> remove(BeanIdentifier id) {
+        return remove(getPosition(id), id);
+    }
+
+    @Override
+    public void clear() {
+        instances = null;
+        identifiers = null;
+        size = 0;
+        fallback = null;
+    }
+
+    @Override
+    public LockedBean lock(BeanIdentifier id) {
+        return null;
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the store does not hold any instance, <code>false</code> otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0 && (fallback == null || fallback.delegate().isEmpty());
+    }
+
+    @Override
+    public Iterator<BeanIdentifier> iterator() {
+        return new IndexedIterator();
+    }
+
+    /**
+     *
+     * @param id
+     * @return the index position of the given identifier or -1 if the identifier is not indexed
+     */
+    int getPosition(BeanIdentifier id) {
+        if (index == null || !index.isBuilt()) {
+            return -1;
+        }
+        Integer position = index.getIndex(id);
+        return position != null ? position : -1;
+    }
+
+    <T> ContextualInstance<T> get(int position, BeanIdentifier id) {
+        if (position >= 0 && instances != null) {
+            ContextualInstance<?> instance = instances[position];
+            if (instance != null) {
+                return cast(instance);
+            }
+        }
+        // The instance might have been stored before the index was built
+        return fallback != null ? fallback.<T> get(id) : null;
+    }
+
+    <T> void put(int position, BeanIdentifier id, ContextualInstance<T> instance) {
+        if (position < 0) {
+            if (fallback == null) {
+                fallback = new HashMapBeanStore();
+            }
+            fallback.put(id, instance);
+            return;
+        }
+        if (instances == null) {
+            instances = new ContextualInstance<?>[index.size()];
+            identifiers = new BeanIdentifier[instances.length];
+        }
+        if (instances[position] == null) {
+            size++;
+        }
+        instances[position] = instance;
+        identifiers[position] = id;
+        if (fallback != null) {
+            fallback.remove(id);
+        }
+    }
+
+    <T> ContextualInstance<T> remove(int position, BeanIdentifier id) {
+        if (position >= 0 && instances != null && instances[position] != null) {
+            ContextualInstance<T> instance = cast(instances[position]);
+            removeSlot(position);
+            return instance;
+        }
+        return fallback != null ? fallback.<T> remove(id) : null;
+    }
+
+    private void removeSlot(int position) {
+        instances[position] = null;
+        identifiers[position] = null;
+        size--;
+    }
+
+    @Override
+    public String toString() {
+        return "holding " + (size + (fallback != null ? fallback.delegate().size() : 0)) + " instances";
+    }
+
+    private class IndexedIterator implements Iterator<BeanIdentifier> {
+
+        private int next;
+
+        private int current = -1;
+
+        private Iterator<BeanIdentifier> fallbackIterator;
+
+        private boolean fallbackCurrent;
+
+        IndexedIterator() {
+            this.next = nextPosition(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next >= 0) {
+                return true;
+            }
+            if (fallbackIterator == null && fallback != null) {
+                fallbackIterator = fallback.iterator();
+            }
+            return fallbackIterator != null && fallbackIterator.hasNext();
+        }
+
+        @Override
+        public BeanIdentifier next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (next >= 0) {
+                current = next;
+                fallbackCurrent = false;
+                next = nextPosition(next + 1);
+                return identifiers[current];
+            }
+            current = -1;
+            fallbackCurrent = true;
+            return fallbackIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (fallbackCurrent) {
+                fallbackCurrent = false;
+                fallbackIterator.remove();
+            } else if (current >= 0) {
+                removeSlot(current);
+                current = -1;
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+
+        private int nextPosition(int from) {
+            if (identifiers != null) {
+                for (int i = from; i < identifiers.length; i++) {
+                    if (identifiers[i] != null) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+
+    }
+
+}
@@ -18,14 +18,19 @@
 package org.jboss.weld.context.beanstore;
 
 import java.io.Serializable;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 import edu.umd.cs.findbugs.annotations.SuppressWarnings;
 /**
  * Helper class for bean store creation locking.
+ * <p>
+ * A lock is only held in the store as long as there is a thread holding or waiting for it. The locks are reference counted without any global
+ * synchronization - threads creating different beans never block each other and only contend on the lock of the bean they are creating.
+ * </p>
  *
  * @author Stuart Douglas
  * @author Marko Luksa
@@ -35,44 +40,83 @@ public class LockStore implements Serializable {
     private static final long serialVersionUID = -698649566870070414L;
 
     @SuppressWarnings("SE_TRANSIENT_FIELD_NOT_RESTORED")
-    private transient volatile Map<BeanIdentifier, ReferenceCountedLock> locks = new HashMap<BeanIdentifier, ReferenceCountedLock>();
+    private transient volatile ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks = new ConcurrentHashMap<BeanIdentifier, ReferenceCountedLock>();
 
     public LockedBean lock(BeanIdentifier id) {
+        ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks = getLocks();
         ReferenceCountedLock refLock;
-        synchronized (this) {
-            if(locks == null) {
-                locks = new HashMap<BeanIdentifier, ReferenceCountedLock>();
-            }
+        for (;;) {
             refLock = locks.get(id);
-            if (refLock != null) {
-                refLock.count++;
-            } else {
-                refLock = new ReferenceCountedLock(id);
-                locks.put(id, refLock);
+            if (refLock == null) {
+                refLock = new ReferenceCountedLock(id, locks);
+                ReferenceCountedLock previous = locks.putIfAbsent(id, refLock);
+                if (previous == null) {
+                    break;
+                }
+                refLock = previous;
             }
+            if (refLock.retain()) {
+                break;
+            }
+            // the lock was just released by its last owner, help removing it and try again
+            locks.remove(id, refLock);
         }
         refLock.lock.lock();
         return refLock;
     }
 
-    private class ReferenceCountedLock implements LockedBean {
+    private ConcurrentMap<BeanIdentifier, ReferenceCountedLock> getLocks() {
+        ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks = this.locks;
+        if (locks == null) {
+            // deserialized
+            synchronized (this) {
+                locks = this.locks;
+                if (locks == null) {
+                    this.locks = locks = new ConcurrentHashMap<BeanIdentifier, ReferenceCountedLock>();
+                }
+            }
+        }
+        return locks;
+    }
+
+    private static class ReferenceCountedLock implements LockedBean {
+
+        private static final AtomicIntegerFieldUpdater<ReferenceCountedLock> COUNT_UPDATER = AtomicIntegerFieldUpdater.newUpdater(ReferenceCountedLock.class,
+                "count");
+
         private final BeanIdentifier key;
-        int count = 1;
+        private final ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks;
+        private volatile int count = 1;
         final ReentrantLock lock = new ReentrantLock();
 
-        private ReferenceCountedLock(final BeanIdentifier key) {
+        private ReferenceCountedLock(final BeanIdentifier key, ConcurrentMap<BeanIdentifier, ReferenceCountedLock> locks) {
             this.key = key;
+            this.locks = locks;
         }
 
-        public void unlock() {
-            synchronized (LockStore.this) {
-                lock.unlock();
-                --count;
-                if (count == 0) {
-                    locks.remove(key);
+        /**
+         * Increments the reference count unless the lock was already released by its last owner.
+         *
+         * @return true if the reference count was incremented, false if this lock must not be used anymore
+         */
+        private boolean retain() {
+            for (;;) {
+                int current = count;
+                if (current == 0) {
+                    return false;
+                }
+                if (COUNT_UPDATER.compareAndSet(this, current, current + 1)) {
+                    return true;
                 }
             }
         }
+
+        public void unlock() {
+            lock.unlock();
+            if (COUNT_UPDATER.decrementAndGet(this) == 0) {
+                locks.remove(key, this);
+            }
+        }
     }
 
 
@@ -16,12 +16,17 @@
  */
 package org.jboss.weld.context.cache;
 
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 
 /**
  * Caches beans over the life of a request, to allow for efficient bean lookups from proxies.
  * Besides, can hold any ThreadLocals to be removed at the end of the request.
+ * <p>
+ * There is also an indexed part of the cache - an array of slots (see {@link RequestScopedCacheSlots}) bound to the current request. The whole array is simply
+ * discarded at the end of the request.
+ * </p>
  *
  * @author Stuart Douglas
  */
@@ -29,6 +34,13 @@ public class RequestScopedCache {
 
     private static final ThreadLocal<List<RequestScopedItem>> CACHE = new ThreadLocal<List<RequestScopedItem>>();
 
+    private static final Object[] EMPTY_SLOTS = new Object[0];
+
+    private static final int MIN_SLOTS_LENGTH = 32;
+
+    // Owner/value pairs - the owner of the slot n is stored at 2n, the value at 2n + 1
+    private static final ThreadLocal<Object[]> SLOTS = new ThreadLocal<Object[]>();
+
     private RequestScopedCache() {
     }
 
@@ -70,10 +82,48 @@ public class RequestScopedCache {
         return false;
     }
 
+    /**
+     *
+     * @param slot the slot
+     * @param owner the owner of the slot
+     * @return the value stored in the given slot by the given owner or <code>null</code> if no such value exists or the cache is not active
+     */
+    public static Object getIndexed(int slot, Object owner) {
+        final Object[] slots = SLOTS.get();
+        final int ownerIdx = slot << 1;
+        if (slots != null && ownerIdx < slots.length && slots[ownerIdx] == owner) {
+            return slots[ownerIdx + 1];
+        }
+        return null;
+    }
+
+    /**
+     *
+     * @param slot the slot
+     * @param owner the owner of the slot
+     * @param value the value to store
+     * @return <code>true</code> if the value was stored, <code>false</code> if the cache is not active
+     */
+    public static boolean putIndexedIfActive(int slot, Object owner, Object value) {
+        Object[] slots = SLOTS.get();
+        if (slots == null) {
+            return false;
+        }
+        final int ownerIdx = slot << 1;
+        if (ownerIdx >= slots.length) {
+            slots = Arrays.copyOf(slots, Math.max(ownerIdx + 2, Math.max(slots.length << 1, MIN_SLOTS_LENGTH)));
+            SLOTS.set(slots);
+        }
+        slots[ownerIdx] = owner;
+        slots[ownerIdx + 1] = value;
+        return true;
+    }
+
     public static void beginRequest() {
         // if the previous request was not ended properly for some reason, make sure it is ended now
         endRequest();
         CACHE.set(new LinkedList<RequestScopedItem>());
+        SLOTS.set(EMPTY_SLOTS);
     }
 
     /**
@@ -84,6 +134,7 @@ public class RequestScopedCache {
         final List<RequestScopedItem> result = CACHE.get();
         if (result != null) {
             CACHE.remove();
+            SLOTS.remove();
             for (final RequestScopedItem item : result) {
                 item.invalidate();
             }
@@ -0,0 +1,53 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.context.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.bootstrap.api.Service;
+
+/**
+ * Allocates the slots of the indexed part of {@link RequestScopedCache}. The slots are only unique within a single deployment - the cache entries are keyed by
+ * their owner and therefore a collision with an entry of a different deployment only results in a cache miss.
+ *
+ * @see RequestScopedCache#getIndexed(int, Object)
+ */
+public class RequestScopedCacheSlots implements Service {
+
+    private final AtomicInteger nextSlot = new AtomicInteger();
+
+    /**
+     *
+     * @return a new slot
+     */
+    public int allocate() {
+        return nextSlot.getAndIncrement();
+    }
+
+    /**
+     *
+     * @return the number of allocated slots
+     */
+    public int size() {
+        return nextSlot.get();
+    }
+
+    @Override
+    public void cleanup() {
+    }
+
+}
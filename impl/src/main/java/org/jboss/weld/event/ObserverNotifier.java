@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
@@ -37,6 +38,8 @@ import javax.enterprise.inject.spi.ObserverMethod;
 
 import org.jboss.weld.Container;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.context.RequestContext;
 import org.jboss.weld.context.unbound.UnboundLiteral;
 import org.jboss.weld.injection.ThreadLocalStack.ThreadLocalStackReference;
@@ -78,6 +81,7 @@ public class ObserverNotifier {
     private final Executor asyncEventExecutor;
     private final SecurityServices securityServices;
     private final LazyValueHolder<RequestContext> requestContextHolder;
+    private final boolean concurrentAsyncNotification;
 
     protected ObserverNotifier(String contextId, TypeSafeObserverResolver resolver, ServiceRegistry services, boolean strict) {
         this.resolver = resolver;
@@ -96,6 +100,7 @@ public class ObserverNotifier {
         // LazyValueHolder is used because contexts are not ready yet at the point when ObserverNotifier is first initialized
         this.requestContextHolder = LazyValueHolder
                 .forSupplier(() -> Container.instance(contextId).deploymentManager().instance().select(RequestContext.class, UnboundLiteral.INSTANCE).get());
+        this.concurrentAsyncNotification = services.get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.CONCURRENT_ASYNC_NOTIFICATION);
     }
 
     /**
@@ -293,6 +298,10 @@ public class ObserverNotifier {
      *
      * If an executor is provided then observer methods are notified using this executor. Otherwise, Weld's task executor is used.
      *
+     * By default, all the observer methods are notified serially in a single task. If concurrent notification is enabled (either using
+     * {@link WeldNotificationOptions#CONCURRENT} or {@link ConfigurationKey#CONCURRENT_ASYNC_NOTIFICATION}), each observer method is notified in a separate task
+     * and observer methods with the same priority are notified concurrently.
+     *
      * @param observers the given observer methods
      * @param event the given event object
      * @param metadata event metadata
@@ -303,9 +312,20 @@ public class ObserverNotifier {
             metadata = null;
         }
         final ObserverExceptionHandler handler = new CollectingExceptionHandler();
+        if (isConcurrentAsyncNotification(options)) {
+            return notifyAsyncObserversConcurrently(observers.getAsyncObservers(), event, metadata, options.getExecutor(), handler);
+        }
         return notifyAsyncObservers(observers.getAsyncObservers(), event, metadata, options.getExecutor(), handler);
     }
 
+    private boolean isConcurrentAsyncNotification(NotificationOptions options) {
+        Object value = options.get(WeldNotificationOptions.CONCURRENT);
+        if (value == null) {
+            return concurrentAsyncNotification;
+        }
+        return Boolean.TRUE.equals(value);
+    }
+
     protected <T, U extends T> CompletionStage<U> notifyAsyncObservers(List<ObserverMethod<? super T>> observers, U event, EventMetadata metadata,
             Executor executor, final ObserverExceptionHandler handler) {
         if (executor == null) {
@@ -316,41 +336,111 @@ public class ObserverNotifier {
         }
         final SecurityContext securityContext = securityServices.getSecurityContext();
         return new AsyncEventDeliveryStage<>(() -> {
-            final ThreadLocalStackReference<EventMetadata> stack = currentEventMetadata.pushIfNotNull(metadata);
-            final RequestContext requestContext = requestContextHolder.get();
-            try {
-                securityContext.associate();
-                requestContext.activate();
-                // Note that all async observers are notified serially in a single worker thread
-                for (ObserverMethod<? super T> observer : observers) {
-                    try {
-                        Observers.notify(observer, event, metadata);
-                    } catch (Throwable e) {
-                        handler.handle(e);
-                    }
-                }
-            } finally {
-                stack.pop();
-                requestContext.invalidate();
-                requestContext.deactivate();
-                securityContext.dissociate();
-                securityContext.close();
+            // All the async observers are notified serially in this single task, see also notifyAsyncObserversConcurrently()
+            notifyAsyncObservers(observers, event, metadata, securityContext, handler);
+            checkHandledExceptions(handler);
+            return event;
+        }, executor);
+    }
+
+    /**
+     * Each observer method is notified in a separate task. Observer methods with the same priority are notified concurrently, groups of observer methods with
+     * a different priority are notified one after another. The request context is activated and the security context is associated for each task separately.
+     * <p>
+     * The security context of the thread firing the event is obtained immediately. The security contexts of the tasks of a group are derived from it when the
+     * group is about to be notified, so that no security context is obtained for the groups which are not notified at all.
+     * </p>
+     */
+    protected <T, U extends T> CompletionStage<U> notifyAsyncObserversConcurrently(List<ObserverMethod<? super T>> observers, U event, EventMetadata metadata,
+            Executor executor, final ObserverExceptionHandler handler) {
+        if (executor == null) {
+            executor = asyncEventExecutor;
+        }
+        if (observers.isEmpty()) {
+            return AsyncEventDeliveryStage.completed(event, executor);
+        }
+        final Executor taskExecutor = executor;
+        // Security context must be obtained in the thread firing the event
+        final SecurityContext securityContext = securityServices.getSecurityContext();
+        CompletableFuture<Void> delivery = CompletableFuture.completedFuture(null);
+        int groupStart = 0;
+        while (groupStart < observers.size()) {
+            int groupEnd = groupStart + 1;
+            final int priority = observers.get(groupStart).getPriority();
+            while (groupEnd < observers.size() && observers.get(groupEnd).getPriority() == priority) {
+                groupEnd++;
             }
-            List<Throwable> handledExceptions = handler.getHandledExceptions();
-            if (!handledExceptions.isEmpty()) {
-                CompletionException exception = null;
-                if (handledExceptions.size() == 1) {
-                    exception = new CompletionException(handledExceptions.get(0));
-                } else {
-                    exception = new CompletionException(null);
+            final List<ObserverMethod<? super T>> group = observers.subList(groupStart, groupEnd);
+            delivery = delivery.thenCompose((ignored) -> notifyAsyncObserverGroup(group, event, metadata, securityContext, taskExecutor, handler));
+            groupStart = groupEnd;
+        }
+        return new AsyncEventDeliveryStage<>(delivery.whenComplete((ignored, throwable) -> securityContext.close()).thenApply((ignored) -> {
+            checkHandledExceptions(handler);
+            return event;
+        }), executor);
+    }
+
+    private <T, U extends T> CompletableFuture<Void> notifyAsyncObserverGroup(List<ObserverMethod<? super T>> group, U event, EventMetadata metadata,
+            SecurityContext securityContext, Executor executor, ObserverExceptionHandler handler) {
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[group.size()];
+        // The security context of each task is obtained while the security context of the thread firing the event is associated
+        securityContext.associate();
+        try {
+            for (int i = 0; i < tasks.length; i++) {
+                final ObserverMethod<? super T> observer = group.get(i);
+                final SecurityContext taskSecurityContext = securityServices.getSecurityContext();
+                try {
+                    tasks[i] = CompletableFuture.runAsync(
+                            () -> notifyAsyncObservers(Collections.singletonList(observer), event, metadata, taskSecurityContext, handler), executor);
+                } catch (RuntimeException e) {
+                    // The task was rejected and so its security context would never be closed
+                    taskSecurityContext.close();
+                    throw e;
                 }
-                for (Throwable handledException : handledExceptions) {
-                    exception.addSuppressed(handledException);
+            }
+        } finally {
+            securityContext.dissociate();
+        }
+        return CompletableFuture.allOf(tasks);
+    }
+
+    private <T> void notifyAsyncObservers(List<ObserverMethod<? super T>> observers, T event, EventMetadata metadata, SecurityContext securityContext,
+            ObserverExceptionHandler handler) {
+        final ThreadLocalStackReference<EventMetadata> stack = currentEventMetadata.pushIfNotNull(metadata);
+        final RequestContext requestContext = requestContextHolder.get();
+        try {
+            securityContext.associate();
+            requestContext.activate();
+            for (ObserverMethod<? super T> observer : observers) {
+                try {
+                    Observers.notify(observer, event, metadata);
+                } catch (Throwable e) {
+                    handler.handle(e);
                 }
-                throw exception;
             }
-            return event;
-        }, executor);
+        } finally {
+            stack.pop();
+            requestContext.invalidate();
+            requestContext.deactivate();
+            securityContext.dissociate();
+            securityContext.close();
+        }
+    }
+
+    private static void checkHandledExceptions(ObserverExceptionHandler handler) {
+        List<Throwable> handledExceptions = handler.getHandledExceptions();
+        if (!handledExceptions.isEmpty()) {
+            CompletionException exception = null;
+            if (handledExceptions.size() == 1) {
+                exception = new CompletionException(handledExceptions.get(0));
+            } else {
+                exception = new CompletionException(null);
+            }
+            for (Throwable handledException : handledExceptions) {
+                exception.addSuppressed(handledException);
+            }
+            throw exception;
+        }
     }
 
     /**
@@ -383,7 +473,8 @@ public class ObserverNotifier {
 
     static class CollectingExceptionHandler implements ObserverExceptionHandler {
 
-        private List<Throwable> throwables = new LinkedList<>();
+        // exceptions may be handled concurrently if asynchronous observers are notified concurrently
+        private final List<Throwable> throwables = Collections.synchronizedList(new LinkedList<>());
 
         @Override
         public void handle(Throwable throwable) {
@@ -0,0 +1,54 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.event;
+
+import javax.enterprise.event.NotificationOptions;
+
+import org.jboss.weld.config.ConfigurationKey;
+
+/**
+ * Weld-specific {@link NotificationOptions} keys.
+ *
+ * <pre>
+ * event.fireAsync(new Payload(), WeldNotificationOptions.concurrent());
+ * </pre>
+ *
+ * @see ConfigurationKey#CONCURRENT_ASYNC_NOTIFICATION
+ */
+public final class WeldNotificationOptions {
+
+    /**
+     * The value of this option must be a {@link Boolean}. If set to {@link Boolean#TRUE}, asynchronous observer methods with the same priority are notified
+     * concurrently, each in a separate task. If set to {@link Boolean#FALSE}, all asynchronous observer methods are notified serially in a single task. If not
+     * set, {@link ConfigurationKey#CONCURRENT_ASYNC_NOTIFICATION} is used.
+     */
+    public static final String CONCURRENT = "weld.async.notification.concurrent";
+
+    private static final NotificationOptions CONCURRENT_OPTIONS = NotificationOptions.of(CONCURRENT, Boolean.TRUE);
+
+    private WeldNotificationOptions() {
+    }
+
+    /**
+     *
+     * @return the options enabling the concurrent notification of asynchronous observer methods
+     */
+    public static NotificationOptions concurrent() {
+        return CONCURRENT_OPTIONS;
+    }
+
+}
@@ -16,11 +16,13 @@
  */
 package org.jboss.weld.executor;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
 
 import org.jboss.weld.exceptions.DeploymentException;
@@ -38,16 +40,63 @@ public abstract class AbstractExecutorServices implements ExecutorServices {
 
     private static final long SHUTDOWN_TIMEOUT = 60L;
 
+    /**
+     * Holds the executor services which executes a task submitted via {@link #invokeAllAndCheckForExceptions(Collection)} in the current thread.
+     */
+    private static final ThreadLocal<AbstractExecutorServices> CURRENT = new ThreadLocal<AbstractExecutorServices>();
+
     @Override
     public <T> List<Future<T>> invokeAllAndCheckForExceptions(Collection<? extends Callable<T>> tasks) {
+        if (CURRENT.get() == this) {
+            return invokeAllNested(tasks);
+        }
         try {
-            return checkForExceptions(getTaskExecutor().invokeAll(tasks));
+            return checkForExceptions(getTaskExecutor().invokeAll(wrap(tasks)));
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new DeploymentException(e);
         }
     }
 
+    /**
+     * The tasks are invoked from a task executed by this executor services, e.g. when the bean deployment archives are processed concurrently and each
+     * archive is processed by a concurrent deployer. Blocking the current thread until the tasks are completed could result in a deadlock if all the threads
+     * of a bounded thread pool are waiting. Therefore, the current thread executes all the tasks which were not started by other threads yet.
+     */
+    private <T> List<Future<T>> invokeAllNested(Collection<? extends Callable<T>> tasks) {
+        List<Future<T>> futures = new ArrayList<Future<T>>(tasks.size());
+        for (Callable<T> task : wrap(tasks)) {
+            FutureTask<T> future = new FutureTask<T>(task);
+            futures.add(future);
+            getTaskExecutor().execute(future);
+        }
+        for (Future<T> future : futures) {
+            // Noop if already started by another thread
+            ((FutureTask<T>) future).run();
+        }
+        return checkForExceptions(futures);
+    }
+
+    private <T> List<Callable<T>> wrap(Collection<? extends Callable<T>> tasks) {
+        List<Callable<T>> wrapped = new ArrayList<Callable<T>>(tasks.size());
+        for (Callable<T> task : tasks) {
+            wrapped.add(() -> {
+                AbstractExecutorServices previous = CURRENT.get();
+                CURRENT.set(this);
+                try {
+                    return task.call();
+                } finally {
+                    if (previous == null) {
+                        CURRENT.remove();
+                    } else {
+                        CURRENT.set(previous);
+                    }
+                }
+            });
+        }
+        return wrapped;
+    }
+
     public <T> List<Future<T>> invokeAllAndCheckForExceptions(TaskFactory<T> factory) {
         return invokeAllAndCheckForExceptions(factory.createTasks(getThreadPoolSize()));
     }
@@ -1,6 +1,7 @@
 package org.jboss.weld.injection.producer;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
 import javax.enterprise.inject.spi.InjectionPoint;
@@ -65,6 +66,14 @@ public class InjectionTargetService extends AbstractBootstrapService {
         injectionTargetsToInitialize.clear();
     }
 
+    /**
+     *
+     * @return the producers whose validation is scheduled for the deployment validation, e.g. the producers created by portable extensions
+     */
+    public Collection<Producer<?>> getProducersToValidate() {
+        return Collections.unmodifiableCollection(producersToValidate);
+    }
+
     public void validate() {
         validator.validateProducers(producersToValidate, beanManager);
         producersToValidate.clear();
@@ -57,23 +57,28 @@ abstract class AroundInvokeInvocationContext extends AbstractInvocationContext {
             Set<Annotation> interceptorBindings, Stack stack) {
         CombinedInterceptorAndDecoratorStackMethodHandler currentHandler = (stack == null) ? null : stack.peek();
         if (chain.size() == 1) {
-            return new TerminalAroundInvokeInvocationContext(instance, method, proceed, args, null, interceptorBindings, currentHandler);
+            return new TerminalAroundInvokeInvocationContext(instance, method, proceed, args, null, interceptorBindings, currentHandler, stack);
         } else {
-            return new NonTerminalAroundInvokeInvocationContext(instance, method, proceed, args, interceptorBindings, chain, currentHandler);
+            return new NonTerminalAroundInvokeInvocationContext(instance, method, proceed, args, interceptorBindings, chain, currentHandler, stack);
         }
     }
 
     final CombinedInterceptorAndDecoratorStackMethodHandler currentHandler;
+    /*
+     * The stack the interceptor chain was started with. Used to avoid the thread-local lookup when proceeding in the same thread.
+     */
+    final Stack stack;
 
     AroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters, Map<String, Object> contextData,
-            Set<Annotation> interceptorBindings, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
+            Set<Annotation> interceptorBindings, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler, Stack stack) {
         super(target, method, proceed, parameters, contextData, interceptorBindings);
         this.currentHandler = currentHandler;
+        this.stack = stack;
     }
 
     @Override
     public Object proceed() throws Exception {
-        final Stack stack = InterceptionDecorationContext.startIfNotOnTop(currentHandler);
+        final Stack stack = InterceptionDecorationContext.startIfNotOnTop(this.stack, currentHandler);
         try {
             return proceedInternal();
         } catch (InvocationTargetException e) {
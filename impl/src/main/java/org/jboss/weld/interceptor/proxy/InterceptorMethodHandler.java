@@ -17,6 +17,7 @@ import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
 import org.jboss.weld.bean.proxy.StackAwareMethodHandler;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
 import org.jboss.weld.interceptor.util.InterceptionUtils;
+import org.jboss.weld.util.collections.ImmutableList;
 import org.jboss.weld.util.reflection.Reflections;
 
 /**
@@ -51,9 +52,6 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
                 return executeInterception(self, null, null, null, InterceptionType.PRE_DESTROY, stack);
             }
         } else {
-            if (isInterceptorMethod(thisMethod)) {
-                return Reflections.invokeAndUnwrap(self, proceed, args);
-            }
             return executeInterception(self, thisMethod, proceed, args, InterceptionType.AROUND_INVOKE, stack);
         }
         return null;
@@ -62,7 +60,7 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
     protected Object executeInterception(Object instance, Method method, Method proceed, Object[] args, InterceptionType interceptionType, Stack stack) throws Throwable {
         CachedInterceptionChain chain = getInterceptionChain(instance, method, interceptionType);
         if (chain.interceptorMethods.isEmpty()) {
-            // shortcut if there are no interceptors
+            // shortcut if there are no interceptors or the method itself is an interceptor method of the target class
             if (proceed == null) {
                 return null;
             } else {
@@ -92,8 +90,13 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
         if (method != null) {
             CachedInterceptionChain cachedChain = cachedChains.get(method);
             if (cachedChain == null) {
-                cachedChain = new CachedInterceptionChain(ctx.buildInterceptorMethodInvocations(instance, method, interceptionType), ctx.getInterceptionModel()
-                        .getMemberInterceptorBindings(method));
+                if (isInterceptorMethod(method)) {
+                    // interceptor methods of the target class are never intercepted
+                    cachedChain = new CachedInterceptionChain(ImmutableList.<InterceptorMethodInvocation> of(), null);
+                } else {
+                    cachedChain = new CachedInterceptionChain(ctx.buildInterceptorMethodInvocations(instance, method, interceptionType), ctx
+                            .getInterceptionModel().getMemberInterceptorBindings(method));
+                }
                 CachedInterceptionChain old = cachedChains.putIfAbsent(method, cachedChain);
                 if (old != null) {
                     cachedChain = old;
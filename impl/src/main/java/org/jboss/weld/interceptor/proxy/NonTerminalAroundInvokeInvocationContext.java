@@ -25,6 +25,7 @@ import java.util.Set;
 import javax.interceptor.InvocationContext;
 
 import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandler;
+import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
 import org.jboss.weld.interceptor.WeldInvocationContext;
 
 /**
@@ -43,19 +44,19 @@ class NonTerminalAroundInvokeInvocationContext extends AroundInvokeInvocationCon
     private final List<InterceptorMethodInvocation> chain;
 
     public NonTerminalAroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters, Set<Annotation> interceptorBindings,
-            List<InterceptorMethodInvocation> chain, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
-        this(target, method, proceed, parameters, newContextData(interceptorBindings), interceptorBindings, 0, chain, currentHandler);
+            List<InterceptorMethodInvocation> chain, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler, Stack stack) {
+        this(target, method, proceed, parameters, newContextData(interceptorBindings), interceptorBindings, 0, chain, currentHandler, stack);
     }
 
     public NonTerminalAroundInvokeInvocationContext(NonTerminalAroundInvokeInvocationContext ctx) {
         this(ctx.getTarget(), ctx.getMethod(), ctx.getProceed(), ctx.getParameters(), ctx.contextData, ctx.getInterceptorBindings(), ctx.position + 1,
-                ctx.chain, ctx.currentHandler);
+                ctx.chain, ctx.currentHandler, ctx.stack);
     }
 
     private NonTerminalAroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters, Map<String, Object> contextData,
             Set<Annotation> interceptorBindings, int position, List<InterceptorMethodInvocation> chain,
-            CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
-        super(target, method, proceed, parameters, contextData, interceptorBindings, currentHandler);
+            CombinedInterceptorAndDecoratorStackMethodHandler currentHandler, Stack stack) {
+        super(target, method, proceed, parameters, contextData, interceptorBindings, currentHandler, stack);
         this.position = position;
         this.chain = chain;
     }
@@ -515,4 +515,24 @@ public interface BeanLogger extends WeldLogger {
     @Message(id = 1568, value = "Unable to create ClassFile for: {1}.", format = Format.MESSAGE_FORMAT)
     IllegalStateException unableToCreateClassFile(Object name, @Cause Throwable cause);
 
+    @LogMessage(level = Level.WARN)
+    @Message(id = 1569, value = "Unable to write the proxy class archive {0}", format = Format.MESSAGE_FORMAT)
+    void proxyClassArchiveCannotBeWritten(Object archive, @Cause Throwable cause);
+
+    @LogMessage(level = Level.INFO)
+    @Message(id = 1570, value = "{0} proxy class(es) written to the proxy class archive {1}", format = Format.MESSAGE_FORMAT)
+    void proxyClassArchiveWritten(Object count, Object archive);
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 1571, value = "{0} pre-generated proxy class(es) listed in {1}", format = Format.MESSAGE_FORMAT)
+    void pregeneratedProxyClassesFound(Object count, Object index);
+
+    @LogMessage(level = Level.WARN)
+    @Message(id = 1572, value = "Pre-generated proxy class {0} cannot be loaded from {1}, the class will be generated", format = Format.MESSAGE_FORMAT)
+    void pregeneratedProxyClassNotLoaded(Object className, Object classLoader);
+
+    @LogMessage(level = Level.INFO)
+    @Message(id = 1573, value = "Pre-generated proxy class {0} from {1} does not match the proxied types, the class will be generated", format = Format.MESSAGE_FORMAT)
+    void pregeneratedProxyClassOutdated(Object className, Object classFile);
+
 }
\ No newline at end of file
@@ -305,4 +305,20 @@ public interface BootstrapLogger extends WeldLogger {
     @Message(id = 173, value = "ProcessProducer.configureProducer() called by {0} for {1}", format = Format.MESSAGE_FORMAT)
     void configureProducerCalled(Object extensionName, Object bean);
 
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 174, value = "Bootstrap phase {0} completed for {1} bean deployment archive(s) in {2} ms (concurrent: {3})", format = Format.MESSAGE_FORMAT)
+    void bootstrapPhaseCompleted(Object phase, Object bdaCount, Object time, Object concurrent);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 175, value = "Warm-up completed in {0} ms: {1} injection point(s) resolved, {2} client proxy(ies) created", format = Format.MESSAGE_FORMAT)
+    void warmUpCompleted(Object time, Object injectionPoints, Object clientProxies);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 176, value = "Deployment validation skipped - the deployment matches the snapshot {0}", format = Format.MESSAGE_FORMAT)
+    void deploymentValidationSkipped(Object snapshot);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 177, value = "Unable to write the deployment snapshot {0}", format = Format.MESSAGE_FORMAT)
+    void deploymentSnapshotCannotBeWritten(Object snapshot, @Cause Throwable cause);
+
 }
@@ -19,7 +19,9 @@ package org.jboss.weld.logging;
 import static org.jboss.weld.logging.WeldLogger.WELD_PROJECT_CODE;
 
 import org.jboss.logging.Logger;
+import org.jboss.logging.Logger.Level;
 import org.jboss.logging.annotations.Cause;
+import org.jboss.logging.annotations.LogMessage;
 import org.jboss.logging.annotations.Message;
 import org.jboss.logging.annotations.Message.Format;
 import org.jboss.logging.annotations.MessageLogger;
@@ -43,4 +45,8 @@ public interface ResolutionLogger extends WeldLogger {
     @Message(id = 1602, value = "Cannot create qualifier instance model for {0}\n\tat {1}\n  StackTrace:", format = Format.MESSAGE_FORMAT)
     WeldException cannotCreateQualifierInstanceValues(Object annotation, Object stackElement, @Cause Exception cause);
 
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 1603, value = "Resolution cache statistics for {0}:\n  beans: {1}\n  disambiguation: {2}\n  decorators: {3}\n  interceptors: {4}\n  names: {5}", format = Format.MESSAGE_FORMAT)
+    void resolutionCacheStatistics(Object manager, Object beans, Object disambiguation, Object decorators, Object interceptors, Object names);
+
 }
\ No newline at end of file
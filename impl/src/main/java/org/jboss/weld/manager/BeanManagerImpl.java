@@ -100,6 +100,7 @@ import org.jboss.weld.bootstrap.events.ContainerLifecycleEvents;
 import org.jboss.weld.bootstrap.spi.CDI11Deployment;
 import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
+import org.jboss.weld.context.ActiveContextRegistry;
 import org.jboss.weld.context.CreationalContextImpl;
 import org.jboss.weld.context.PassivatingContextWrapper;
 import org.jboss.weld.context.WeldCreationalContext;
@@ -127,6 +128,7 @@ import org.jboss.weld.interceptor.reader.InterceptorMetadataReader;
 import org.jboss.weld.interceptor.spi.model.InterceptionModel;
 import org.jboss.weld.logging.BeanManagerLogger;
 import org.jboss.weld.logging.BootstrapLogger;
+import org.jboss.weld.logging.ResolutionLogger;
 import org.jboss.weld.manager.api.WeldInjectionTargetBuilder;
 import org.jboss.weld.manager.api.WeldInjectionTargetFactory;
 import org.jboss.weld.manager.api.WeldManager;
@@ -195,7 +197,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
     */
 
     // Contexts are shared across the application
-    private final transient Map<Class<? extends Annotation>, List<Context>> contexts;
+    private final transient ActiveContextRegistry contexts;
 
     // Client proxies can be used application wide
     private final transient ClientProxyProvider clientProxyProvider;
@@ -289,6 +291,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
      * Stuff that is used often thus we cache it here to reduce service lookups
      */
     private final transient CurrentInjectionPoint currentInjectionPoint;
+    private final transient ContextualStore contextualStore;
     private final transient boolean clientProxyOptimization;
 
     /**
@@ -298,8 +301,6 @@ public class BeanManagerImpl implements WeldManager, Serializable {
      * @return
      */
     public static BeanManagerImpl newRootManager(String contextId, String id, ServiceRegistry serviceRegistry) {
-        Map<Class<? extends Annotation>, List<Context>> contexts = new ConcurrentHashMap<Class<? extends Annotation>, List<Context>>();
-
         return new BeanManagerImpl(
                 serviceRegistry,
                 new CopyOnWriteArrayList<Bean<?>>(),
@@ -310,7 +311,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
                 new CopyOnWriteArrayList<String>(),
                 new ConcurrentHashMap<EjbDescriptor<?>, SessionBean<?>>(),
                 new ClientProxyProvider(contextId),
-                contexts,
+                new ActiveContextRegistry(),
                 ModuleEnablement.EMPTY_ENABLEMENT,
                 id,
                 new AtomicInteger(),
@@ -347,7 +348,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
             List<String> namespaces,
             Map<EjbDescriptor<?>, SessionBean<?>> enterpriseBeans,
             ClientProxyProvider clientProxyProvider,
-            Map<Class<? extends Annotation>, List<Context>> contexts,
+            ActiveContextRegistry contexts,
             ModuleEnablement enabled,
             String id,
             AtomicInteger childIds,
@@ -392,6 +393,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         this.containerLifecycleEvents = serviceRegistry.get(ContainerLifecycleEvents.class);
         this.registry = getServices().get(SpecializationAndEnablementRegistry.class);
         this.currentInjectionPoint = getServices().get(CurrentInjectionPoint.class);
+        this.contextualStore = getServices().get(ContextualStore.class);
         this.clientProxyOptimization = getServices().get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.INJECTABLE_REFERENCE_OPTIMIZATION);
     }
 
@@ -455,7 +457,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
                     enterpriseBeans.put(enterpriseBean.getEjbDescriptor(), enterpriseBean);
                 }
                 if (bean instanceof PassivationCapable) {
-                    getServices().get(ContextualStore.class).putIfAbsent(bean);
+                    contextualStore.putIfAbsent(bean);
                 }
                 registerBeanNamespace(bean);
                 // New beans (except for SessionBeans) and most built in beans aren't resolvable transitively
@@ -468,7 +470,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
 
     public void addDecorator(Decorator<?> bean) {
         decorators.add(bean);
-        getServices().get(ContextualStore.class).putIfAbsent(bean);
+        contextualStore.putIfAbsent(bean);
         decoratorResolver.clear();
     }
 
@@ -479,7 +481,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
 
     public void addInterceptor(Interceptor<?> bean) {
         interceptors.add(bean);
-        getServices().get(ContextualStore.class).putIfAbsent(bean);
+        contextualStore.putIfAbsent(bean);
         interceptorResolver.clear();
     }
 
@@ -583,16 +585,11 @@ public class BeanManagerImpl implements WeldManager, Serializable {
     }
 
     public void addContext(Context context) {
-        Class<? extends Annotation> scope = context.getScope();
-        if (isPassivatingScope(scope)) {
-            context = PassivatingContextWrapper.wrap(context, services.get(ContextualStore.class));
-        }
-        List<Context> contextList = contexts.get(scope);
-        if (contextList == null) {
-            contextList = new CopyOnWriteArrayList<Context>();
-            contexts.put(scope, contextList);
+        Context registered = context;
+        if (isPassivatingScope(context.getScope())) {
+            registered = PassivatingContextWrapper.wrap(context, services.get(ContextualStore.class));
         }
-        contextList.add(context);
+        contexts.register(context, registered);
     }
 
     /**
@@ -655,21 +652,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
     }
 
     private Context internalGetContext(Class<? extends Annotation> scopeType) {
-        Context activeContext = null;
-        final List<Context> ctx = contexts.get(scopeType);
-        if (ctx == null) {
-            return null;
-        }
-        for (Context context : ctx) {
-            if (context.isActive()) {
-                if (activeContext == null) {
-                    activeContext = context;
-                } else {
-                    throw BeanManagerLogger.LOG.duplicateActiveContexts(scopeType.getName());
-                }
-            }
-        }
-        return activeContext;
+        return contexts.getActiveContext(scopeType);
     }
 
     public Object getReference(Bean<?> bean, Type requestedType, CreationalContext<?> creationalContext, boolean noProxy) {
@@ -983,7 +966,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         return clientProxyProvider;
     }
 
-    protected Map<Class<? extends Annotation>, List<Context>> getContexts() {
+    protected ActiveContextRegistry getContexts() {
         return contexts;
     }
 
@@ -1049,12 +1032,12 @@ public class BeanManagerImpl implements WeldManager, Serializable {
 
     @Override
     public Bean<?> getPassivationCapableBean(String id) {
-        return getServices().get(ContextualStore.class).<Bean<Object>, Object>getContextual(id);
+        return contextualStore.<Bean<Object>, Object>getContextual(id);
     }
 
     @Override
     public Bean<?> getPassivationCapableBean(BeanIdentifier identifier) {
-        return getServices().get(ContextualStore.class).<Bean<Object>, Object>getContextual(identifier);
+        return contextualStore.<Bean<Object>, Object>getContextual(identifier);
     }
 
     @Override
@@ -1167,6 +1150,10 @@ public class BeanManagerImpl implements WeldManager, Serializable {
     }
 
     public void cleanup() {
+        if (ResolutionLogger.LOG.isDebugEnabled()) {
+            ResolutionLogger.LOG.resolutionCacheStatistics(getId(), beanResolver.getCacheStatistics(), beanResolver.getDisambiguationCacheStatistics(),
+                    decoratorResolver.getCacheStatistics(), interceptorResolver.getCacheStatistics(), nameBasedResolver.getCacheStatistics());
+        }
         services.cleanup();
         this.accessibleManagers.clear();
         this.managers.clear();
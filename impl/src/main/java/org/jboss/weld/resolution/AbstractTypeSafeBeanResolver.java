@@ -20,14 +20,10 @@ import java.io.Serializable;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -39,6 +35,7 @@ import javax.inject.Provider;
 
 import org.jboss.weld.bean.AbstractProducerBean;
 import org.jboss.weld.bootstrap.SpecializationAndEnablementRegistry;
+import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.inject.WeldInstance;
 import org.jboss.weld.manager.BeanManagerImpl;
@@ -48,8 +45,8 @@ import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.Primitives;
 import org.jboss.weld.util.cache.ComputingCache;
 import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.jboss.weld.util.cache.ComputingCacheStatistics;
 import org.jboss.weld.util.collections.ImmutableSet;
-import org.jboss.weld.util.collections.WeldCollections;
 import org.jboss.weld.util.reflection.Reflections;
 
 /**
@@ -63,7 +60,7 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
     private final SpecializationAndEnablementRegistry registry;
     private final MetaAnnotationStore store;
 
-    private final LazyValueHolder<Map<Type, ArrayList<T>>> beansByType;
+    private final LazyValueHolder<BeanTypeAndQualifierIndex<T>> beanIndex;
 
     public class BeanDisambiguation implements Function<Set<Bean<?>>, Set<Bean<?>>> {
 
@@ -134,61 +131,25 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
         super(beans, beanManager.getServices().get(WeldConfiguration.class));
         this.beanManager = beanManager;
         this.registry = beanManager.getServices().get(SpecializationAndEnablementRegistry.class);
-        this.disambiguatedBeans = ComputingCacheBuilder.newBuilder().build(new BeanDisambiguation());
+        this.disambiguatedBeans = ComputingCacheBuilder.newBuilder()
+                .setMaxSize(beanManager.getServices().get(WeldConfiguration.class).getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE)).recordStats()
+                .build(new BeanDisambiguation());
         this.store = beanManager.getServices().get(MetaAnnotationStore.class);
-        // beansByType stores a map of a type to all beans that are assignable to
-        // that type. This means that it most cases we do not need to loop through
-        // every bean in the system when performing resolution
+        // beanIndex maps a type to all beans that are assignable to that type
+        // (and further groups them by qualifiers). This means that in most cases we
+        // do not need to loop through every bean in the system when performing resolution
 
-        // we build this map lazily, as we do not have access to all beans when
+        // we build the index lazily, as we do not have access to all beans when
         // the resolver is created. Calling the resolvers clear method will also
-        // clear this map.This task is not suitable for a computing hashmap, as
-        // the whole map should be calculated in one hit, so only a single
+        // clear the index. This task is not suitable for a computing hashmap, as
+        // the whole index should be calculated in one hit, so only a single
         // iteration over all beans is required
 
-        this.beansByType = new LazyValueHolder<Map<Type, ArrayList<T>>>() {
+        this.beanIndex = new LazyValueHolder<BeanTypeAndQualifierIndex<T>>() {
 
             @Override
-            protected Map<Type, ArrayList<T>> computeValue() {
-                Map<Type, ArrayList<T>> map = new HashMap<Type, ArrayList<T>>();
-                for (T bean : beans) {
-                    mapBean(map, bean);
-                }
-                trimArrayListsToSize(map);
-                return WeldCollections.immutableMapView(map);
-            }
-
-            private void mapBean(Map<Type, ArrayList<T>> map, T bean) {
-                for (Type type : bean.getTypes()) {
-                    mapTypeToBean(map, type, bean);
-
-                    if (type instanceof ParameterizedType) {
-                        // we need to add the raw type as well
-                        Type rawType = ((ParameterizedType) type).getRawType();
-                        mapTypeToBean(map, rawType, bean);
-                    } else if (type instanceof Class<?>) {
-                        // if the type is a primitive we also need to add the bean
-                        // is also resolvable from the boxed class
-                        Class<?> clazz = (Class<?>) type;
-                        if (clazz.isPrimitive()) {
-                            Class<?> wrapped = Primitives.wrap(clazz);
-                            mapTypeToBean(map, wrapped, bean);
-                        }
-                    }
-                }
-            }
-
-            private void mapTypeToBean(Map<Type, ArrayList<T>> map, Type type, T bean) {
-                if (!map.containsKey(type)) {
-                    map.put(type, new ArrayList<T>());
-                }
-                map.get(type).add(bean);
-            }
-
-            private void trimArrayListsToSize(Map<Type, ArrayList<T>> map) {
-                for (Entry<Type, ArrayList<T>> entry : map.entrySet()) {
-                    entry.getValue().trimToSize();
-                }
+            protected BeanTypeAndQualifierIndex<T> computeValue() {
+                return new BeanTypeAndQualifierIndex<T>(beans, store);
             }
         };
     }
@@ -207,6 +168,7 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
 
     @Override
     protected Iterable<? extends T> getAllBeans(Resolvable resolvable) {
+        Set<QualifierInstance> qualifiers = resolvable.getQualifiers();
         if (resolvable.getTypes().contains(Object.class)
             || Instance.class.equals(resolvable.getJavaClass())
             || Event.class.equals(resolvable.getJavaClass())
@@ -214,33 +176,36 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
             || InterceptionFactory.class.equals(resolvable.getJavaClass())
             || WeldInstance.class.equals(resolvable.getJavaClass())
             || resolvable.getTypes().contains(Serializable.class)) {
-            return super.getAllBeans(resolvable);
+            // the type cannot be used to narrow down the candidates but the qualifiers still can
+            if (qualifiers.isEmpty()) {
+                return super.getAllBeans(resolvable);
+            }
+            return beanIndex.get().getBeans(qualifiers);
         }
         Set<T> beans = new HashSet<T>();
         for (Type type : resolvable.getTypes()) {
-            beans.addAll(getBeans(type));
+            beans.addAll(getBeans(type, qualifiers));
             if (type instanceof ParameterizedType) {
                 // we also need to consider the raw type
                 Type rawType = ((ParameterizedType) type).getRawType();
-                beans.addAll(getBeans(rawType));
+                beans.addAll(getBeans(rawType, qualifiers));
             } else if (type instanceof Class<?>) {
                 // primitives
                 Class<?> clazz = (Class<?>) type;
                 if (clazz.isPrimitive()) {
                     clazz = Primitives.wrap(clazz);
-                    beans.addAll(getBeans(clazz));
+                    beans.addAll(getBeans(clazz, qualifiers));
                 }
             } else if (type instanceof GenericArrayType) {
                 Class<Object> rawArrayType = Reflections.getRawType(type);
-                beans.addAll(getBeans(rawArrayType));
+                beans.addAll(getBeans(rawArrayType, qualifiers));
             }
         }
         return beans;
     }
 
-    private List<T> getBeans(Type type) {
-        List<T> beansForType = beansByType.get().get(type);
-        return beansForType == null ? Collections.<T>emptyList() : beansForType;
+    private List<T> getBeans(Type type, Set<QualifierInstance> qualifiers) {
+        return beanIndex.get().getBeans(type, qualifiers);
     }
 
     /**
@@ -269,11 +234,19 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
         return disambiguatedBeans.getCastValue(beans);
     }
 
+    /**
+     *
+     * @return the statistics of the cache of disambiguated beans
+     */
+    public ComputingCacheStatistics getDisambiguationCacheStatistics() {
+        return disambiguatedBeans.getStatistics();
+    }
+
     @Override
     public void clear() {
         super.clear();
         this.disambiguatedBeans.clear();
-        this.beansByType.clear();
+        this.beanIndex.clear();
     }
 
     MetaAnnotationStore getStore() {
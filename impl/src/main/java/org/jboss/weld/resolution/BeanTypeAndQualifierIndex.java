@@ -0,0 +1,159 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+import org.jboss.weld.util.Primitives;
+import org.jboss.weld.util.collections.WeldCollections;
+
+/**
+ * An immutable two-level index of beans. The first level maps a bean type (and its raw type) to the beans having this type, the second level maps a
+ * qualifier to the beans having this qualifier. There is also a separate qualifier-only index of all beans which is used for lookups which cannot be narrowed
+ * down by type (e.g. the required type is {@link Object}).
+ * <p>
+ * A bean may only match a {@link Resolvable} if it has all the required qualifiers. Therefore, the candidates for a particular type are found in the smallest
+ * bucket of the required qualifiers and no bean outside that bucket needs to be checked.
+ * </p>
+ *
+ * @param <T> the bean type
+ */
+final class BeanTypeAndQualifierIndex<T extends Bean<?>> {
+
+    private final Map<Type, Buckets<T>> beansByType;
+
+    private final Buckets<T> beansByQualifier;
+
+    BeanTypeAndQualifierIndex(Iterable<T> beans, MetaAnnotationStore store) {
+        Map<Type, Buckets<T>> beansByType = new HashMap<>();
+        Buckets<T> beansByQualifier = new Buckets<>();
+        for (T bean : beans) {
+            Set<QualifierInstance> qualifiers = QualifierInstance.of(bean, store);
+            beansByQualifier.add(bean, qualifiers);
+            for (Type type : bean.getTypes()) {
+                mapTypeToBean(beansByType, type, qualifiers, bean);
+                if (type instanceof ParameterizedType) {
+                    // we need to add the raw type as well
+                    Type rawType = ((ParameterizedType) type).getRawType();
+                    mapTypeToBean(beansByType, rawType, qualifiers, bean);
+                } else if (type instanceof Class<?>) {
+                    // if the type is a primitive we also need to add the bean
+                    // is also resolvable from the boxed class
+                    Class<?> clazz = (Class<?>) type;
+                    if (clazz.isPrimitive()) {
+                        Class<?> wrapped = Primitives.wrap(clazz);
+                        mapTypeToBean(beansByType, wrapped, qualifiers, bean);
+                    }
+                }
+            }
+        }
+        for (Buckets<T> buckets : beansByType.values()) {
+            buckets.trimToSize();
+        }
+        beansByQualifier.trimToSize();
+        this.beansByType = WeldCollections.immutableMapView(beansByType);
+        this.beansByQualifier = beansByQualifier;
+    }
+
+    /**
+     *
+     * @param type the bean type
+     * @param qualifiers the required qualifiers
+     * @return the beans which have the given type and might have all the required qualifiers
+     */
+    List<T> getBeans(Type type, Set<QualifierInstance> qualifiers) {
+        Buckets<T> beansForType = beansByType.get(type);
+        if (beansForType == null) {
+            return Collections.emptyList();
+        }
+        return beansForType.get(qualifiers);
+    }
+
+    /**
+     *
+     * @param qualifiers the required qualifiers
+     * @return the beans which might have all the required qualifiers, regardless of the type
+     */
+    List<T> getBeans(Set<QualifierInstance> qualifiers) {
+        return beansByQualifier.get(qualifiers);
+    }
+
+    private static <T> void mapTypeToBean(Map<Type, Buckets<T>> beansByType, Type type, Set<QualifierInstance> qualifiers, T bean) {
+        Buckets<T> buckets = beansByType.get(type);
+        if (buckets == null) {
+            buckets = new Buckets<>();
+            beansByType.put(type, buckets);
+        }
+        buckets.add(bean, qualifiers);
+    }
+
+    /**
+     * All the beans of a particular index entry, also grouped by qualifiers.
+     *
+     * @param <T> the bean type
+     */
+    private static final class Buckets<T> {
+
+        private final ArrayList<T> all = new ArrayList<>();
+
+        private final Map<QualifierInstance, ArrayList<T>> byQualifier = new HashMap<>();
+
+        private void add(T bean, Set<QualifierInstance> qualifiers) {
+            all.add(bean);
+            for (QualifierInstance qualifier : qualifiers) {
+                ArrayList<T> bucket = byQualifier.get(qualifier);
+                if (bucket == null) {
+                    bucket = new ArrayList<>();
+                    byQualifier.put(qualifier, bucket);
+                }
+                bucket.add(bean);
+            }
+        }
+
+        private List<T> get(Set<QualifierInstance> qualifiers) {
+            List<T> smallest = all;
+            for (QualifierInstance qualifier : qualifiers) {
+                List<T> bucket = byQualifier.get(qualifier);
+                if (bucket == null) {
+                    // no bean has this qualifier
+                    return Collections.emptyList();
+                }
+                if (bucket.size() < smallest.size()) {
+                    smallest = bucket;
+                }
+            }
+            return smallest;
+        }
+
+        private void trimToSize() {
+            all.trimToSize();
+            for (ArrayList<T> bucket : byQualifier.values()) {
+                bucket.trimToSize();
+            }
+        }
+    }
+}
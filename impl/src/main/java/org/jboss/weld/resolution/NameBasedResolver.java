@@ -23,10 +23,13 @@ import java.util.function.Function;
 import javax.enterprise.inject.spi.Bean;
 
 import org.jboss.weld.bootstrap.SpecializationAndEnablementRegistry;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.util.Beans;
 import org.jboss.weld.util.cache.ComputingCache;
 import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.jboss.weld.util.cache.ComputingCacheStatistics;
 
 /**
  * Implementation of name based bean resolution
@@ -60,13 +63,15 @@ public class NameBasedResolver {
     }
 
     // The resolved names
-    private ComputingCache<String, Set<Bean<?>>> resolvedNames;
+    private final ComputingCache<String, Set<Bean<?>>> resolvedNames;
 
     /**
      * Constructor
      */
     public NameBasedResolver(BeanManagerImpl manager, Iterable<? extends Bean<?>> allBeans) {
-        this.resolvedNames = ComputingCacheBuilder.newBuilder().build(new NameToBeanSet(manager, allBeans));
+        this.resolvedNames = ComputingCacheBuilder.newBuilder()
+                .setMaxSize(manager.getServices().get(WeldConfiguration.class).getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE)).recordStats()
+                .build(new NameToBeanSet(manager, allBeans));
     }
 
     /**
@@ -87,6 +92,14 @@ public class NameBasedResolver {
         return resolvedNames.getValue(name);
     }
 
+    /**
+     *
+     * @return the statistics of the cache of resolved names
+     */
+    public ComputingCacheStatistics getCacheStatistics() {
+        return resolvedNames.getStatistics();
+    }
+
     /**
      * Gets a string representation
      *
@@ -97,6 +110,7 @@ public class NameBasedResolver {
         StringBuilder buffer = new StringBuilder();
         buffer.append("Resolver\n");
         buffer.append("Resolved names points: ").append(resolvedNames.size()).append('\n');
+        buffer.append("Cache statistics: ").append(resolvedNames.getStatistics()).append('\n');
         return buffer.toString();
     }
 
@@ -28,6 +28,7 @@ import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.util.cache.ComputingCache;
 import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.jboss.weld.util.cache.ComputingCacheStatistics;
 import org.jboss.weld.util.collections.ImmutableList;
 import org.jboss.weld.util.collections.WeldCollections;
 
@@ -65,7 +66,8 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
      */
     public TypeSafeResolver(Iterable<? extends T> allBeans, WeldConfiguration configuration) {
         this.resolverFunction = new ResolvableToBeanCollection<R, T, C, F>(this);
-        this.resolved = ComputingCacheBuilder.newBuilder().setMaxSize(configuration.getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE)).build(resolverFunction);
+        this.resolved = ComputingCacheBuilder.newBuilder().setMaxSize(configuration.getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE)).recordStats()
+                .build(resolverFunction);
         this.allBeans = allBeans;
     }
 
@@ -142,6 +144,14 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
         return resolved.getValueIfPresent(wrap(resolvable)) != null;
     }
 
+    /**
+     *
+     * @return the statistics of the cache of resolved injection points
+     */
+    public ComputingCacheStatistics getCacheStatistics() {
+        return resolved.getStatistics();
+    }
+
     /**
      * Gets a string representation
      *
@@ -152,6 +162,7 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
         StringBuilder sb = new StringBuilder();
         sb.append("Resolver\n");
         sb.append("Resolved injection points: ").append(resolved.size()).append('\n');
+        sb.append("Cache statistics: ").append(resolved.getStatistics()).append('\n');
         return sb.toString();
     }
 }
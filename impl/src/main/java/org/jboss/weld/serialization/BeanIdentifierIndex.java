@@ -147,6 +147,14 @@ public class BeanIdentifierIndex implements Service {
         return index != null;
     }
 
+    /**
+     * @return the number of indexed identifiers
+     */
+    public int size() {
+        checkIsBuilt();
+        return index.length;
+    }
+
     /**
      * @return <code>true</code> if the index is empty, <code>false</code> otherwise
      */
@@ -79,4 +79,11 @@ public interface ComputingCache<K, V> {
      */
     void forEachValue(Consumer<? super V> consumer);
 
+    /**
+     *
+     * @return the current statistics
+     * @see ComputingCacheBuilder#recordStats()
+     */
+    ComputingCacheStatistics getStatistics();
+
 }
@@ -19,6 +19,7 @@ package org.jboss.weld.util.cache;
 import java.lang.ref.WeakReference;
 import java.util.function.Function;
 
+import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.WeakLazyValueHolder;
 
 /**
@@ -33,6 +34,8 @@ public final class ComputingCacheBuilder {
 
     private boolean weakValues;
 
+    private boolean recordStats;
+
     private ComputingCacheBuilder() {
     }
 
@@ -45,6 +48,7 @@ public final class ComputingCacheBuilder {
     }
 
     /**
+     * If the maximum size is exceeded, the cache evicts entries which were not used recently.
      *
      * @param maxSize
      * @return self
@@ -64,6 +68,17 @@ public final class ComputingCacheBuilder {
         return this;
     }
 
+    /**
+     * Hits, misses and evictions should be counted.
+     *
+     * @return self
+     * @see ComputingCache#getStatistics()
+     */
+    public ComputingCacheBuilder recordStats() {
+        this.recordStats = true;
+        return this;
+    }
+
     /**
      *
      * @param computingFunction
@@ -71,8 +86,8 @@ public final class ComputingCacheBuilder {
      */
     public <K, V> ComputingCache<K, V> build(Function<K, V> computingFunction) {
         if (weakValues) {
-            return new ReentrantMapBackedComputingCache<>(computingFunction, WeakLazyValueHolder::forSupplier, maxSize);
+            return new ReentrantMapBackedComputingCache<>(computingFunction, WeakLazyValueHolder::forSupplier, maxSize, recordStats);
         }
-        return new ReentrantMapBackedComputingCache<>(computingFunction, maxSize);
+        return new ReentrantMapBackedComputingCache<>(computingFunction, LazyValueHolder::forSupplier, maxSize, recordStats);
     }
 }
@@ -19,8 +19,12 @@ package org.jboss.weld.util.cache;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -31,6 +35,11 @@ import org.jboss.weld.util.ValueHolder;
 /**
  * A {@link ComputingCache} backed by a {@link ConcurrentHashMap} which intentionally does not use {@link Map#computeIfAbsent(Object, Function)}
  * and is reentrant.
+ * <p>
+ * If a maximum size is set, entries are evicted one by one using the CLOCK (second chance) algorithm, which approximates LRU ordering. A hit only marks
+ * the entry as referenced and thus lookups remain lock-free. Eviction is performed by the thread which exceeded the bound - if another thread is already
+ * evicting, the bound may be exceeded temporarily.
+ * </p>
  *
  * @author Jozef Hartinger
  *
@@ -44,15 +53,36 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
     private final ConcurrentMap<K, ValueHolder<V>> map;
     private final Long maxSize;
     private final Function<K, ValueHolder<V>> function;
+    // the clock - only used if maxSize is set
+    private final Queue<ClockEntry<K, V>> clock;
+    private final ReentrantLock evictionLock;
+    // statistics - only used if recordStats is set
+    private final LongAdder hits;
+    private final LongAdder misses;
+    private final LongAdder evictions;
 
-    ReentrantMapBackedComputingCache(Function<K, V> computingFunction, Long maxSize) {
-        this(computingFunction, LazyValueHolder::forSupplier, maxSize);
-    }
-
-    ReentrantMapBackedComputingCache(Function<K, V> computingFunction, Function<Supplier<V>, ValueHolder<V>> valueHolderFunction, Long maxSize) {
+    ReentrantMapBackedComputingCache(Function<K, V> computingFunction, Function<Supplier<V>, ValueHolder<V>> valueHolderFunction, Long maxSize,
+            boolean recordStats) {
         this.map = new ConcurrentHashMap<>();
         this.maxSize = maxSize;
-        this.function = (key) -> valueHolderFunction.apply(() -> computingFunction.apply(key));
+        if (maxSize != null) {
+            this.clock = new ConcurrentLinkedQueue<>();
+            this.evictionLock = new ReentrantLock();
+            this.function = (key) -> new ClockEntry<>(key, valueHolderFunction.apply(() -> computingFunction.apply(key)));
+        } else {
+            this.clock = null;
+            this.evictionLock = null;
+            this.function = (key) -> valueHolderFunction.apply(() -> computingFunction.apply(key));
+        }
+        if (recordStats) {
+            this.hits = new LongAdder();
+            this.misses = new LongAdder();
+            this.evictions = new LongAdder();
+        } else {
+            this.hits = null;
+            this.misses = null;
+            this.evictions = null;
+        }
     }
 
     @Override
@@ -63,15 +93,69 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
             ValueHolder<V> previous = map.putIfAbsent(key, value);
             if (previous != null) {
                 value = previous;
+                recordHit(previous);
+            } else {
+                if (misses != null) {
+                    misses.increment();
+                }
+                // finally, check that we are not over the bound
+                if (clock != null) {
+                    clock.offer(cast(value));
+                    if (size() > maxSize) {
+                        evict();
+                    }
+                }
             }
-            // finally, check that we are not over the bound
-            if (maxSize != null && size() > maxSize) {
-                clear();
-            }
+        } else {
+            recordHit(value);
         }
         return value.get();
     }
 
+    private void recordHit(ValueHolder<V> value) {
+        if (hits != null) {
+            hits.increment();
+        }
+        if (clock != null) {
+            cast(value).markReferenced();
+        }
+    }
+
+    /**
+     * Advance the clock hand until the cache size is within the bound. Referenced entries get a second chance, i.e. the reference flag is cleared and the
+     * entry is moved to the tail of the queue. Stale entries (e.g. an entry invalidated while being added) are simply discarded.
+     */
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            // Another thread is already evicting
+            return;
+        }
+        try {
+            while (map.size() > maxSize) {
+                ClockEntry<K, V> entry = clock.poll();
+                if (entry == null) {
+                    return;
+                }
+                if (map.get(entry.key) != entry) {
+                    // Stale entry
+                    continue;
+                }
+                if (entry.clearReferenced()) {
+                    clock.offer(entry);
+                } else if (map.remove(entry.key, entry) && evictions != null) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private ClockEntry<K, V> cast(ValueHolder<V> value) {
+        return (ClockEntry<K, V>) value;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> T getCastValue(Object key) {
@@ -95,11 +179,18 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
     @Override
     public void clear() {
         map.clear();
+        if (clock != null) {
+            clock.clear();
+        }
     }
 
     @Override
     public void invalidate(Object key) {
-        map.remove(key);
+        ValueHolder<V> value = map.remove(key);
+        if (value != null && clock != null) {
+            // Do not let the clock grow with entries which are not in the cache anymore
+            clock.remove(value);
+        }
     }
 
     @Override
@@ -107,6 +198,14 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
         return this;
     }
 
+    @Override
+    public ComputingCacheStatistics getStatistics() {
+        if (hits == null) {
+            return ComputingCacheStatistics.EMPTY;
+        }
+        return new ComputingCacheStatistics(hits.sum(), misses.sum(), evictions.sum());
+    }
+
     @Override
     public String toString() {
         return map.toString();
@@ -155,4 +254,52 @@ class ReentrantMapBackedComputingCache<K, V> implements ComputingCache<K, V>, It
             }
         };
     }
+
+    /**
+     * A value holder which also carries the key and the reference flag used by the clock.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    private static final class ClockEntry<K, V> implements ValueHolder<V> {
+
+        private final K key;
+        private final ValueHolder<V> delegate;
+        private volatile boolean referenced;
+
+        private ClockEntry(K key, ValueHolder<V> delegate) {
+            this.key = key;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public V get() {
+            return delegate.get();
+        }
+
+        @Override
+        public V getIfPresent() {
+            return delegate.getIfPresent();
+        }
+
+        void markReferenced() {
+            // Avoid the volatile write if possible
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+
+        boolean clearReferenced() {
+            if (referenced) {
+                referenced = false;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(delegate.getIfPresent());
+        }
+    }
 }
@@ -0,0 +1,211 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Default;
+import javax.enterprise.inject.literal.NamedLiteral;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.InjectionPoint;
+import javax.enterprise.util.TypeLiteral;
+
+import org.junit.Test;
+
+public class BeanTypeAndQualifierIndexTest {
+
+    private static final Type LIST_OF_STRINGS = new TypeLiteral<List<String>>() {
+    }.getType();
+
+    private static final Type LIST_OF_INTEGERS = new TypeLiteral<List<Integer>>() {
+    }.getType();
+
+    private final TestBean alpha = new TestBean("alpha", types(Foo.class), Any.Literal.INSTANCE, Default.Literal.INSTANCE);
+
+    private final TestBean bravo = new TestBean("bravo", types(Foo.class), Any.Literal.INSTANCE, NamedLiteral.of("bravo"));
+
+    private final TestBean charlie = new TestBean("charlie", types(Foo.class, Bar.class), Any.Literal.INSTANCE, Default.Literal.INSTANCE,
+            NamedLiteral.of("charlie"));
+
+    private final TestBean list = new TestBean("list", types(LIST_OF_STRINGS), Any.Literal.INSTANCE, Default.Literal.INSTANCE);
+
+    private final TestBean primitive = new TestBean("primitive", types(int.class), Any.Literal.INSTANCE, Default.Literal.INSTANCE);
+
+    private final BeanTypeAndQualifierIndex<TestBean> index = new BeanTypeAndQualifierIndex<>(Arrays.asList(alpha, bravo, charlie, list, primitive), null);
+
+    @Test
+    public void testSmallestBucketIsSelected() {
+        // @Any is shared by all the beans, @Named("bravo") only by one of them
+        assertEquals(Collections.singletonList(bravo), index.getBeans(Foo.class, qualifiers(Any.Literal.INSTANCE, NamedLiteral.of("bravo"))));
+        // @Default is shared by two of the Foo beans
+        assertEquals(Arrays.asList(alpha, charlie), index.getBeans(Foo.class, qualifiers(Any.Literal.INSTANCE, Default.Literal.INSTANCE)));
+        // both qualifiers are required, the smaller bucket is returned and the candidates are checked later
+        assertEquals(Collections.singletonList(charlie),
+                index.getBeans(Foo.class, qualifiers(Default.Literal.INSTANCE, NamedLiteral.of("charlie"))));
+    }
+
+    @Test
+    public void testNoBeanHasRequiredQualifier() {
+        assertTrue(index.getBeans(Foo.class, qualifiers(NamedLiteral.of("delta"))).isEmpty());
+        assertTrue(index.getBeans(Foo.class, qualifiers(Default.Literal.INSTANCE, NamedLiteral.of("delta"))).isEmpty());
+        assertTrue(index.getBeans(qualifiers(NamedLiteral.of("delta"))).isEmpty());
+    }
+
+    @Test
+    public void testNoQualifiersRequired() {
+        assertEquals(Arrays.asList(alpha, bravo, charlie), index.getBeans(Foo.class, Collections.<QualifierInstance> emptySet()));
+        assertEquals(Collections.singletonList(charlie), index.getBeans(Bar.class, Collections.<QualifierInstance> emptySet()));
+        assertTrue(index.getBeans(Baz.class, Collections.<QualifierInstance> emptySet()).isEmpty());
+    }
+
+    @Test
+    public void testAnyAndDefault() {
+        // all the beans have @Any
+        assertEquals(Arrays.asList(alpha, bravo, charlie, list, primitive), index.getBeans(qualifiers(Any.Literal.INSTANCE)));
+        assertEquals(Arrays.asList(alpha, bravo, charlie), index.getBeans(Foo.class, qualifiers(Any.Literal.INSTANCE)));
+        // bravo has a @Named qualifier only and thus no @Default
+        assertEquals(Arrays.asList(alpha, charlie, list, primitive), index.getBeans(qualifiers(Default.Literal.INSTANCE)));
+        assertEquals(Arrays.asList(alpha, charlie), index.getBeans(Foo.class, qualifiers(Default.Literal.INSTANCE)));
+    }
+
+    @Test
+    public void testQualifierOnlyLookup() {
+        assertEquals(Collections.singletonList(charlie), index.getBeans(qualifiers(NamedLiteral.of("charlie"))));
+        assertEquals(Collections.singletonList(bravo), index.getBeans(qualifiers(Any.Literal.INSTANCE, NamedLiteral.of("bravo"))));
+    }
+
+    @Test
+    public void testRawAndParameterizedTypes() {
+        assertEquals(Collections.singletonList(list), index.getBeans(LIST_OF_STRINGS, qualifiers(Default.Literal.INSTANCE)));
+        // the bean is also indexed by its raw type, the assignability is checked later
+        assertEquals(Collections.singletonList(list), index.getBeans(List.class, qualifiers(Default.Literal.INSTANCE)));
+        assertTrue(index.getBeans(LIST_OF_INTEGERS, qualifiers(Default.Literal.INSTANCE)).isEmpty());
+    }
+
+    @Test
+    public void testPrimitiveType() {
+        assertEquals(Collections.singletonList(primitive), index.getBeans(int.class, qualifiers(Default.Literal.INSTANCE)));
+        assertEquals(Collections.singletonList(primitive), index.getBeans(Integer.class, qualifiers(Default.Literal.INSTANCE)));
+    }
+
+    private static Set<QualifierInstance> qualifiers(Annotation... qualifiers) {
+        return QualifierInstance.of(new HashSet<>(Arrays.asList(qualifiers)), null);
+    }
+
+    private static Set<Type> types(Type... types) {
+        Set<Type> result = new HashSet<>(Arrays.asList(types));
+        result.add(Object.class);
+        return result;
+    }
+
+    interface Foo {
+    }
+
+    interface Bar {
+    }
+
+    interface Baz {
+    }
+
+    private static class TestBean implements Bean<Object> {
+
+        private final String name;
+
+        private final Set<Type> types;
+
+        private final Set<Annotation> qualifiers;
+
+        TestBean(String name, Set<Type> types, Annotation... qualifiers) {
+            this.name = name;
+            this.types = types;
+            this.qualifiers = new HashSet<>(Arrays.asList(qualifiers));
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return null;
+        }
+
+        @Override
+        public void destroy(Object instance, CreationalContext<Object> creationalContext) {
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return types;
+        }
+
+        @Override
+        public Set<Annotation> getQualifiers() {
+            return qualifiers;
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return Dependent.class;
+        }
+
+        @Override
+        public String getName() {
+            return null;
+        }
+
+        @Override
+        public Set<Class<? extends Annotation>> getStereotypes() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public boolean isAlternative() {
+            return false;
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return Object.class;
+        }
+
+        @Override
+        public Set<InjectionPoint> getInjectionPoints() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public boolean isNullable() {
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+
+    }
+
+}
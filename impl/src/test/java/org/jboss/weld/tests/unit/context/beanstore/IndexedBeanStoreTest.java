@@ -0,0 +1,195 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.context.beanstore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.InjectionPoint;
+import javax.enterprise.inject.spi.PassivationCapable;
+
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.context.beanstore.MapBeanStore;
+import org.jboss.weld.context.beanstore.NamingScheme;
+import org.jboss.weld.context.beanstore.SimpleBeanIdentifierIndexNamingScheme;
+import org.jboss.weld.serialization.BeanIdentifierIndex;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.junit.Test;
+
+/**
+ * Testcase for {@link org.jboss.weld.context.beanstore.IndexedBeanStore} used by {@link org.jboss.weld.context.beanstore.AttributeBeanStore}.
+ */
+public class IndexedBeanStoreTest {
+
+    private static final BeanIdentifier ALPHA = new StringBeanIdentifier("alpha");
+    private static final BeanIdentifier BRAVO = new StringBeanIdentifier("bravo");
+    private static final BeanIdentifier CHARLIE = new StringBeanIdentifier("charlie");
+
+    @Test
+    public void testIndexedAttributeNames() {
+        BeanIdentifierIndex index = new BeanIdentifierIndex();
+        Set<Bean<?>> beans = new HashSet<Bean<?>>();
+        beans.add(new PassivationCapableBean(ALPHA.asString()));
+        beans.add(new PassivationCapableBean(BRAVO.asString()));
+        index.build(beans);
+
+        NamingScheme namingScheme = new SimpleBeanIdentifierIndexNamingScheme("test", index);
+        Map<String, Object> attributes = new HashMap<String, Object>();
+        MapBeanStore store = new MapBeanStore(namingScheme, attributes);
+        store.attach();
+
+        store.put(ALPHA, new SimpleContextualInstance("a"));
+        store.put(BRAVO, new SimpleContextualInstance("b"));
+        store.put(CHARLIE, new SimpleContextualInstance("c"));
+        assertEquals(3, attributes.size());
+        assertTrue(attributes.containsKey("test#0"));
+        assertTrue(attributes.containsKey("test#1"));
+        assertTrue(attributes.containsKey("test#F_charlie"));
+        // Attribute names of indexed beans are cached
+        assertSame(namingScheme.prefix(BRAVO), namingScheme.prefix(BRAVO));
+        assertEquals(BRAVO, namingScheme.deprefix("test#1"));
+        assertEquals(CHARLIE, namingScheme.deprefix("test#F_charlie"));
+
+        assertEquals("a", store.get(ALPHA).getInstance());
+        assertEquals("b", store.get(BRAVO).getInstance());
+        assertEquals("c", store.get(CHARLIE).getInstance());
+        Set<BeanIdentifier> ids = new HashSet<BeanIdentifier>();
+        for (BeanIdentifier id : store) {
+            ids.add(id);
+        }
+        assertEquals(3, ids.size());
+
+        assertEquals("b", store.remove(BRAVO).getInstance());
+        assertNull(store.get(BRAVO));
+        assertEquals(2, attributes.size());
+
+        store.clear();
+        assertTrue(attributes.isEmpty());
+        assertNull(store.get(ALPHA));
+        assertNull(store.get(CHARLIE));
+    }
+
+    private static class SimpleContextualInstance implements ContextualInstance<Object> {
+
+        private final Object instance;
+
+        SimpleContextualInstance(Object instance) {
+            this.instance = instance;
+        }
+
+        @Override
+        public Object getInstance() {
+            return instance;
+        }
+
+        @Override
+        public CreationalContext<Object> getCreationalContext() {
+            return null;
+        }
+
+        @Override
+        public Contextual<Object> getContextual() {
+            return null;
+        }
+
+    }
+
+    private static class PassivationCapableBean implements Bean<Object>, PassivationCapable {
+
+        private final String id;
+
+        PassivationCapableBean(String id) {
+            this.id = id;
+        }
+
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return null;
+        }
+
+        @Override
+        public void destroy(Object instance, CreationalContext<Object> creationalContext) {
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Collections.<Type> singleton(Object.class);
+        }
+
+        @Override
+        public Set<Annotation> getQualifiers() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return Dependent.class;
+        }
+
+        @Override
+        public String getName() {
+            return null;
+        }
+
+        @Override
+        public Set<Class<? extends Annotation>> getStereotypes() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public boolean isAlternative() {
+            return false;
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return Object.class;
+        }
+
+        @Override
+        public Set<InjectionPoint> getInjectionPoints() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public boolean isNullable() {
+            return false;
+        }
+
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.context.beanstore;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.context.beanstore.LockStore;
+import org.jboss.weld.context.beanstore.LockedBean;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.junit.Test;
+
+/**
+ * Testcase for {@link LockStore}.
+ */
+public class LockStoreTest {
+
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 10000;
+
+    @Test
+    public void testMutualExclusion() throws Exception {
+        final LockStore store = new LockStore();
+        final BeanIdentifier[] ids = { new StringBeanIdentifier("foo"), new StringBeanIdentifier("bar") };
+        final AtomicInteger[] holders = { new AtomicInteger(), new AtomicInteger() };
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<Void>> results = new ArrayList<Future<Void>>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        start.await();
+                        for (int j = 0; j < ITERATIONS; j++) {
+                            int index = j % ids.length;
+                            LockedBean lock = store.lock(ids[index]);
+                            try {
+                                assertEquals(1, holders[index].incrementAndGet());
+                                holders[index].decrementAndGet();
+                            } finally {
+                                lock.unlock();
+                            }
+                        }
+                        return null;
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<Void> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testLockReleased() throws Exception {
+        final LockStore store = new LockStore();
+        final BeanIdentifier id = new StringBeanIdentifier("foo");
+        // reentrant locking
+        LockedBean outer = store.lock(id);
+        LockedBean inner = store.lock(id);
+        inner.unlock();
+        outer.unlock();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // another thread is not blocked
+            executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    store.lock(id).unlock();
+                    return null;
+                }
+            }).get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDeserializedStore() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(new LockStore());
+        out.close();
+        LockStore store = (LockStore) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+        store.lock(new StringBeanIdentifier("foo")).unlock();
+    }
+}
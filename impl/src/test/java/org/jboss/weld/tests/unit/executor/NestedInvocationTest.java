@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.executor;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.executor.FixedThreadPoolExecutorServices;
+import org.junit.Test;
+
+public class NestedInvocationTest {
+
+    @Test(timeout = 10000)
+    public void testNestedInvocationDoesNotDeadlock() throws Exception {
+        final FixedThreadPoolExecutorServices executor = new FixedThreadPoolExecutorServices(2);
+        final AtomicInteger counter = new AtomicInteger();
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<Callable<Integer>>();
+            for (int i = 0; i < 4; i++) {
+                tasks.add(() -> {
+                    List<Callable<Integer>> nested = new ArrayList<Callable<Integer>>();
+                    for (int j = 0; j < 4; j++) {
+                        nested.add(() -> counter.incrementAndGet());
+                    }
+                    return executor.invokeAllAndCheckForExceptions(nested).size();
+                });
+            }
+            for (Future<Integer> result : executor.invokeAllAndCheckForExceptions(tasks)) {
+                assertEquals(Integer.valueOf(4), result.get());
+            }
+            assertEquals(16, counter.get());
+        } finally {
+            executor.cleanup();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testNestedInvocationPropagatesException() {
+        final FixedThreadPoolExecutorServices executor = new FixedThreadPoolExecutorServices(1);
+        try {
+            List<Callable<Void>> tasks = new ArrayList<Callable<Void>>();
+            tasks.add(() -> {
+                List<Callable<Void>> nested = new ArrayList<Callable<Void>>();
+                nested.add(() -> {
+                    throw new IllegalStateException();
+                });
+                executor.invokeAllAndCheckForExceptions(nested);
+                return null;
+            });
+            executor.invokeAllAndCheckForExceptions(tasks);
+        } finally {
+            executor.cleanup();
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.util.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.jboss.weld.util.cache.ComputingCacheStatistics;
+import org.junit.Test;
+
+/**
+ * Testcase for {@link ComputingCacheBuilder#setMaxSize(long)} and {@link ComputingCacheBuilder#recordStats()}.
+ */
+public class BoundedComputingCacheTest {
+
+    @Test
+    public void testOnlyUnusedEntriesEvicted() {
+        AtomicInteger computations = new AtomicInteger();
+        ComputingCache<String, String> cache = ComputingCacheBuilder.newBuilder().setMaxSize(3).recordStats().build((x) -> {
+            computations.incrementAndGet();
+            return x.toUpperCase();
+        });
+        cache.getValue("a");
+        cache.getValue("b");
+        cache.getValue("c");
+        // a and b are referenced
+        cache.getValue("a");
+        cache.getValue("b");
+        // c is evicted, a and b get a second chance
+        cache.getValue("d");
+        assertEquals(3, cache.size());
+        assertNotNull(cache.getValueIfPresent("a"));
+        assertNotNull(cache.getValueIfPresent("b"));
+        assertNull(cache.getValueIfPresent("c"));
+        assertEquals("D", cache.getValueIfPresent("d"));
+        assertEquals(4, computations.get());
+
+        ComputingCacheStatistics statistics = cache.getStatistics();
+        assertEquals(2, statistics.getHitCount());
+        assertEquals(4, statistics.getMissCount());
+        assertEquals(1, statistics.getEvictionCount());
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+        ComputingCache<Integer, Integer> cache = ComputingCacheBuilder.newBuilder().setMaxSize(100).recordStats().build((x) -> x * 2);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Integer.valueOf(i * 2), cache.getValue(i));
+            // keep the first ten entries hot
+            cache.getValue(i % 10);
+        }
+        assertEquals(100, cache.size());
+        for (int i = 0; i < 10; i++) {
+            assertNotNull(cache.getValueIfPresent(i));
+        }
+        assertEquals(900, cache.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    public void testInvalidatedEntryNotEvicted() {
+        ComputingCache<String, String> cache = ComputingCacheBuilder.newBuilder().setMaxSize(2).recordStats().build((x) -> x);
+        cache.getValue("a");
+        cache.getValue("b");
+        cache.invalidate("a");
+        cache.getValue("a");
+        cache.getValue("c");
+        // the clock entry for the first "a" was removed together with the value and b is evicted
+        assertEquals(2, cache.size());
+        assertNull(cache.getValueIfPresent("b"));
+        assertEquals(1, cache.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    public void testStatisticsNotRecordedByDefault() {
+        ComputingCache<String, String> cache = ComputingCacheBuilder.newBuilder().build((x) -> x);
+        cache.getValue("a");
+        cache.getValue("a");
+        assertEquals(0, cache.getStatistics().getHitCount());
+        assertEquals(0, cache.getStatistics().getMissCount());
+    }
+}
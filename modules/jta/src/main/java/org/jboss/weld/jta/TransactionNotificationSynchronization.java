@@ -21,28 +21,49 @@ import java.util.List;
 import javax.transaction.Synchronization;
 
 /**
- * A JTA transaction synchronization which wraps all defferred transactional event notifications.
+ * A JTA transaction synchronization which wraps all defferred transactional event notifications. If possible, a single synchronization is registered for a
+ * transaction and the notifications of all the events fired within the transaction are appended to it. A failing notification does not prevent the others
+ * from being notified as {@link DeferredEventNotification#run()} logs the failure and does not propagate it.
  *
  * @author David Allen
+ * @see TransactionalObserverNotifier
  */
 class TransactionNotificationSynchronization implements Synchronization {
 
     private final List<DeferredEventNotification<?>> notifications;
 
+    private boolean completed;
+
     /**
      *
-     * @param notifications The ordered list of notifications
+     * @param notifications The ordered list of notifications, must be mutable
      */
     public TransactionNotificationSynchronization(List<DeferredEventNotification<?>> notifications) {
         this.notifications = notifications;
     }
 
+    /**
+     *
+     * @param notifications
+     * @return <code>true</code> if the notifications were added, <code>false</code> if the transaction is already completed
+     */
+    synchronized boolean addAll(List<DeferredEventNotification<?>> notifications) {
+        if (completed) {
+            return false;
+        }
+        this.notifications.addAll(notifications);
+        return true;
+    }
+
     /*
      * (non-Javadoc)
      *
      * @see javax.transaction.Synchronization#afterCompletion(int)
      */
     public void afterCompletion(int status) {
+        synchronized (this) {
+            completed = true;
+        }
         for (DeferredEventNotification<?> notification : notifications) {
             if (!notification.isBefore() && notification.getStatus().matches(status)) {
                 notification.run();
@@ -56,10 +77,18 @@ class TransactionNotificationSynchronization implements Synchronization {
      * @see javax.transaction.Synchronization#beforeCompletion()
      */
     public void beforeCompletion() {
-        for (DeferredEventNotification<?> notification : notifications) {
+        // An observer may fire an event and so add a new notification
+        int index = 0;
+        DeferredEventNotification<?> notification = get(index);
+        while (notification != null) {
             if (notification.isBefore()) {
                 notification.run();
             }
+            notification = get(++index);
         }
     }
+
+    private synchronized DeferredEventNotification<?> get(int index) {
+        return index < notifications.size() ? notifications.get(index) : null;
+    }
 }
@@ -0,0 +1,40 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.jta;
+
+import javax.transaction.TransactionSynchronizationRegistry;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.transaction.spi.TransactionServices;
+
+/**
+ * An optional service which provides access to the {@link TransactionSynchronizationRegistry} of the JTA transaction manager used by
+ * {@link TransactionServices}.
+ * <p>
+ * If available, the notifications of all the transactional observer methods notified within a transaction are handled by a single
+ * {@link javax.transaction.Synchronization}. Otherwise, a synchronization is registered for each event fired.
+ * </p>
+ */
+public interface TransactionSynchronizationRegistryServices extends Service {
+
+    /**
+     *
+     * @return the transaction synchronization registry, may be <code>null</code> if not available for the current thread
+     */
+    TransactionSynchronizationRegistry getTransactionSynchronizationRegistry();
+
+}
@@ -24,6 +24,7 @@ import javax.enterprise.event.TransactionPhase;
 import javax.enterprise.inject.spi.EventMetadata;
 import javax.enterprise.inject.spi.ObserverMethod;
 import javax.transaction.RollbackException;
+import javax.transaction.TransactionSynchronizationRegistry;
 
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
 import org.jboss.weld.event.ObserverNotifier;
@@ -33,6 +34,11 @@ import org.jboss.weld.transaction.spi.TransactionServices;
 
 /**
  * {@link ObserverNotifier} with support for transactional observer methods.
+ * <p>
+ * If the {@link TransactionSynchronizationRegistry} is available through {@link TransactionSynchronizationRegistryServices}, a single {@link TransactionNotificationSynchronization} is registered per transaction and
+ * stored as a transaction resource. The notifications of all the subsequent events fired within the same transaction are appended to this synchronization.
+ * Otherwise, a new synchronization is registered for each event.
+ * </p>
  *
  * @author Jozef Hartinger
  */
@@ -45,13 +51,18 @@ class TransactionalObserverNotifier extends ObserverNotifier {
         }
     };
 
+    // Unique per class loader so that multiple versions of this module never share a synchronization
+    private static final Object SYNCHRONIZATION_RESOURCE_KEY = TransactionNotificationSynchronization.class;
+
     private final TransactionServices transactionServices;
+    private final TransactionSynchronizationRegistryServices registryServices;
     private final String contextId;
 
     TransactionalObserverNotifier(String contextId, TypeSafeObserverResolver resolver, ServiceRegistry services, boolean strict) {
         super(contextId, resolver, services, strict);
         this.contextId = contextId;
         this.transactionServices = services.get(TransactionServices.class);
+        this.registryServices = services.get(TransactionSynchronizationRegistryServices.class);
     }
 
     /**
@@ -60,12 +71,29 @@ class TransactionalObserverNotifier extends ObserverNotifier {
      *
      * @param metadata The event object
      */
-    private <T> void deferNotification(T event, final EventMetadata metadata, final ObserverMethod<? super T> observer,
-            final List<DeferredEventNotification<?>> notifications) {
+    private <T> DeferredEventNotification<T> deferNotification(T event, final EventMetadata metadata, final ObserverMethod<? super T> observer) {
         TransactionPhase transactionPhase = observer.getTransactionPhase();
         boolean before = transactionPhase.equals(TransactionPhase.BEFORE_COMPLETION);
         Status status = Status.valueOf(transactionPhase);
-        notifications.add(new DeferredEventNotification<T>(contextId, event, metadata, observer, currentEventMetadata, status, before));
+        return new DeferredEventNotification<T>(contextId, event, metadata, observer, currentEventMetadata, status, before);
+    }
+
+    /**
+     *
+     * @return the synchronization already registered for the current transaction or <code>null</code>
+     */
+    private TransactionNotificationSynchronization getSynchronization(TransactionSynchronizationRegistry registry) {
+        if (registry == null || registry.getTransactionStatus() == javax.transaction.Status.STATUS_MARKED_ROLLBACK) {
+            // A new synchronization may not be registered for a transaction marked for rollback - the notifications are handled immediately
+            return null;
+        }
+        Object synchronization = registry.getResource(SYNCHRONIZATION_RESOURCE_KEY);
+        return synchronization instanceof TransactionNotificationSynchronization ? (TransactionNotificationSynchronization) synchronization : null;
+    }
+
+    private TransactionSynchronizationRegistry getRegistry() {
+        // If not available a synchronization is registered per event
+        return registryServices != null ? registryServices.getTransactionSynchronizationRegistry() : null;
     }
 
     @Override
@@ -78,12 +106,21 @@ class TransactionalObserverNotifier extends ObserverNotifier {
             // Transaction is not active - no deferred notifications
             notifySyncObservers(observers, event, metadata, handler);
         } else {
-            List<DeferredEventNotification<?>> notifications = new ArrayList<DeferredEventNotification<?>>();
+            List<DeferredEventNotification<?>> notifications = new ArrayList<DeferredEventNotification<?>>(observers.size());
             for (ObserverMethod<? super T> observer : observers) {
-                deferNotification(event, metadata, observer, notifications);
+                notifications.add(deferNotification(event, metadata, observer));
+            }
+            TransactionSynchronizationRegistry registry = getRegistry();
+            TransactionNotificationSynchronization synchronization = getSynchronization(registry);
+            if (synchronization != null && synchronization.addAll(notifications)) {
+                return;
             }
             try {
-                transactionServices.registerSynchronization(new TransactionNotificationSynchronization(notifications));
+                synchronization = new TransactionNotificationSynchronization(notifications);
+                transactionServices.registerSynchronization(synchronization);
+                if (registry != null) {
+                    registry.putResource(SYNCHRONIZATION_RESOURCE_KEY, synchronization);
+                }
             } catch (Exception e) {
                 if (e.getCause() instanceof RollbackException || e.getCause() instanceof IllegalStateException) {
                     List<ObserverMethod<? super T>> filteredObservers = observers.stream()
@@ -0,0 +1,130 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.jta;
+
+import static javax.transaction.Status.STATUS_COMMITTED;
+import static javax.transaction.Status.STATUS_ROLLEDBACK;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+public class TransactionNotificationSynchronizationTest {
+
+    private final List<String> log = new ArrayList<>();
+
+    @Test
+    public void testBeforeCompletionOrder() {
+        TransactionNotificationSynchronization synchronization = new TransactionNotificationSynchronization(
+                notifications(before("first"), after("after", Status.ALL), before("second")));
+        // Notifications of an event fired later in the same transaction
+        assertTrue(synchronization.addAll(notifications(before("third"))));
+        synchronization.beforeCompletion();
+        assertEquals(Arrays.asList("first", "second", "third"), log);
+    }
+
+    @Test
+    public void testBeforeCompletionObserverFiresEvent() {
+        List<DeferredEventNotification<?>> notifications = new ArrayList<>();
+        TransactionNotificationSynchronization synchronization = new TransactionNotificationSynchronization(notifications);
+        synchronization.addAll(notifications(new TestNotification("first", Status.ALL, true) {
+            @Override
+            public void run() {
+                super.run();
+                // A BEFORE_COMPLETION observer fires another event
+                synchronization.addAll(notifications(before("nested"), after("nestedAfter", Status.SUCCESS)));
+            }
+        }, before("second")));
+        synchronization.beforeCompletion();
+        assertEquals(Arrays.asList("first", "second", "nested"), log);
+        log.clear();
+        synchronization.afterCompletion(STATUS_COMMITTED);
+        assertEquals(Collections.singletonList("nestedAfter"), log);
+    }
+
+    @Test
+    public void testAfterCompletionStatus() {
+        TransactionNotificationSynchronization synchronization = new TransactionNotificationSynchronization(
+                notifications(after("completion", Status.ALL), after("success", Status.SUCCESS), before("before"), after("failure", Status.FAILURE)));
+        synchronization.afterCompletion(STATUS_COMMITTED);
+        assertEquals(Arrays.asList("completion", "success"), log);
+
+        log.clear();
+        synchronization = new TransactionNotificationSynchronization(
+                notifications(after("completion", Status.ALL), after("success", Status.SUCCESS), after("failure", Status.FAILURE)));
+        synchronization.afterCompletion(STATUS_ROLLEDBACK);
+        assertEquals(Arrays.asList("completion", "failure"), log);
+    }
+
+    @Test
+    public void testFailureDoesNotAffectOtherNotifications() {
+        TransactionNotificationSynchronization synchronization = new TransactionNotificationSynchronization(
+                notifications(failing(true), before("before"), failing(false), after("after", Status.ALL)));
+        synchronization.beforeCompletion();
+        assertEquals(Collections.singletonList("before"), log);
+        log.clear();
+        synchronization.afterCompletion(STATUS_COMMITTED);
+        assertEquals(Collections.singletonList("after"), log);
+    }
+
+    @Test
+    public void testCompletedSynchronizationNotReused() {
+        TransactionNotificationSynchronization synchronization = new TransactionNotificationSynchronization(notifications(after("after", Status.ALL)));
+        synchronization.afterCompletion(STATUS_ROLLEDBACK);
+        assertFalse(synchronization.addAll(notifications(after("late", Status.ALL))));
+    }
+
+    private static List<DeferredEventNotification<?>> notifications(DeferredEventNotification<?>... notifications) {
+        return new ArrayList<>(Arrays.asList(notifications));
+    }
+
+    private DeferredEventNotification<?> before(String name) {
+        return new TestNotification(name, Status.ALL, true);
+    }
+
+    private DeferredEventNotification<?> after(String name, Status status) {
+        return new TestNotification(name, status, false);
+    }
+
+    private DeferredEventNotification<?> failing(boolean before) {
+        // A real notification which fails as there is no container with the given id
+        return new DeferredEventNotification<>("nonexistent", "failing", null, null, null, Status.ALL, before);
+    }
+
+    private class TestNotification extends DeferredEventNotification<String> {
+
+        private final String name;
+
+        TestNotification(String name, Status status, boolean before) {
+            super(null, name, null, null, null, status, before);
+            this.name = name;
+        }
+
+        @Override
+        public void run() {
+            log.add(name);
+        }
+
+    }
+
+}
@@ -17,6 +17,11 @@ import org.jboss.weld.util.collections.EnumerationIterator;
 
 /**
  * Base class providing an HttpSession backed, bound bean store.
+ * <p>
+ * If the composite attribute is enabled, all the instances are stored in a single {@link CompositeSessionAttribute}. The attribute is set again when the bean
+ * store is detached, i.e. at the end of a request, and only if an instance was added, removed or obtained in the meantime. An obtained instance is
+ * considered mutated as there is no way to detect a change of its state.
+ * </p>
  *
  * @author Pete Muir
  * @author David Allen
@@ -32,6 +37,21 @@ public abstract class AbstractSessionBeanStore extends AttributeBeanStore {
 
     private static final ThreadLocal<LockStore> CURRENT_LOCK_STORE = new ThreadLocal<LockStore>();
 
+    // must be a power of two
+    private static final int SESSION_CREATION_LOCK_STRIPES = 64;
+
+    private static final Object[] SESSION_CREATION_LOCKS = new Object[SESSION_CREATION_LOCK_STRIPES];
+
+    static {
+        for (int i = 0; i < SESSION_CREATION_LOCK_STRIPES; i++) {
+            SESSION_CREATION_LOCKS[i] = new Object();
+        }
+    }
+
+    private final boolean compositeAttributeEnabled;
+
+    private boolean compositeAttributeDirty;
+
     protected abstract HttpSession getSession(boolean create);
 
     /**
@@ -40,10 +60,35 @@ public abstract class AbstractSessionBeanStore extends AttributeBeanStore {
      * @param attributeLazyFetchingEnabled
      */
     public AbstractSessionBeanStore(NamingScheme namingScheme, boolean attributeLazyFetchingEnabled) {
+        this(namingScheme, attributeLazyFetchingEnabled, false);
+    }
+
+    /**
+     *
+     * @param namingScheme
+     * @param attributeLazyFetchingEnabled
+     * @param compositeAttributeEnabled
+     */
+    public AbstractSessionBeanStore(NamingScheme namingScheme, boolean attributeLazyFetchingEnabled, boolean compositeAttributeEnabled) {
         super(namingScheme, attributeLazyFetchingEnabled);
+        this.compositeAttributeEnabled = compositeAttributeEnabled;
+    }
+
+    @Override
+    public boolean detach() {
+        boolean detached = super.detach();
+        if (compositeAttributeDirty) {
+            compositeAttributeDirty = false;
+            flushCompositeAttribute();
+        }
+        return detached;
     }
 
     protected Iterator<String> getAttributeNames() {
+        if (compositeAttributeEnabled) {
+            CompositeSessionAttribute composite = getCompositeAttribute(false);
+            return composite != null ? composite.keys() : emptyIterator();
+        }
         HttpSession session = getSession(false);
         if (session == null) {
             return emptyIterator();
@@ -54,6 +99,13 @@ public abstract class AbstractSessionBeanStore extends AttributeBeanStore {
 
     @Override
     protected void removeAttribute(String key) {
+        if (compositeAttributeEnabled) {
+            CompositeSessionAttribute composite = getCompositeAttribute(false);
+            if (composite != null && composite.remove(key)) {
+                compositeAttributeDirty = true;
+            }
+            return;
+        }
         HttpSession session = getSession(false);
         if (session != null) {
             session.removeAttribute(key);
@@ -65,6 +117,16 @@ public abstract class AbstractSessionBeanStore extends AttributeBeanStore {
 
     @Override
     protected void setAttribute(String key, Object instance) {
+        if (compositeAttributeEnabled) {
+            CompositeSessionAttribute composite = getCompositeAttribute(true);
+            if (composite != null) {
+                composite.put(key, instance);
+                compositeAttributeDirty = true;
+            } else {
+                ContextLogger.LOG.unableToAddKeyToSession(key);
+            }
+            return;
+        }
         HttpSession session = getSession(true);
         if (session != null) {
             session.setAttribute(key, instance);
@@ -81,11 +143,19 @@ public abstract class AbstractSessionBeanStore extends AttributeBeanStore {
             String prefixedId = getNamingScheme().prefix(id);
             instance = cast(getAttribute(prefixedId));
         }
+        if (instance != null && compositeAttributeEnabled && isAttached()) {
+            // The state of the instance may be changed during the request
+            compositeAttributeDirty = true;
+        }
         return instance;
     }
 
     @Override
     protected Object getAttribute(String prefixedId) {
+        if (compositeAttributeEnabled) {
+            CompositeSessionAttribute composite = getCompositeAttribute(false);
+            return composite != null ? composite.get(prefixedId) : null;
+        }
         HttpSession session = getSession(false);
         if (session != null) {
             return session.getAttribute(prefixedId);
@@ -116,10 +186,10 @@ public abstract class AbstractSessionBeanStore extends AttributeBeanStore {
             lockStore = (LockStore) session.getAttribute(SESSION_KEY);
             if (lockStore == null) {
                 //we don't really have anything we can lock on
-                //so we just acquire a big global lock
+                //as the session object itself may differ between requests
+                //so we acquire a lock striped by the session id
                 //this should only be taken on session creation though
-                //so should not be a problem
-                synchronized (AbstractSessionBeanStore.class) {
+                synchronized (getSessionCreationLock(session)) {
                     lockStore = (LockStore) session.getAttribute(SESSION_KEY);
                     if (lockStore == null) {
                         lockStore = new LockStore();
@@ -132,4 +202,40 @@ public abstract class AbstractSessionBeanStore extends AttributeBeanStore {
         return lockStore;
     }
 
+    private CompositeSessionAttribute getCompositeAttribute(boolean create) {
+        HttpSession session = getSession(create);
+        if (session == null) {
+            return null;
+        }
+        CompositeSessionAttribute composite = (CompositeSessionAttribute) session.getAttribute(CompositeSessionAttribute.ATTRIBUTE_NAME);
+        if (composite == null && create) {
+            synchronized (getSessionCreationLock(session)) {
+                composite = (CompositeSessionAttribute) session.getAttribute(CompositeSessionAttribute.ATTRIBUTE_NAME);
+                if (composite == null) {
+                    composite = new CompositeSessionAttribute();
+                    session.setAttribute(CompositeSessionAttribute.ATTRIBUTE_NAME, composite);
+                }
+            }
+        }
+        return composite;
+    }
+
+    private void flushCompositeAttribute() {
+        try {
+            CompositeSessionAttribute composite = getCompositeAttribute(false);
+            if (composite != null) {
+                // Set the attribute again so that the container is aware of the modification, e.g. replicates the session
+                getSession(false).setAttribute(CompositeSessionAttribute.ATTRIBUTE_NAME, composite);
+                ContextLogger.LOG.addedKeyToSession(CompositeSessionAttribute.ATTRIBUTE_NAME, getSession(false).getId());
+            }
+        } catch (IllegalStateException e) {
+            // The session was invalidated in the meantime
+            ContextLogger.LOG.catchingDebug(e);
+        }
+    }
+
+    private static Object getSessionCreationLock(HttpSession session) {
+        return SESSION_CREATION_LOCKS[session.getId().hashCode() & (SESSION_CREATION_LOCK_STRIPES - 1)];
+    }
+
 }
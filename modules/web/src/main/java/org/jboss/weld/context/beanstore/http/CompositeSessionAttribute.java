@@ -0,0 +1,66 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.context.beanstore.http;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds all the contextual instances of a session bean store in a single HTTP session attribute. The keys are the prefixed bean identifiers, i.e. the
+ * compact index-based names if the bean identifier index is used.
+ * <p>
+ * Concurrent requests of the same session may modify the attribute concurrently.
+ * </p>
+ *
+ * @see AbstractSessionBeanStore
+ */
+public class CompositeSessionAttribute implements Serializable {
+
+    static final String ATTRIBUTE_NAME = CompositeSessionAttribute.class.getName();
+
+    private static final long serialVersionUID = 8295736216843553318L;
+
+    private final ConcurrentMap<String, Object> entries;
+
+    CompositeSessionAttribute() {
+        this.entries = new ConcurrentHashMap<String, Object>();
+    }
+
+    Object get(String key) {
+        return entries.get(key);
+    }
+
+    void put(String key, Object instance) {
+        entries.put(key, instance);
+    }
+
+    boolean remove(String key) {
+        return entries.remove(key) != null;
+    }
+
+    Iterator<String> keys() {
+        return entries.keySet().iterator();
+    }
+
+    @Override
+    public String toString() {
+        return "CompositeSessionAttribute holding " + entries.size() + " instances";
+    }
+
+}
@@ -31,7 +31,11 @@ public class EagerSessionBeanStore extends AbstractSessionBeanStore {
     private final HttpSession session;
 
     public EagerSessionBeanStore(NamingScheme namingScheme, HttpSession session) {
-        super(namingScheme, false);
+        this(namingScheme, session, false);
+    }
+
+    public EagerSessionBeanStore(NamingScheme namingScheme, HttpSession session, boolean compositeAttributeEnabled) {
+        super(namingScheme, false, compositeAttributeEnabled);
         this.session = session;
         ContextLogger.LOG.loadingBeanStoreMapFromSession(this, getSession(false));
     }
@@ -64,7 +64,18 @@ public class LazySessionBeanStore extends AbstractSessionBeanStore {
      * @param attributeLazyFetchingEnabled
      */
     public LazySessionBeanStore(HttpServletRequest request, NamingScheme namingScheme,  boolean attributeLazyFetchingEnabled) {
-        super(namingScheme, attributeLazyFetchingEnabled);
+        this(request, namingScheme, attributeLazyFetchingEnabled, false);
+    }
+
+    /**
+     *
+     * @param request
+     * @param namingScheme
+     * @param attributeLazyFetchingEnabled
+     * @param compositeAttributeEnabled
+     */
+    public LazySessionBeanStore(HttpServletRequest request, NamingScheme namingScheme, boolean attributeLazyFetchingEnabled, boolean compositeAttributeEnabled) {
+        super(namingScheme, attributeLazyFetchingEnabled, compositeAttributeEnabled);
         this.request = request;
         ContextLogger.LOG.loadingBeanStoreMapFromSession(this, getSession(false));
     }
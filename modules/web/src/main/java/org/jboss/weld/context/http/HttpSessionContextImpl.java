@@ -42,8 +42,9 @@ public class HttpSessionContextImpl extends AbstractBoundContext<HttpServletRequ
             ContextLogger.LOG.beanStoreLeakDuringAssociation(this.getClass().getName(), request);
         }
         // We always associate a new bean store to avoid possible leaks (security threats)
-        setBeanStore(new LazySessionBeanStore(request, namingScheme, getServiceRegistry().getRequired(WeldConfiguration.class).getBooleanProperty(
-                ConfigurationKey.CONTEXT_ATTRIBUTES_LAZY_FETCH)));
+        WeldConfiguration configuration = getServiceRegistry().getRequired(WeldConfiguration.class);
+        setBeanStore(new LazySessionBeanStore(request, namingScheme, configuration.getBooleanProperty(ConfigurationKey.CONTEXT_ATTRIBUTES_LAZY_FETCH),
+                configuration.getBooleanProperty(ConfigurationKey.CONTEXT_SESSION_COMPOSITE_ATTRIBUTE)));
         checkBeanIdentifierIndexConsistency(request);
         return true;
     }
@@ -53,7 +54,8 @@ public class HttpSessionContextImpl extends AbstractBoundContext<HttpServletRequ
         if (beanStore == null) {
             try {
                 HttpConversationContext conversationContext = getConversationContext();
-                setBeanStore(new EagerSessionBeanStore(namingScheme, session));
+                setBeanStore(new EagerSessionBeanStore(namingScheme, session, getServiceRegistry().getRequired(WeldConfiguration.class).getBooleanProperty(
+                        ConfigurationKey.CONTEXT_SESSION_COMPOSITE_ATTRIBUTE)));
                 activate();
                 invalidate();
                 conversationContext.destroy(session);
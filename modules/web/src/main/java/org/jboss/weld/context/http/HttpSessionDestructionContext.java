@@ -21,6 +21,8 @@ import java.lang.annotation.Annotation;
 import javax.enterprise.context.SessionScoped;
 import javax.servlet.http.HttpSession;
 
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.context.AbstractBoundContext;
 import org.jboss.weld.context.beanstore.SimpleBeanIdentifierIndexNamingScheme;
 import org.jboss.weld.context.beanstore.NamingScheme;
@@ -48,7 +50,8 @@ public class HttpSessionDestructionContext extends AbstractBoundContext<HttpSess
     public boolean associate(HttpSession session) {
         if (getBeanStore() == null) {
             // Don't reassociate
-            setBeanStore(new EagerSessionBeanStore(namingScheme, session));
+            setBeanStore(new EagerSessionBeanStore(namingScheme, session, getServiceRegistry().getRequired(WeldConfiguration.class).getBooleanProperty(
+                    ConfigurationKey.CONTEXT_SESSION_COMPOSITE_ATTRIBUTE)));
             return true;
         } else {
             return false;
@@ -0,0 +1,149 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.context.beanstore;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.servlet.http.HttpSession;
+
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.context.beanstore.SimpleNamingScheme;
+import org.jboss.weld.context.beanstore.http.CompositeSessionAttribute;
+import org.jboss.weld.context.beanstore.http.EagerSessionBeanStore;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.junit.Test;
+
+public class CompositeSessionAttributeTest {
+
+    private static final BeanIdentifier ALPHA = new StringBeanIdentifier("alpha");
+    private static final BeanIdentifier BRAVO = new StringBeanIdentifier("bravo");
+
+    @Test
+    public void testSingleAttributeSetOnlyWhenDirty() {
+        SessionHandler handler = new SessionHandler();
+        HttpSession session = handler.newSession();
+
+        EagerSessionBeanStore store = new EagerSessionBeanStore(new SimpleNamingScheme("test"), session, true);
+        store.attach();
+        store.put(ALPHA, new SimpleContextualInstance("a"));
+        store.put(BRAVO, new SimpleContextualInstance("b"));
+        // All instances are held by a single attribute which is set when created
+        assertEquals(1, handler.attributes.size());
+        assertTrue(handler.attributes.get(CompositeSessionAttribute.class.getName()) instanceof CompositeSessionAttribute);
+        assertEquals(1, handler.setAttributeCount);
+        store.detach();
+        // Dirty - set again at the end of the request
+        assertEquals(2, handler.setAttributeCount);
+
+        // The next request does not use any instance
+        store = new EagerSessionBeanStore(new SimpleNamingScheme("test"), session, true);
+        store.attach();
+        store.detach();
+        assertEquals(2, handler.setAttributeCount);
+
+        // The next request obtains the instances which may be mutated
+        store = new EagerSessionBeanStore(new SimpleNamingScheme("test"), session, true);
+        store.attach();
+        assertEquals("a", store.get(ALPHA).getInstance());
+        assertEquals("b", store.get(BRAVO).getInstance());
+        store.detach();
+        // Set once for all the instances
+        assertEquals(3, handler.setAttributeCount);
+
+        // Removal makes the attribute dirty
+        store = new EagerSessionBeanStore(new SimpleNamingScheme("test"), session, true);
+        store.attach();
+        store.remove(ALPHA);
+        store.detach();
+        assertEquals(4, handler.setAttributeCount);
+        store = new EagerSessionBeanStore(new SimpleNamingScheme("test"), session, true);
+        store.attach();
+        assertNull(store.get(ALPHA));
+        assertEquals("b", store.get(BRAVO).getInstance());
+    }
+
+    private static class SessionHandler implements InvocationHandler {
+
+        private final Map<String, Object> attributes = new HashMap<String, Object>();
+
+        private int setAttributeCount;
+
+        HttpSession newSession() {
+            return (HttpSession) Proxy.newProxyInstance(HttpSession.class.getClassLoader(), new Class<?>[] { HttpSession.class }, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "getId":
+                    return "foo";
+                case "getAttribute":
+                    return attributes.get(args[0]);
+                case "setAttribute":
+                    setAttributeCount++;
+                    attributes.put((String) args[0], args[1]);
+                    return null;
+                case "removeAttribute":
+                    attributes.remove(args[0]);
+                    return null;
+                case "getAttributeNames":
+                    return Collections.enumeration(attributes.keySet());
+                default:
+                    throw new UnsupportedOperationException(method.getName());
+            }
+        }
+
+    }
+
+    private static class SimpleContextualInstance implements ContextualInstance<Object> {
+
+        private final Object instance;
+
+        SimpleContextualInstance(Object instance) {
+            this.instance = instance;
+        }
+
+        @Override
+        public Object getInstance() {
+            return instance;
+        }
+
+        @Override
+        public CreationalContext<Object> getCreationalContext() {
+            return null;
+        }
+
+        @Override
+        public Contextual<Object> getContextual() {
+            return null;
+        }
+
+    }
+
+}
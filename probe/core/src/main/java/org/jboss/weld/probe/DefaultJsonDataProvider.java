@@ -35,6 +35,7 @@ import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.ObserverMethod;
 
 import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.probe.Json.JsonObjectBuilder;
 import org.jboss.weld.probe.Queries.BeanFilters;
 import org.jboss.weld.probe.Queries.EventsFilters;
 import org.jboss.weld.probe.Queries.InvocationsFilters;
@@ -67,6 +68,10 @@ public class DefaultJsonDataProvider implements JsonDataProvider {
 
     @Override
     public String receiveBeans(int pageIndex, int pageSize, String filters, String representation) {
+        return beans(pageIndex, pageSize, filters, representation).build();
+    }
+
+    JsonObjectBuilder beans(int pageIndex, int pageSize, String filters, String representation) {
         return JsonObjects.createBeansJson(Queries.find(probe.getBeans(), pageIndex, pageSize, Queries.initFilters(filters, new BeanFilters(probe))), probe,
                 beanManager, Representation.from(representation));
     }
@@ -91,6 +96,10 @@ public class DefaultJsonDataProvider implements JsonDataProvider {
 
     @Override
     public String receiveObservers(int pageIndex, int pageSize, String filters, String representation) {
+        return observers(pageIndex, pageSize, filters, representation).build();
+    }
+
+    JsonObjectBuilder observers(int pageIndex, int pageSize, String filters, String representation) {
         return JsonObjects.createObserversJson(
                 Queries.find(probe.getObservers(), pageIndex, pageSize, Queries.initFilters(filters, new ObserverFilters(probe))), probe,
                 Representation.from(representation));
@@ -121,6 +130,10 @@ public class DefaultJsonDataProvider implements JsonDataProvider {
 
     @Override
     public String receiveInvocations(int pageIndex, int pageSize, String filters, String representation) {
+        return invocations(pageIndex, pageSize, filters, representation).build();
+    }
+
+    JsonObjectBuilder invocations(int pageIndex, int pageSize, String filters, String representation) {
         return JsonObjects.createInvocationsJson(
                 Queries.find(probe.getInvocations(), pageIndex, pageSize, Queries.initFilters(filters, new InvocationsFilters(probe))), probe,
                 Representation.from(representation));
@@ -142,6 +155,10 @@ public class DefaultJsonDataProvider implements JsonDataProvider {
 
     @Override
     public String receiveEvents(int pageIndex, int pageSize, String filters) {
+        return events(pageIndex, pageSize, filters).build();
+    }
+
+    JsonObjectBuilder events(int pageIndex, int pageSize, String filters) {
         return JsonObjects.createEventsJson(Queries.find(probe.getEvents(), pageIndex, pageSize, Queries.initFilters(filters, new EventsFilters(probe))),
                 probe);
     }
@@ -201,7 +218,7 @@ public class DefaultJsonDataProvider implements JsonDataProvider {
             beans = beanManager.getBeanResolver().resolve(beans);
         }
         return JsonObjects.createBeansJson(Queries.find(probe.getOrderedBeans(beans), pageIndex, pageSize, null), probe, beanManager,
-                Representation.from(representation));
+                Representation.from(representation)).build();
     }
 
     private String getError(String description) {
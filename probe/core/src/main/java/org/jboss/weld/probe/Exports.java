@@ -17,12 +17,16 @@
 package org.jboss.weld.probe;
 
 import java.io.BufferedOutputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
+import org.jboss.weld.probe.Json.JsonBuilder;
 import org.jboss.weld.probe.Resource.Representation;
 
 /**
@@ -31,29 +35,45 @@ import org.jboss.weld.probe.Resource.Representation;
  */
 final class Exports {
 
+    private static final String SUFFIX_JSON = ".json";
+
     private Exports() {
     }
 
-    static byte[] exportJsonData(JsonDataProvider jsonDataProvider) throws IOException {
-        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
-        ZipOutputStream out = new ZipOutputStream(new BufferedOutputStream(bytes));
-        addEntry(out, "deployment", jsonDataProvider.receiveDeployment());
-        addEntry(out, "observers", jsonDataProvider.receiveObservers(0, 0, null, Representation.FULL.toString()));
-        addEntry(out, "beans", jsonDataProvider.receiveBeans(0, 0, null, Representation.FULL.toString()));
-        addEntry(out, "fired-events", jsonDataProvider.receiveEvents(0, 0, null));
-        addEntry(out, "invocation-trees", jsonDataProvider.receiveInvocations(0, 0, null, Representation.FULL.toString()));
-        addEntry(out, "contexts", jsonDataProvider.receiveContexts());
+    /**
+     * Writes the zipped data to the given output stream. The stream is not closed.
+     *
+     * @param jsonDataProvider
+     * @param output
+     * @throws IOException
+     */
+    static void exportJsonData(DefaultJsonDataProvider jsonDataProvider, OutputStream output) throws IOException {
+        ZipOutputStream out = new ZipOutputStream(new BufferedOutputStream(output));
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        addEntry(out, writer, "deployment", jsonDataProvider.receiveDeployment());
+        addEntry(out, writer, "observers", jsonDataProvider.observers(0, 0, null, Representation.FULL.toString()));
+        addEntry(out, writer, "beans", jsonDataProvider.beans(0, 0, null, Representation.FULL.toString()));
+        addEntry(out, writer, "fired-events", jsonDataProvider.events(0, 0, null));
+        addEntry(out, writer, "invocation-trees", jsonDataProvider.invocations(0, 0, null, Representation.FULL.toString()));
+        addEntry(out, writer, "contexts", jsonDataProvider.receiveContexts());
         for (String contextKey : Components.INSPECTABLE_SCOPES.keySet()) {
-            addEntry(out, "context-" + contextKey, jsonDataProvider.receiveContext(contextKey));
+            addEntry(out, writer, "context-" + contextKey, jsonDataProvider.receiveContext(contextKey));
         }
         // Intentionally do not export contextual instances
-        out.close();
-        return bytes.toByteArray();
+        out.finish();
+        out.flush();
+    }
+
+    private static void addEntry(ZipOutputStream out, Writer writer, String baseName, String data) throws IOException {
+        out.putNextEntry(new ZipEntry(baseName + SUFFIX_JSON));
+        writer.write(data);
+        writer.flush();
     }
 
-    private static void addEntry(ZipOutputStream out, String baseName, String data) throws IOException {
-        out.putNextEntry(new ZipEntry(baseName + ".json"));
-        out.write(data.getBytes(StandardCharsets.UTF_8));
+    private static void addEntry(ZipOutputStream out, Writer writer, String baseName, JsonBuilder<?> data) throws IOException {
+        out.putNextEntry(new ZipEntry(baseName + SUFFIX_JSON));
+        data.appendTo(writer);
+        writer.flush();
     }
 
 }
@@ -56,23 +56,35 @@ public class InvocationMonitor implements Serializable {
 
     private static final InterceptorAction INTERCEPTOR_ACTION = new InterceptorAction();
 
+    /**
+     * Marks an invocation tree which is not recorded, see also {@link Probe#isInvocationSampled()}. Must not be modified.
+     */
+    static final Invocation.Builder NOT_SAMPLED = Invocation.Builder.newBuilder(-1);
+
     /**
      *
-     * @return a new entry point or a child
+     * @param probe
+     * @return a new entry point or a child, {@link #NOT_SAMPLED} for a new entry point which is not recorded or <code>null</code> if the current invocation
+     *         tree is not recorded
      */
-    static Invocation.Builder initBuilder() {
-        return initBuilder(true);
+    static Invocation.Builder initBuilder(Probe probe) {
+        return initBuilder(probe, true);
     }
 
     /**
      *
-     * @return a new entry point or a child or <code>null</code>
+     * @param probe
+     * @param initChild
+     * @return a new entry point or a child, {@link #NOT_SAMPLED} for a new entry point which is not recorded or <code>null</code> if the current invocation
+     *         tree is not recorded
      */
-    static Invocation.Builder initBuilder(boolean initChild) {
+    static Invocation.Builder initBuilder(Probe probe, boolean initChild) {
         Invocation.Builder builder = INVOCATIONS.get();
         if (builder == null) {
-            builder = Invocation.Builder.newBuilder(INVOCATION_ID_GENERATOR.incrementAndGet());
+            builder = probe.isInvocationSampled() ? Invocation.Builder.newBuilder(INVOCATION_ID_GENERATOR.incrementAndGet()) : NOT_SAMPLED;
             INVOCATIONS.set(builder);
+        } else if (builder == NOT_SAMPLED) {
+            return null;
         } else if (initChild) {
             builder = builder.newChild();
             INVOCATIONS.set(builder);
@@ -106,16 +118,22 @@ public class InvocationMonitor implements Serializable {
             return ctx.proceed();
         }
 
-        final Invocation.Builder builder = initBuilder();
+        final Invocation.Builder builder = initBuilder(probe);
 
-        if (interceptedBean != null) {
-            builder.setInterceptedBean(interceptedBean);
-        } else {
-            builder.setDeclaringClassName(ctx.getMethod().getDeclaringClass().getName());
+        if (builder == null) {
+            // The current invocation tree is not recorded
+            return ctx.proceed();
+        }
+        if (builder != NOT_SAMPLED) {
+            if (interceptedBean != null) {
+                builder.setInterceptedBean(interceptedBean);
+            } else {
+                builder.setDeclaringClassName(ctx.getMethod().getDeclaringClass().getName());
+            }
+            builder.guessType(ctx);
+            builder.setStart(System.currentTimeMillis());
+            builder.setMethodName(ctx.getMethod().getName());
         }
-        builder.guessType(ctx);
-        builder.setStart(System.currentTimeMillis());
-        builder.setMethodName(ctx.getMethod().getName());
 
         return INTERCEPTOR_ACTION.perform(builder, probe, ctx);
     }
@@ -150,6 +168,13 @@ public class InvocationMonitor implements Serializable {
     abstract static class Action<T> {
 
         Object perform(Invocation.Builder builder, Probe probe, T context) throws Exception {
+            if (builder == NOT_SAMPLED) {
+                try {
+                    return proceed(context);
+                } finally {
+                    INVOCATIONS.remove();
+                }
+            }
             try {
                 long start = System.nanoTime();
                 Object result = proceed(context);
@@ -16,8 +16,10 @@
  */
 package org.jboss.weld.probe;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -25,11 +27,16 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.Function;
 
 import org.jboss.weld.util.Preconditions;
 
 /**
  * Simple JSON generator. A third-party library is not used intentionally - we don't need any other dependencies.
+ * <p>
+ * The output is written directly to an {@link Appendable}, nested builders do not produce intermediate strings. This allows to stream large data sets to a
+ * servlet response or an export file.
+ * </p>
  *
  * @author Martin Kouba
  */
@@ -62,6 +69,8 @@ final class Json {
 
     private static final char CHAR_QUOTATION_MARK = '"';
 
+    private static final char CHAR_REVERSE_SOLIDUS = '\\';
+
     private Json() {
     }
 
@@ -100,6 +109,17 @@ final class Json {
         return new JsonObjectBuilder(ignoreEmptyBuilders);
     }
 
+    /**
+     * The elements are converted lazily while the array is being written, i.e. the builders for all the elements do not need to exist at the same time.
+     *
+     * @param elements
+     * @param function
+     * @return the new JSON array builder backed by the given elements, empty builders are not ignored
+     */
+    static <E> JsonArrayBuilder arrayBuilder(Iterable<E> elements, Function<E, ? extends JsonBuilder<?>> function) {
+        return new LazyJsonArrayBuilder<E>(elements, function);
+    }
+
     /**
      *
      * @author Martin Kouba
@@ -128,7 +148,24 @@ final class Json {
          *
          * @return a string representation
          */
-        abstract String build();
+        String build() {
+            StringBuilder builder = new StringBuilder();
+            try {
+                appendTo(builder);
+            } catch (IOException e) {
+                // Not thrown by StringBuilder
+                throw new IllegalStateException(e);
+            }
+            return builder.toString();
+        }
+
+        /**
+         * Writes the JSON representation to the given output.
+         *
+         * @param out
+         * @throws IOException
+         */
+        abstract void appendTo(Appendable out) throws IOException;
 
         /**
          *
@@ -171,8 +208,12 @@ final class Json {
         private final List<Object> values;
 
         private JsonArrayBuilder(boolean ignoreEmptyBuilders) {
+            this(ignoreEmptyBuilders, new ArrayList<Object>());
+        }
+
+        private JsonArrayBuilder(boolean ignoreEmptyBuilders, List<Object> values) {
             super(ignoreEmptyBuilders);
-            this.values = new ArrayList<Object>();
+            this.values = values;
         }
 
         JsonArrayBuilder add(JsonArrayBuilder value) {
@@ -215,9 +256,8 @@ final class Json {
             return isValuesEmpty(values);
         }
 
-        String build() {
-            StringBuilder builder = new StringBuilder();
-            builder.append(ARRAY_START);
+        void appendTo(Appendable out) throws IOException {
+            out.append(ARRAY_START);
             int idx = 0;
             for (ListIterator<Object> iterator = values.listIterator(); iterator.hasNext();) {
                 Object value = iterator.next();
@@ -225,12 +265,11 @@ final class Json {
                     continue;
                 }
                 if (++idx > 1) {
-                    builder.append(ENTRY_SEPARATOR);
+                    out.append(ENTRY_SEPARATOR);
                 }
-                appendValue(builder, value);
+                appendValue(out, value);
             }
-            builder.append(ARRAY_END);
-            return builder.toString();
+            out.append(ARRAY_END);
         }
 
         @Override
@@ -298,9 +337,8 @@ final class Json {
             return isValuesEmpty(properties.values());
         }
 
-        String build() {
-            StringBuilder builder = new StringBuilder();
-            builder.append(OBJECT_START);
+        void appendTo(Appendable out) throws IOException {
+            out.append(OBJECT_START);
             int idx = 0;
             for (Iterator<Entry<String, Object>> iterator = properties.entrySet().iterator(); iterator.hasNext();) {
                 Entry<String, Object> entry = iterator.next();
@@ -308,14 +346,13 @@ final class Json {
                     continue;
                 }
                 if (++idx > 1) {
-                    builder.append(ENTRY_SEPARATOR);
+                    out.append(ENTRY_SEPARATOR);
                 }
-                appendStringValue(builder, entry.getKey());
-                builder.append(NAME_VAL_SEPARATOR);
-                appendValue(builder, entry.getValue());
+                appendStringValue(out, entry.getKey());
+                out.append(NAME_VAL_SEPARATOR);
+                appendValue(out, entry.getValue());
             }
-            builder.append(OBJECT_END);
-            return builder.toString();
+            out.append(OBJECT_END);
         }
 
         @Override
@@ -325,24 +362,68 @@ final class Json {
 
     }
 
-    static void appendValue(StringBuilder builder, Object value) {
-        if (value instanceof JsonObjectBuilder) {
-            builder.append(((JsonObjectBuilder) value).build());
-        } else if (value instanceof JsonArrayBuilder) {
-            builder.append(((JsonArrayBuilder) value).build());
+    /**
+     * JSON array builder backed by an {@link Iterable}. Each element is converted to a builder right before it's written. Elements cannot be added.
+     *
+     * @param <E> Element type
+     */
+    private static class LazyJsonArrayBuilder<E> extends JsonArrayBuilder {
+
+        private final Iterable<E> elements;
+
+        private final Function<E, ? extends JsonBuilder<?>> function;
+
+        private LazyJsonArrayBuilder(Iterable<E> elements, Function<E, ? extends JsonBuilder<?>> function) {
+            super(false, Collections.emptyList());
+            this.elements = elements;
+            this.function = function;
+        }
+
+        @Override
+        boolean isEmpty() {
+            for (E element : elements) {
+                if (!function.apply(element).isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        void appendTo(Appendable out) throws IOException {
+            out.append(ARRAY_START);
+            int idx = 0;
+            for (E element : elements) {
+                JsonBuilder<?> value = function.apply(element);
+                if (isIgnored(value)) {
+                    continue;
+                }
+                if (++idx > 1) {
+                    out.append(ENTRY_SEPARATOR);
+                }
+                value.appendTo(out);
+            }
+            out.append(ARRAY_END);
+        }
+
+    }
+
+    static void appendValue(Appendable out, Object value) throws IOException {
+        if (value instanceof JsonBuilder) {
+            ((JsonBuilder<?>) value).appendTo(out);
         } else if (value instanceof String) {
-            appendStringValue(builder, value.toString());
+            appendStringValue(out, value.toString());
         } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long) {
-            builder.append(value.toString());
+            out.append(value.toString());
         } else {
             throw new IllegalStateException("Unsupported value type: " + value);
         }
     }
 
-    static void appendStringValue(StringBuilder builder, String value) {
-        builder.append(CHAR_QUOTATION_MARK);
-        builder.append(escape(value));
-        builder.append(CHAR_QUOTATION_MARK);
+    static void appendStringValue(Appendable out, String value) throws IOException {
+        out.append(CHAR_QUOTATION_MARK);
+        appendEscaped(out, value);
+        out.append(CHAR_QUOTATION_MARK);
     }
 
     /**
@@ -354,16 +435,28 @@ final class Json {
      */
     static String escape(String value) {
         StringBuilder builder = new StringBuilder();
+        try {
+            appendEscaped(builder, value);
+        } catch (IOException e) {
+            // Not thrown by StringBuilder
+            throw new IllegalStateException(e);
+        }
+        return builder.toString();
+    }
+
+    private static void appendEscaped(Appendable out, String value) throws IOException {
+        int start = 0;
         for (int i = 0; i < value.length(); i++) {
             char c = value.charAt(i);
-            String replacement = REPLACEMENTS.get(c);
-            if (replacement != null) {
-                builder.append(replacement);
-            } else {
-                builder.append(c);
+            if (c > CONTROL_CHAR_END && c != CHAR_QUOTATION_MARK && c != CHAR_REVERSE_SOLIDUS) {
+                continue;
             }
+            // Write the unescaped chars at once
+            out.append(value, start, i);
+            out.append(REPLACEMENTS.get(c));
+            start = i + 1;
         }
-        return builder.toString();
+        out.append(value, start, value.length());
     }
 
 }
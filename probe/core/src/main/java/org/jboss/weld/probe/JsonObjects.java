@@ -357,27 +357,20 @@ final class JsonObjects {
      * @param representation
      * @return the collection of all beans of the given page, using the given representation
      */
-    static String createBeansJson(Page<Bean<?>> page, Probe probe, BeanManagerImpl beanManager, Representation representation) {
-        JsonArrayBuilder beansBuilder = Json.arrayBuilder();
-        if (representation == null) {
-            representation = Representation.BASIC;
-        }
-        for (Bean<?> bean : page.getData()) {
-            switch (representation) {
+    static JsonObjectBuilder createBeansJson(Page<Bean<?>> page, Probe probe, BeanManagerImpl beanManager, Representation representation) {
+        final Representation beanRepresentation = representation != null ? representation : Representation.BASIC;
+        return createPageJson(page, Json.arrayBuilder(page.getData(), (bean) -> {
+            switch (beanRepresentation) {
                 case SIMPLE:
-                    beansBuilder.add(createSimpleBeanJsonWithDependencies(bean, probe));
-                    break;
+                    return createSimpleBeanJsonWithDependencies(bean, probe);
                 case BASIC:
-                    beansBuilder.add(createBasicBeanJson(bean, probe));
-                    break;
+                    return createBasicBeanJson(bean, probe);
                 case FULL:
-                    beansBuilder.add(createFullBeanJson(bean, true, true, beanManager, probe));
-                    break;
+                    return createFullBeanJson(bean, true, true, beanManager, probe);
                 default:
-                    throw new UnsupportedOperationException(representation.toString());
+                    throw new UnsupportedOperationException(beanRepresentation.toString());
             }
-        }
-        return createPageJson(page, beansBuilder);
+        }));
     }
 
     /**
@@ -804,25 +797,18 @@ final class JsonObjects {
      * @param probe
      * @return the collection of all observer methods, using basic representation
      */
-    static String createInvocationsJson(Page<Invocation> page, Probe probe, Representation representation) {
-        JsonArrayBuilder invocationsBuilder = Json.arrayBuilder();
-        if (representation == null) {
-            representation = Representation.BASIC;
-        }
-        for (Invocation invocation : page.getData()) {
-            switch (representation) {
+    static JsonObjectBuilder createInvocationsJson(Page<Invocation> page, Probe probe, Representation representation) {
+        final Representation invocationRepresentation = representation != null ? representation : Representation.BASIC;
+        return createPageJson(page, Json.arrayBuilder(page.getData(), (invocation) -> {
+            switch (invocationRepresentation) {
                 case BASIC:
-                    invocationsBuilder.add(createBasicInvocationJson(invocation, probe));
-                    break;
+                    return createBasicInvocationJson(invocation, probe);
                 case FULL:
-                    invocationsBuilder.add(createFullInvocationJson(invocation, probe));
-                    break;
+                    return createFullInvocationJson(invocation, probe);
                 default:
-                    throw new UnsupportedOperationException(representation.toString());
+                    throw new UnsupportedOperationException(invocationRepresentation.toString());
             }
-
-        }
-        return createPageJson(page, invocationsBuilder);
+        }));
     }
 
     static JsonObjectBuilder createBasicInvocationJson(Invocation invocation, Probe probe) {
@@ -868,24 +854,18 @@ final class JsonObjects {
      * @param probe
      * @return the collection of all observer methods, using basic representation
      */
-    static String createObserversJson(Page<ObserverMethod<?>> page, Probe probe, Representation representation) {
-        JsonArrayBuilder observersBuilder = Json.arrayBuilder();
-        if (representation == null) {
-            representation = Representation.BASIC;
-        }
-        for (ObserverMethod<?> observerMethod : page.getData()) {
-            switch (representation) {
+    static JsonObjectBuilder createObserversJson(Page<ObserverMethod<?>> page, Probe probe, Representation representation) {
+        final Representation observerRepresentation = representation != null ? representation : Representation.BASIC;
+        return createPageJson(page, Json.arrayBuilder(page.getData(), (observerMethod) -> {
+            switch (observerRepresentation) {
                 case BASIC:
-                    observersBuilder.add(createBasicObserverJson(observerMethod, probe));
-                    break;
+                    return createBasicObserverJson(observerMethod, probe);
                 case FULL:
-                    observersBuilder.add(createFullObserverJson(observerMethod, probe));
-                    break;
+                    return createFullObserverJson(observerMethod, probe);
                 default:
-                    throw new UnsupportedOperationException(representation.toString());
+                    throw new UnsupportedOperationException(observerRepresentation.toString());
             }
-        }
-        return createPageJson(page, observersBuilder);
+        }));
     }
 
     /**
@@ -1107,8 +1087,8 @@ final class JsonObjects {
         return builder;
     }
 
-    static String createPageJson(Page<?> page, JsonArrayBuilder data) {
-        return Json.objectBuilder().add(PAGE, page.getIdx()).add(LAST_PAGE, page.getLastIdx()).add(TOTAL, page.getTotal()).add(DATA, data).build();
+    static JsonObjectBuilder createPageJson(Page<?> page, JsonArrayBuilder data) {
+        return Json.objectBuilder().add(PAGE, page.getIdx()).add(LAST_PAGE, page.getLastIdx()).add(TOTAL, page.getTotal()).add(DATA, data);
     }
 
     static String annotatedMethodToString(AnnotatedMethod<?> method, Class<?> beanClass) {
@@ -1169,12 +1149,8 @@ final class JsonObjects {
         return builder;
     }
 
-    static String createEventsJson(Page<EventInfo> page, Probe probe) {
-        JsonArrayBuilder eventsBuilder = Json.arrayBuilder();
-        for (EventInfo event : page.getData()) {
-            eventsBuilder.add(createEventJson(event, probe));
-        }
-        return createPageJson(page, eventsBuilder);
+    static JsonObjectBuilder createEventsJson(Page<EventInfo> page, Probe probe) {
+        return createPageJson(page, Json.arrayBuilder(page.getData(), (event) -> createEventJson(event, probe)));
     }
 
     static JsonObjectBuilder createSimpleBdaJson(String bdaId) {
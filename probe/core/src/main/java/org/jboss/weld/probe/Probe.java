@@ -25,14 +25,11 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicLong;
 
 import javax.enterprise.inject.spi.Bean;
@@ -45,6 +42,7 @@ import org.jboss.weld.bean.AbstractProducerBean;
 import org.jboss.weld.bean.builtin.AbstractBuiltInBean;
 import org.jboss.weld.bean.builtin.ExtensionBean;
 import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
+import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.event.ObserverMethodImpl;
 import org.jboss.weld.exceptions.IllegalStateException;
 import org.jboss.weld.manager.BeanManagerImpl;
@@ -62,12 +60,6 @@ import org.jboss.weld.util.collections.SetMultimap;
  */
 class Probe {
 
-    // If needed make this configurable
-    private static final int DEFAULT_INVOCATIONS_LIMIT = 5000;
-
-    // If needed make this configurable
-    private static final int DEFAULT_EVENTS_LIMIT = 5000;
-
     // Immutable mappings
 
     private final Map<Bean<?>, String> beanToId;
@@ -88,9 +80,12 @@ class Probe {
 
     // Monitoring data
 
-    private final ConcurrentMap<Integer, Invocation> invocations;
+    private volatile RingBuffer<Invocation> invocations;
+
+    private volatile RingBuffer<EventInfo> events;
 
-    private final List<EventInfo> events;
+    // Record 1 in N invocation trees
+    private volatile int invocationSamplingRate;
 
     // Comparators
 
@@ -109,8 +104,9 @@ class Probe {
      */
     Probe() {
         this.initTs = new AtomicLong(0);
-        this.invocations = new ConcurrentHashMap<Integer, Invocation>();
-        this.events = Collections.synchronizedList(new LinkedList<EventInfo>());
+        initMonitoring((Integer) ConfigurationKey.PROBE_INVOCATION_MONITOR_LIMIT.getDefaultValue(),
+                (Integer) ConfigurationKey.PROBE_INVOCATION_MONITOR_SAMPLING_RATE.getDefaultValue(),
+                (Integer) ConfigurationKey.PROBE_EVENT_MONITOR_LIMIT.getDefaultValue());
         this.beanToId = new HashMap<Bean<?>, String>();
         this.idToBean = new HashMap<String, Bean<?>>();
         this.beanToManager = new HashMap<Bean<?>, BeanManagerImpl>();
@@ -317,6 +313,27 @@ class Probe {
         return beanToDeclaredProducers.containsKey(bean) ? beanToDeclaredProducers.get(bean) : Collections.emptySet();
     }
 
+    /**
+     *
+     * @param invocationsLimit the maximum number of invocation trees kept
+     * @param invocationSamplingRate only 1 in N invocation trees is recorded
+     * @param eventsLimit the maximum number of events kept
+     */
+    void initMonitoring(int invocationsLimit, int invocationSamplingRate, int eventsLimit) {
+        this.invocations = new RingBuffer<>(Math.max(1, invocationsLimit), Invocation::getEntryPointIdx);
+        this.invocationSamplingRate = Math.max(1, invocationSamplingRate);
+        this.events = new RingBuffer<>(Math.max(1, eventsLimit));
+    }
+
+    /**
+     *
+     * @return <code>true</code> if a new invocation tree should be recorded
+     */
+    boolean isInvocationSampled() {
+        int rate = invocationSamplingRate;
+        return rate == 1 || ThreadLocalRandom.current().nextInt(rate) == 0;
+    }
+
     /**
      *
      * @param invocation
@@ -325,20 +342,11 @@ class Probe {
         if (!invocation.isEntryPoint()) {
             throw new IllegalStateException("Invocation is not an entry point!");
         }
-        // Remove some old data if the limit is exceeded
-        if (invocations.size() > DEFAULT_INVOCATIONS_LIMIT) {
-            synchronized (this) {
-                if (invocations.size() > DEFAULT_INVOCATIONS_LIMIT) {
-                    Set<Integer> keySet = invocations.keySet();
-                    List<Integer> sorted = new ArrayList<Integer>(keySet);
-                    Collections.sort(sorted, Collections.reverseOrder());
-                    if (keySet.removeAll(sorted.subList(DEFAULT_INVOCATIONS_LIMIT / 2, sorted.size()))) {
-                        ProbeLogger.LOG.monitoringLimitExceeded(Invocation.class.getSimpleName(), DEFAULT_INVOCATIONS_LIMIT);
-                    }
-                }
-            }
+        // The oldest data are overwritten if the limit is exceeded
+        RingBuffer<Invocation> invocations = this.invocations;
+        if (invocations.add(invocation)) {
+            ProbeLogger.LOG.monitoringLimitExceeded(Invocation.class.getSimpleName(), invocations.getCapacity());
         }
-        invocations.put(invocation.getEntryPointIdx(), invocation);
     }
 
     /**
@@ -346,7 +354,7 @@ class Probe {
      * @return the sorted entry points (invocation trees)
      */
     List<Invocation> getInvocations() {
-        List<Invocation> sorted = new ArrayList<Invocation>(invocations.values());
+        List<Invocation> sorted = invocations.getAll();
         Collections.sort(sorted, Invocation.Comparators.ENTRY_POINT_IDX);
         return sorted;
     }
@@ -357,33 +365,28 @@ class Probe {
      * @return the invocation tree with the given generated id
      */
     Invocation getInvocation(String id) {
+        Integer idx;
         try {
-            return invocations.get(Integer.valueOf(id));
+            idx = Integer.valueOf(id);
         } catch (NumberFormatException e) {
             return null;
         }
+        return invocations.get(idx);
     }
 
     /**
    *
    */
     int clearInvocations() {
-        int size = invocations.size();
-        invocations.clear();
-        return size;
+        return invocations.clear();
     }
 
     void addEvent(EventInfo event) {
-        // Remove some old data if the limit is exceeded
-        if (events.size() > DEFAULT_EVENTS_LIMIT) {
-            synchronized (this) {
-                if (events.size() > DEFAULT_EVENTS_LIMIT) {
-                    events.subList(0, DEFAULT_EVENTS_LIMIT / 2).clear();
-                    ProbeLogger.LOG.monitoringLimitExceeded(EventInfo.class.getSimpleName(), DEFAULT_EVENTS_LIMIT);
-                }
-            }
+        // The oldest data are overwritten if the limit is exceeded
+        RingBuffer<EventInfo> events = this.events;
+        if (events.add(event)) {
+            ProbeLogger.LOG.monitoringLimitExceeded(EventInfo.class.getSimpleName(), events.getCapacity());
         }
-        events.add(event);
     }
 
     /**
@@ -392,13 +395,9 @@ class Probe {
      * @return mutable copy of the captured event information
      */
     List<EventInfo> getEvents() {
-        synchronized (events) {
-            List<EventInfo> result = new ArrayList<>(events.size());
-            for (ListIterator<EventInfo> iterator = events.listIterator(events.size()); iterator.hasPrevious();) {
-                result.add(iterator.previous());
-            }
-            return result;
-        }
+        List<EventInfo> result = events.getAll();
+        Collections.reverse(result);
+        return result;
     }
 
     /**
@@ -406,11 +405,7 @@ class Probe {
      * @return the number of captured events before the state is cleared.
      */
     int clearEvents() {
-        synchronized (events) {
-            int count = events.size();
-            events.clear();
-            return count;
-        }
+        return events.clear();
     }
 
     /**
@@ -476,9 +471,7 @@ class Probe {
     }
 
     int getFiredEventsCount() {
-        synchronized (events) {
-            return events.size();
-        }
+        return events.size();
     }
 
     boolean isUnused(Bean<?> bean) {
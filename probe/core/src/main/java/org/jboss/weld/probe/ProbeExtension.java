@@ -18,6 +18,7 @@ package org.jboss.weld.probe;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.management.ManagementFactory;
 import java.lang.reflect.Member;
@@ -91,7 +92,7 @@ public class ProbeExtension implements Extension {
 
     private final Probe probe;
 
-    private volatile JsonDataProvider jsonDataProvider;
+    private volatile DefaultJsonDataProvider jsonDataProvider;
 
     private volatile Pattern invocationMonitorExcludePattern;
 
@@ -112,6 +113,9 @@ public class ProbeExtension implements Extension {
         this.invocationMonitorExcludePattern = exclude.isEmpty() ? null : Pattern.compile(exclude);
         this.jsonDataProvider = new DefaultJsonDataProvider(probe, manager);
         this.eventMonitorContainerLifecycleEvents = configuration.getBooleanProperty(ConfigurationKey.PROBE_EVENT_MONITOR_CONTAINER_LIFECYCLE_EVENTS);
+        probe.initMonitoring(configuration.getIntegerProperty(ConfigurationKey.PROBE_INVOCATION_MONITOR_LIMIT),
+                configuration.getIntegerProperty(ConfigurationKey.PROBE_INVOCATION_MONITOR_SAMPLING_RATE),
+                configuration.getIntegerProperty(ConfigurationKey.PROBE_EVENT_MONITOR_LIMIT));
         addContainerLifecycleEvent(event, null, beanManager);
     }
 
@@ -239,7 +243,7 @@ public class ProbeExtension implements Extension {
         return probe;
     }
 
-    JsonDataProvider getJsonDataProvider() {
+    DefaultJsonDataProvider getJsonDataProvider() {
         return jsonDataProvider;
     }
 
@@ -326,8 +330,8 @@ public class ProbeExtension implements Extension {
                 ProbeLogger.LOG.invalidExportPath(exportPath);
                 return;
             }
-            try {
-                Files.write(new File(exportPath, "weld-probe-export.zip").toPath(), Exports.exportJsonData(jsonDataProvider));
+            try (OutputStream out = Files.newOutputStream(new File(exportPath, "weld-probe-export.zip").toPath())) {
+                Exports.exportJsonData(jsonDataProvider, out);
             } catch (IOException e) {
                 ProbeLogger.LOG.unableToExportData(e.getCause() != null ? e.getCause() : e);
                 ProbeLogger.LOG.catchingTrace(e);
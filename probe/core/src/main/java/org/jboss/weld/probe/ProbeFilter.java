@@ -18,9 +18,13 @@ package org.jboss.weld.probe;
 
 import static org.jboss.weld.probe.Strings.TEXT_HTML;
 
-import java.io.CharArrayWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import javax.inject.Inject;
@@ -29,8 +33,10 @@ import javax.servlet.FilterChain;
 import javax.servlet.FilterConfig;
 import javax.servlet.ServletContext;
 import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
 import javax.servlet.ServletRequest;
 import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpServletResponseWrapper;
@@ -80,7 +86,7 @@ public class ProbeFilter implements Filter {
 
     private Probe probe;
 
-    private JsonDataProvider jsonDataProvider;
+    private DefaultJsonDataProvider jsonDataProvider;
 
     private boolean skipMonitoring;
 
@@ -156,8 +162,8 @@ public class ProbeFilter implements Filter {
             final Invocation.Builder builder;
             if (!skipMonitoring) {
                 // Don't initialize a new builder if an entry point already exists
-                builder = InvocationMonitor.initBuilder(false);
-                if (builder != null) {
+                builder = InvocationMonitor.initBuilder(probe, false);
+                if (builder != null && builder != InvocationMonitor.NOT_SAMPLED) {
                     builder.setDeclaringClassName(ProbeFilter.class.getName());
                     builder.setStart(System.currentTimeMillis());
                     builder.setMethodName("doFilter");
@@ -182,37 +188,24 @@ public class ProbeFilter implements Filter {
 
     private void embedInfoSnippet(HttpServletRequest req, HttpServletResponse resp, Invocation.Builder builder, FilterChain chain)
             throws IOException, ServletException {
-        ResponseWrapper responseWrapper = new ResponseWrapper(resp);
+        ResponseWrapper responseWrapper = new ResponseWrapper(resp, () -> createSnippet(req, builder));
         FilterAction.of(req, responseWrapper).doFilter(builder, probe, chain);
-        String captured = responseWrapper.getOutput();
-        if (captured != null && !captured.isEmpty()) {
-            // Writer was used
-            PrintWriter out = resp.getWriter();
-            if (resp.getContentType() != null && resp.getContentType().startsWith(TEXT_HTML)) {
-                int idx = captured.indexOf("</body>");
-                if (idx == -1) {
-                    // </body> not found
-                    out.write(captured);
-                } else {
-                    CharArrayWriter writer = new CharArrayWriter();
-                    writer.write(captured.substring(0, idx));
-                    writer.write(snippetBase);
-                    if (builder != null && !builder.isIgnored()) {
-                        writer.write("See <a style=\"color:#337ab7;text-decoration:underline;\" href=\"");
-                        writer.write(req.getServletContext().getContextPath());
-                        // This path must be hardcoded unless we find an easy way to reference the client-specific configuration
-                        writer.write(REST_URL_PATTERN_BASE + "/#/invocation/");
-                        writer.write("" + builder.getEntryPointIdx());
-                        writer.write("\" target=\"_blank\">all bean invocations</a> within the HTTP request which rendered this page.");
-                    }
-                    writer.write("</div>");
-                    writer.write(captured.substring(idx, captured.length()));
-                    out.write(writer.toString());
-                }
-            } else {
-                out.write(captured);
-            }
+        responseWrapper.finish();
+    }
+
+    private String createSnippet(HttpServletRequest req, Invocation.Builder builder) {
+        StringBuilder snippet = new StringBuilder();
+        snippet.append(snippetBase);
+        if (builder != null && builder != InvocationMonitor.NOT_SAMPLED && !builder.isIgnored()) {
+            snippet.append("See <a style=\"color:#337ab7;text-decoration:underline;\" href=\"");
+            snippet.append(req.getServletContext().getContextPath());
+            // This path must be hardcoded unless we find an easy way to reference the client-specific configuration
+            snippet.append(REST_URL_PATTERN_BASE + "/#/invocation/");
+            snippet.append(builder.getEntryPointIdx());
+            snippet.append("\" target=\"_blank\">all bean invocations</a> within the HTTP request which rendered this page.");
         }
+        snippet.append("</div>");
+        return snippet.toString();
     }
 
     private String getDescription(HttpServletRequest req) {
@@ -286,25 +279,336 @@ public class ProbeFilter implements Filter {
         return null;
     }
 
-    private static class ResponseWrapper extends HttpServletResponseWrapper {
+    /**
+     * The info snippet is inserted before the closing body tag of a response with Content-Type of value <code>text/html</code>. The response is not
+     * buffered, the content is forwarded to the original writer or output stream immediately. Only a possible partial match of the closing body tag is
+     * retained.
+     * <p>
+     * The declared content length of an HTML response is dropped as the snippet changes the length. If the content length is set before the content type,
+     * it is only forwarded once it is known that the response is not an HTML response.
+     * </p>
+     */
+    static class ResponseWrapper extends HttpServletResponseWrapper {
+
+        private static final String CONTENT_LENGTH_HEADER = "Content-Length";
+
+        private static final long NO_CONTENT_LENGTH = -1;
+
+        private final Supplier<String> snippet;
+
+        private long pendingContentLength = NO_CONTENT_LENGTH;
+
+        private SnippetWriter snippetWriter;
 
-        private final CharArrayWriter output;
+        private PrintWriter writer;
 
-        private final PrintWriter writer;
+        private SnippetOutputStream outputStream;
 
-        ResponseWrapper(HttpServletResponse response) {
+        ResponseWrapper(HttpServletResponse response, Supplier<String> snippet) {
             super(response);
-            output = new CharArrayWriter();
-            writer = new PrintWriter(output);
+            this.snippet = snippet;
+        }
+
+        @Override
+        public void setContentType(String type) {
+            super.setContentType(type);
+            if (type != null) {
+                forwardPendingContentLength();
+            }
         }
 
-        public PrintWriter getWriter() {
+        @Override
+        public void setContentLength(int len) {
+            setContentLengthLong(len);
+        }
+
+        @Override
+        public void setContentLengthLong(long len) {
+            if (getContentType() == null) {
+                // Not known yet whether the snippet will be inserted
+                pendingContentLength = len;
+            } else if (!isHtml()) {
+                super.setContentLengthLong(len);
+            }
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (isContentLength(name) && value != null) {
+                setContentLengthLong(Long.parseLong(value.trim()));
+            } else {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (isContentLength(name) && value != null) {
+                setContentLengthLong(Long.parseLong(value.trim()));
+            } else {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public void setIntHeader(String name, int value) {
+            if (isContentLength(name)) {
+                setContentLengthLong(value);
+            } else {
+                super.setIntHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addIntHeader(String name, int value) {
+            if (isContentLength(name)) {
+                setContentLengthLong(value);
+            } else {
+                super.addIntHeader(name, value);
+            }
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            forwardPendingContentLength();
+            super.flushBuffer();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            forwardPendingContentLength();
+            if (writer == null) {
+                snippetWriter = new SnippetWriter(super.getWriter(), this::isHtml, snippet);
+                writer = new PrintWriter(snippetWriter);
+            }
             return writer;
         }
 
-        String getOutput() {
-            return output.toString();
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            forwardPendingContentLength();
+            if (outputStream == null) {
+                outputStream = new SnippetOutputStream(super.getOutputStream(), this::isHtml,
+                        () -> snippet.get().getBytes(Charset.forName(getCharacterEncoding())));
+            }
+            return outputStream;
+        }
+
+        boolean isHtml() {
+            return getContentType() != null && getContentType().startsWith(TEXT_HTML);
+        }
+
+        private void forwardPendingContentLength() {
+            if (pendingContentLength != NO_CONTENT_LENGTH) {
+                if (!isHtml()) {
+                    super.setContentLengthLong(pendingContentLength);
+                }
+                pendingContentLength = NO_CONTENT_LENGTH;
+            }
+        }
+
+        private static boolean isContentLength(String name) {
+            return CONTENT_LENGTH_HEADER.equalsIgnoreCase(name);
+        }
+
+        void finish() throws IOException {
+            forwardPendingContentLength();
+            if (snippetWriter != null) {
+                snippetWriter.finish();
+            }
+            if (outputStream != null) {
+                outputStream.finish();
+            }
+        }
+
+    }
+
+    /**
+     * Inserts the snippet before the first closing body tag.
+     */
+    static class SnippetWriter extends Writer {
+
+        private static final char[] BODY_END_TAG = Strings.BODY_END_TAG.toCharArray();
+
+        private final Writer delegate;
+
+        private final BooleanSupplier isHtml;
+
+        private final Supplier<String> snippet;
+
+        // The number of chars of the closing body tag matched so far
+        private int matched;
+
+        // True if the snippet was already inserted or the response is not an HTML response
+        private boolean done;
+
+        private boolean initialized;
+
+        SnippetWriter(Writer delegate, BooleanSupplier isHtml, Supplier<String> snippet) {
+            this.delegate = delegate;
+            this.isHtml = isHtml;
+            this.snippet = snippet;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            if (!initialized) {
+                initialized = true;
+                done = !isHtml.getAsBoolean();
+            }
+            if (done) {
+                delegate.write(cbuf, off, len);
+                return;
+            }
+            int end = off + len;
+            // The start of the chars which are not written yet
+            int runStart = off;
+            for (int i = off; i < end; i++) {
+                char c = cbuf[i];
+                if (c == BODY_END_TAG[matched]) {
+                    if (matched == 0) {
+                        delegate.write(cbuf, runStart, i - runStart);
+                    }
+                    matched++;
+                    runStart = i + 1;
+                    if (matched == BODY_END_TAG.length) {
+                        delegate.write(snippet.get());
+                        delegate.write(BODY_END_TAG);
+                        matched = 0;
+                        done = true;
+                        delegate.write(cbuf, runStart, end - runStart);
+                        return;
+                    }
+                } else if (matched > 0) {
+                    // Partial match only - write the retained chars, the current char may start a new match
+                    delegate.write(BODY_END_TAG, 0, matched);
+                    matched = c == BODY_END_TAG[0] ? 1 : 0;
+                    runStart = i + matched;
+                }
+            }
+            if (matched == 0) {
+                delegate.write(cbuf, runStart, end - runStart);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+            delegate.close();
+        }
+
+        void finish() throws IOException {
+            if (matched > 0) {
+                delegate.write(BODY_END_TAG, 0, matched);
+                matched = 0;
+            }
+            delegate.flush();
         }
+
+    }
+
+    /**
+     * Inserts the snippet before the first closing body tag. The tag is matched byte by byte which works for all ASCII-compatible encodings, e.g. UTF-8.
+     */
+    static class SnippetOutputStream extends ServletOutputStream {
+
+        private static final byte[] BODY_END_TAG = Strings.BODY_END_TAG.getBytes(StandardCharsets.US_ASCII);
+
+        private final ServletOutputStream delegate;
+
+        private final BooleanSupplier isHtml;
+
+        private final Supplier<byte[]> snippet;
+
+        private int matched;
+
+        private boolean done;
+
+        private boolean initialized;
+
+        SnippetOutputStream(ServletOutputStream delegate, BooleanSupplier isHtml, Supplier<byte[]> snippet) {
+            this.delegate = delegate;
+            this.isHtml = isHtml;
+            this.snippet = snippet;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (!initialized) {
+                initialized = true;
+                done = !isHtml.getAsBoolean();
+            }
+            if (done) {
+                delegate.write(b, off, len);
+                return;
+            }
+            int end = off + len;
+            int runStart = off;
+            for (int i = off; i < end; i++) {
+                if (b[i] == BODY_END_TAG[matched]) {
+                    if (matched == 0) {
+                        delegate.write(b, runStart, i - runStart);
+                    }
+                    matched++;
+                    runStart = i + 1;
+                    if (matched == BODY_END_TAG.length) {
+                        delegate.write(snippet.get());
+                        delegate.write(BODY_END_TAG);
+                        matched = 0;
+                        done = true;
+                        delegate.write(b, runStart, end - runStart);
+                        return;
+                    }
+                } else if (matched > 0) {
+                    delegate.write(BODY_END_TAG, 0, matched);
+                    matched = b[i] == BODY_END_TAG[0] ? 1 : 0;
+                    runStart = i + matched;
+                }
+            }
+            if (matched == 0) {
+                delegate.write(b, runStart, end - runStart);
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+            delegate.close();
+        }
+
+        void finish() throws IOException {
+            if (matched > 0) {
+                delegate.write(BODY_END_TAG, 0, matched);
+                matched = 0;
+            }
+            delegate.flush();
+        }
+
     }
 
     private static class FilterAction extends Action<FilterChain> {
@@ -39,7 +39,6 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -75,12 +74,16 @@ final class Queries {
     static <T, F extends Filters<T>> Page<T> find(List<T> data, int page, int pageSize, F filters) {
         if (filters != null && !filters.isEmpty()) {
             ProbeLogger.LOG.filtersApplied(filters);
-            for (Iterator<T> iterator = data.iterator(); iterator.hasNext();) {
-                T element = iterator.next();
-                if (!filters.test(element)) {
-                    iterator.remove();
+            if (pageSize != 0) {
+                return findPage(data, page, pageSize, filters);
+            }
+            List<T> filtered = new ArrayList<T>();
+            for (T element : data) {
+                if (filters.test(element)) {
+                    filtered.add(element);
                 }
             }
+            data = filtered;
         }
         if (pageSize == 0) {
             return new Page<T>(page, 1, data.size(), data);
@@ -91,10 +94,7 @@ final class Queries {
             if ((page <= 0) || (page > 1 && (((page - 1) * pageSize) >= data.size()))) {
                 page = 1;
             }
-            int lastIdx = data.size() / pageSize;
-            if (data.size() % pageSize > 0) {
-                lastIdx++;
-            }
+            int lastIdx = getLastPageIdx(data.size(), pageSize);
             if (lastIdx == 1) {
                 return new Page<T>(1, lastIdx, data.size(), data);
             }
@@ -107,6 +107,45 @@ final class Queries {
         }
     }
 
+    /**
+     * Filters the data and collects the requested page in a single pass. Only the elements of the requested page and of the first page (used if the
+     * requested page does not exist) are retained.
+     */
+    private static <T, F extends Filters<T>> Page<T> findPage(List<T> data, int page, int pageSize, F filters) {
+        int start = page > 1 ? (page - 1) * pageSize : 0;
+        int end = start + pageSize;
+        List<T> firstPage = new ArrayList<T>();
+        List<T> requestedPage = start > 0 ? new ArrayList<T>() : firstPage;
+        int total = 0;
+        for (T element : data) {
+            if (!filters.test(element)) {
+                continue;
+            }
+            if (total < pageSize) {
+                firstPage.add(element);
+            } else if (total >= start && total < end) {
+                requestedPage.add(element);
+            }
+            total++;
+        }
+        if (total == 0) {
+            return new Page<T>(0, 0, 0, Collections.emptyList());
+        }
+        if (start >= total) {
+            page = 1;
+            requestedPage = firstPage;
+        }
+        return new Page<T>(page > 1 ? page : 1, getLastPageIdx(total, pageSize), total, requestedPage);
+    }
+
+    private static int getLastPageIdx(int total, int pageSize) {
+        int lastIdx = total / pageSize;
+        if (total % pageSize > 0) {
+            lastIdx++;
+        }
+        return lastIdx;
+    }
+
     /**
      * A data page abstraction.
      *
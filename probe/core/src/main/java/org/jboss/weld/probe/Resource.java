@@ -19,10 +19,14 @@ package org.jboss.weld.probe;
 import static org.jboss.weld.probe.Strings.APPLICATION_FONT_MS;
 import static org.jboss.weld.probe.Strings.APPLICATION_FONT_SFNT;
 import static org.jboss.weld.probe.Strings.APPLICATION_FONT_WOFF;
+import static org.jboss.weld.probe.Strings.ENCODING_GZIP;
 import static org.jboss.weld.probe.Strings.ENCODING_UTF8;
 import static org.jboss.weld.probe.Strings.FILE_CLIENT_HTML;
 import static org.jboss.weld.probe.Strings.FILTERS;
+import static org.jboss.weld.probe.Strings.HTTP_HEADER_ACCEPT_ENCODING;
 import static org.jboss.weld.probe.Strings.HTTP_HEADER_CACHE_CONTROL;
+import static org.jboss.weld.probe.Strings.HTTP_HEADER_CONTENT_ENCODING;
+import static org.jboss.weld.probe.Strings.HTTP_HEADER_VARY;
 import static org.jboss.weld.probe.Strings.IMG_ICO;
 import static org.jboss.weld.probe.Strings.IMG_PNG;
 import static org.jboss.weld.probe.Strings.IMG_SVG;
@@ -50,14 +54,20 @@ import static org.jboss.weld.probe.Strings.TEXT_HTML;
 import static org.jboss.weld.probe.Strings.TEXT_JAVASCRIPT;
 import static org.jboss.weld.probe.Strings.TEXT_PLAIN;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.jboss.weld.probe.Json.JsonBuilder;
 import org.jboss.weld.probe.Queries.Filters;
 
 /**
@@ -72,8 +82,8 @@ enum Resource {
      */
     DEPLOYMENT("/deployment", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-            append(resp, jsonDataProvider.receiveDeployment());
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            append(req, resp, jsonDataProvider.receiveDeployment());
         }
     }),
     /**
@@ -81,8 +91,8 @@ enum Resource {
      */
     BEANS("/beans", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-            append(resp, jsonDataProvider.receiveBeans(getPage(req), getPageSize(req), req.getParameter(FILTERS), req.getParameter(REPRESENTATION)));
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            append(req, resp, jsonDataProvider.beans(getPage(req), getPageSize(req), req.getParameter(FILTERS), req.getParameter(REPRESENTATION)));
         }
     }),
     /**
@@ -90,8 +100,8 @@ enum Resource {
      */
     BEAN("/beans/{.+}", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-            appendFound(resp, jsonDataProvider.receiveBean(resourcePathParts[1], Boolean.valueOf(req.getParameter(PARAM_TRANSIENT_DEPENDENCIES)),
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            appendFound(req, resp, jsonDataProvider.receiveBean(resourcePathParts[1], Boolean.valueOf(req.getParameter(PARAM_TRANSIENT_DEPENDENCIES)),
                     Boolean.valueOf(req.getParameter(PARAM_TRANSIENT_DEPENDENTS))));
         }
     }),
@@ -100,8 +110,8 @@ enum Resource {
      */
     BEAN_INSTANCE("/beans/{.+}/instance", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-            appendFound(resp, jsonDataProvider.receiveBeanInstance(resourcePathParts[1]));
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            appendFound(req, resp, jsonDataProvider.receiveBeanInstance(resourcePathParts[1]));
         }
     }),
     /**
@@ -109,8 +119,8 @@ enum Resource {
      */
     OBSERVERS("/observers", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-            append(resp, jsonDataProvider.receiveObservers(getPage(req), getPageSize(req), req.getParameter(FILTERS), req.getParameter(REPRESENTATION)));
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            append(req, resp, jsonDataProvider.observers(getPage(req), getPageSize(req), req.getParameter(FILTERS), req.getParameter(REPRESENTATION)));
         }
     }),
     /**
@@ -118,8 +128,8 @@ enum Resource {
      */
     OBSERVER("/observers/{.+}", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-            appendFound(resp, jsonDataProvider.receiveObserver(resourcePathParts[1]));
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            appendFound(req, resp, jsonDataProvider.receiveObserver(resourcePathParts[1]));
         }
     }),
     /**
@@ -127,8 +137,8 @@ enum Resource {
      */
     CONTEXTS("/contexts", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-            append(resp, jsonDataProvider.receiveContexts());
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            append(req, resp, jsonDataProvider.receiveContexts());
         }
     }),
     /**
@@ -136,8 +146,8 @@ enum Resource {
      */
     CONTEXT("/contexts/{[a-zA-Z_0]+}", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-            appendFound(resp, jsonDataProvider.receiveContext(resourcePathParts[1]));
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            appendFound(req, resp, jsonDataProvider.receiveContext(resourcePathParts[1]));
         }
     }),
     /**
@@ -145,14 +155,14 @@ enum Resource {
      */
     INVOCATIONS("/invocations", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-            append(resp, jsonDataProvider.receiveInvocations(getPage(req), getPageSize(req), req.getParameter(FILTERS), req.getParameter(REPRESENTATION)));
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            append(req, resp, jsonDataProvider.invocations(getPage(req), getPageSize(req), req.getParameter(FILTERS), req.getParameter(REPRESENTATION)));
         }
 
         @Override
-        protected void delete(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
+        protected void delete(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
                 throws IOException {
-            append(resp, jsonDataProvider.clearInvocations());
+            append(req, resp, jsonDataProvider.clearInvocations());
         }
     }),
     /**
@@ -160,8 +170,8 @@ enum Resource {
      */
     INVOCATION("/invocations/{.+}", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-            appendFound(resp, jsonDataProvider.receiveInvocation(resourcePathParts[1]));
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            appendFound(req, resp, jsonDataProvider.receiveInvocation(resourcePathParts[1]));
         }
     }),
     /**
@@ -169,26 +179,26 @@ enum Resource {
      */
     EVENTS("/events", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-            append(resp, jsonDataProvider.receiveEvents(getPage(req), getPageSize(req), req.getParameter(FILTERS)));
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            append(req, resp, jsonDataProvider.events(getPage(req), getPageSize(req), req.getParameter(FILTERS)));
         }
 
         @Override
-        protected void delete(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
+        protected void delete(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
                 throws IOException {
-            append(resp, jsonDataProvider.clearEvents());
+            append(req, resp, jsonDataProvider.clearEvents());
         }
     }),
     MONITORING_STATS("/monitoring", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-            append(resp, jsonDataProvider.receiveMonitoringStats());
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            append(req, resp, jsonDataProvider.receiveMonitoringStats());
         }
     }),
     AVAILABLE_BEANS("/availableBeans", new Handler() {
         @Override
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
-            append(resp, jsonDataProvider.receiveAvailableBeans(getPage(req), getPageSize(req), req.getParameter(FILTERS), req.getParameter(REPRESENTATION)));
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            append(req, resp, jsonDataProvider.receiveAvailableBeans(getPage(req), getPageSize(req), req.getParameter(FILTERS), req.getParameter(REPRESENTATION)));
         }
     }),
     /**
@@ -196,7 +206,7 @@ enum Resource {
      */
     CLIENT_RESOURCE("/client/{[a-zA-Z_0-9-]+\\.\\w+}", new Handler() {
         @Override
-        protected void handle(HttpMethod method, JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req,
+        protected void handle(HttpMethod method, DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req,
                 HttpServletResponse resp) throws IOException {
 
             if (!HttpMethod.GET.equals(method)) {
@@ -230,7 +240,7 @@ enum Resource {
     }),
     EXPORT("/export", new Handler() {
         @Override
-        protected void handle(HttpMethod method, JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req,
+        protected void handle(HttpMethod method, DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req,
                 HttpServletResponse resp) throws IOException {
             if (!HttpMethod.GET.equals(method)) {
                 resp.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
@@ -239,12 +249,14 @@ enum Resource {
             setHeaders(resp, "application/zip");
             resp.setHeader("Content-disposition", "attachment; filename=\"weld-probe-export.zip\"");
             ServletOutputStream out = resp.getOutputStream();
-            out.write(Exports.exportJsonData(jsonDataProvider));
+            Exports.exportJsonData(jsonDataProvider, out);
             out.flush();
         }
     }),
     ;
 
+    private static final int DEFAULT_BUFFER = 1024 * 8;
+
     // --- Instance variables
 
     private final String[] parts;
@@ -256,7 +268,7 @@ enum Resource {
         this.handler = handler;
     }
 
-    protected void handle(HttpMethod method, JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
+    protected void handle(HttpMethod method, DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
             throws IOException {
         handler.handle(method, jsonDataProvider, resourcePathParts, req, resp);
     }
@@ -351,7 +363,7 @@ enum Resource {
 
     abstract static class Handler {
 
-        protected void handle(HttpMethod method, JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req,
+        protected void handle(HttpMethod method, DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req,
                 HttpServletResponse resp) throws IOException {
             setHeaders(resp, getContentType());
             switch (method) {
@@ -372,32 +384,36 @@ enum Resource {
             }
         }
 
-        protected void get(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        protected void get(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp) throws IOException {
             resp.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
         }
 
-        protected void post(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
+        protected void post(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
                 throws IOException {
             resp.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
         }
 
-        protected void delete(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
+        protected void delete(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
                 throws IOException {
             resp.sendError(HttpServletResponse.SC_METHOD_NOT_ALLOWED);
         }
 
-        protected void options(JsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
+        protected void options(DefaultJsonDataProvider jsonDataProvider, String[] resourcePathParts, HttpServletRequest req, HttpServletResponse resp)
                 throws IOException {
             setCorsHeaders(resp);
         }
 
-        protected void append(HttpServletResponse resp, String content) throws IOException {
-            resp.getWriter().append(content);
+        protected void append(HttpServletRequest req, HttpServletResponse resp, String content) throws IOException {
+            write(req, resp, content);
+        }
+
+        protected void append(HttpServletRequest req, HttpServletResponse resp, JsonBuilder<?> content) throws IOException {
+            write(req, resp, content);
         }
 
-        protected void appendFound(HttpServletResponse resp, String content) throws IOException {
+        protected void appendFound(HttpServletRequest req, HttpServletResponse resp, String content) throws IOException {
             if (content != null) {
-                resp.getWriter().append(content);
+                write(req, resp, content);
             } else {
                 resp.sendError(HttpServletResponse.SC_NOT_FOUND);
             }
@@ -437,6 +453,41 @@ enum Resource {
             return Strings.APPLICATION_JSON;
         }
 
+        /**
+         * The content is written directly to the response, gzip-compressed if supported by the client.
+         *
+         * @param req
+         * @param resp
+         * @param content either a {@link String} or a {@link JsonBuilder}
+         * @throws IOException
+         */
+        static void write(HttpServletRequest req, HttpServletResponse resp, Object content) throws IOException {
+            resp.addHeader(HTTP_HEADER_VARY, HTTP_HEADER_ACCEPT_ENCODING);
+            if (!isGzipAccepted(req)) {
+                write(resp.getWriter(), content);
+                return;
+            }
+            resp.setHeader(HTTP_HEADER_CONTENT_ENCODING, ENCODING_GZIP);
+            GZIPOutputStream out = new GZIPOutputStream(resp.getOutputStream(), DEFAULT_BUFFER);
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), DEFAULT_BUFFER);
+            write(writer, content);
+            writer.flush();
+            out.finish();
+        }
+
+        private static void write(Writer writer, Object content) throws IOException {
+            if (content instanceof JsonBuilder) {
+                ((JsonBuilder<?>) content).appendTo(writer);
+            } else {
+                writer.append(content.toString());
+            }
+        }
+
+        static boolean isGzipAccepted(HttpServletRequest req) {
+            String acceptEncoding = req.getHeader(HTTP_HEADER_ACCEPT_ENCODING);
+            return acceptEncoding != null && acceptEncoding.contains(ENCODING_GZIP);
+        }
+
         static void setHeaders(HttpServletResponse resp, String contentType) {
             resp.setCharacterEncoding(ENCODING_UTF8);
             resp.setContentType(contentType);
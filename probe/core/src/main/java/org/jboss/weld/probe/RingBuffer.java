@@ -0,0 +1,150 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.probe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * A fixed-capacity lock-free ring buffer. Once the capacity is reached, the oldest elements are overwritten.
+ * <p>
+ * Writers never block each other. The snapshot methods are only weakly consistent, i.e. an element added or overwritten concurrently may or may not be
+ * included.
+ * </p>
+ * <p>
+ * If a key function is set, the elements are also indexed by key so that an element can be found without scanning the buffer. An element is removed from
+ * the index once it is overwritten or cleared.
+ * </p>
+ *
+ * @param <T> the element type
+ */
+class RingBuffer<T> {
+
+    private final AtomicReferenceArray<T> elements;
+
+    // The sequence number of the next element
+    private final AtomicLong sequence;
+
+    // The sequence number of the first element after the buffer was cleared
+    private volatile long head;
+
+    // Null if no key function is set
+    private final Function<T, Object> keyFunction;
+
+    private final ConcurrentMap<Object, T> index;
+
+    RingBuffer(int capacity) {
+        this(capacity, null);
+    }
+
+    /**
+     *
+     * @param capacity
+     * @param keyFunction the function used to index the elements, may be null
+     */
+    RingBuffer(int capacity, Function<T, Object> keyFunction) {
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequence = new AtomicLong();
+        this.keyFunction = keyFunction;
+        this.index = keyFunction != null ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     *
+     * @param element
+     * @return <code>true</code> if the capacity was exceeded for the first time since the buffer was created or cleared, i.e. the first element was
+     *         overwritten
+     */
+    boolean add(T element) {
+        long next = sequence.getAndIncrement();
+        if (index != null) {
+            // Index the element first so that a concurrent writer which overwrites it also removes it from the index
+            index.put(keyFunction.apply(element), element);
+        }
+        unindex(elements.getAndSet(index(next), element));
+        return next - head == elements.length();
+    }
+
+    /**
+     *
+     * @param key
+     * @return the element with the given key or <code>null</code> if there is no such element or no key function is set
+     */
+    T get(Object key) {
+        return index != null ? index.get(key) : null;
+    }
+
+    /**
+     *
+     * @return the elements, the oldest first
+     */
+    List<T> getAll() {
+        long last = sequence.get();
+        long first = Math.max(head, last - elements.length());
+        List<T> result = new ArrayList<>((int) (last - first));
+        for (long i = first; i < last; i++) {
+            T element = elements.get(index(i));
+            if (element != null) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    /**
+     *
+     * @return the number of elements
+     */
+    int size() {
+        long last = sequence.get();
+        return (int) Math.min(last - head, elements.length());
+    }
+
+    /**
+     *
+     * @return the number of elements removed
+     */
+    int clear() {
+        long last = sequence.get();
+        int size = (int) Math.min(last - head, elements.length());
+        head = last;
+        for (int i = 0; i < elements.length(); i++) {
+            unindex(elements.getAndSet(i, null));
+        }
+        return size;
+    }
+
+    int getCapacity() {
+        return elements.length();
+    }
+
+    private void unindex(T element) {
+        if (element != null && index != null) {
+            index.remove(keyFunction.apply(element), element);
+        }
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence % elements.length());
+    }
+
+}
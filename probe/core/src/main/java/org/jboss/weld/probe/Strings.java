@@ -179,6 +179,10 @@ public final class Strings {
     static final String SET_PREFIX = "set";
 
     static final String HTTP_HEADER_CACHE_CONTROL = "Cache-Control";
+    static final String HTTP_HEADER_ACCEPT_ENCODING = "Accept-Encoding";
+    static final String HTTP_HEADER_CONTENT_ENCODING = "Content-Encoding";
+    static final String HTTP_HEADER_VARY = "Vary";
+    static final String ENCODING_GZIP = "gzip";
 
     static final String INFO_FETCHING_LAZILY = "Most likely lazy fetching - Instance.get()";
 
@@ -186,6 +190,8 @@ public final class Strings {
 
     static final String EMPTY = "";
 
+    static final String BODY_END_TAG = "</body>";
+
     private static final int ABR_MIN_LIMIT = 4;
     private static final String ABR_MARKER = "...";
 
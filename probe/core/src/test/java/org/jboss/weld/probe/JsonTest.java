@@ -18,6 +18,10 @@ package org.jboss.weld.probe;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.jboss.weld.probe.Json.JsonArrayBuilder;
 import org.jboss.weld.probe.Json.JsonObjectBuilder;
@@ -58,6 +62,13 @@ public class JsonTest {
         assertEquals("{\"items\":[1,2],\"name\":\"Foo\",\"parent\":{\"name\":\"Martin\",\"age\":100,\"active\":true}}", builder.build());
     }
 
+    @Test
+    public void testLazyJsonArrayBuilder() {
+        JsonArrayBuilder arrayBuilder = Json.arrayBuilder(Arrays.asList("foo", "bar"), (value) -> Json.objectBuilder().add("name", value));
+        assertEquals("{\"data\":[{\"name\":\"foo\"},{\"name\":\"bar\"}]}", Json.objectBuilder().add("data", arrayBuilder).build());
+        assertTrue(Json.arrayBuilder(Collections.emptyList(), (value) -> Json.objectBuilder()).isEmpty());
+    }
+
     @Test
     public void testEscaping() {
         assertEquals("{\"foo\":\"bar=\\\"baz\\u000a and \\u0009 F\\\"\"}", Json.objectBuilder().add("foo", "bar=\"baz\n and \t F\"").build());
@@ -17,8 +17,24 @@
 package org.jboss.weld.probe;
 
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+
+import org.jboss.weld.probe.ProbeFilter.ResponseWrapper;
+import org.jboss.weld.probe.ProbeFilter.SnippetWriter;
 import org.junit.Test;
 
 /**
@@ -36,4 +52,135 @@ public class ProbeFilterTest {
         assertArrayEquals(new String[] {}, ProbeFilter.getResourcePathParts("/foo/weld-probe", "/foo"));
     }
 
+    @Test
+    public void testSnippetWriter() throws IOException {
+        assertEquals("<html><body>Hello</b><SNIPPET></body></html>", write(true, "<html><body>Hello</b></body></html>"));
+        // The closing body tag is split across several writes
+        assertEquals("<html><body><</bo<SNIPPET></body></html>", write(true, "<html><body><</bo", "</b", "o", "dy></html>"));
+        // Only the first closing body tag
+        assertEquals("<SNIPPET></body></body>", write(true, "</body></body>"));
+        // Partial match at the end
+        assertEquals("<html></bo", write(true, "<html></bo"));
+        assertEquals("<html><body>Hello</body></html>", write(false, "<html><body>Hello</body></html>"));
+    }
+
+    @Test
+    public void testOutputStreamHtml() throws IOException {
+        TestResponse response = new TestResponse();
+        ResponseWrapper wrapper = new ResponseWrapper(response.proxy(), () -> "<SNIPPET>");
+        wrapper.setContentType("text/html");
+        wrapper.setContentLength(35);
+        wrapper.setHeader("Content-Length", "35");
+        wrapper.setIntHeader("content-length", 35);
+        ServletOutputStream out = wrapper.getOutputStream();
+        out.write("<html><body>Hello</b".getBytes(StandardCharsets.UTF_8));
+        out.write("</body></html>".getBytes(StandardCharsets.UTF_8));
+        wrapper.finish();
+        assertEquals("<html><body>Hello</b<SNIPPET></body></html>", response.content());
+        // The declared content length does not match the content with the snippet inserted
+        assertTrue(response.headers.isEmpty());
+    }
+
+    @Test
+    public void testContentLengthSetBeforeContentType() throws IOException {
+        TestResponse response = new TestResponse();
+        ResponseWrapper wrapper = new ResponseWrapper(response.proxy(), () -> "<SNIPPET>");
+        wrapper.setContentLengthLong(35);
+        wrapper.setContentType("text/html;charset=UTF-8");
+        wrapper.getOutputStream().write("<html><body>Hello</body></html>".getBytes(StandardCharsets.UTF_8));
+        wrapper.finish();
+        assertEquals("<html><body>Hello<SNIPPET></body></html>", response.content());
+        assertTrue(response.headers.isEmpty());
+
+        response = new TestResponse();
+        wrapper = new ResponseWrapper(response.proxy(), () -> "<SNIPPET>");
+        wrapper.setContentLengthLong(31);
+        wrapper.setContentType("text/plain");
+        assertEquals(Long.valueOf(31), response.headers.get("Content-Length"));
+    }
+
+    @Test
+    public void testOutputStreamNotHtml() throws IOException {
+        TestResponse response = new TestResponse();
+        ResponseWrapper wrapper = new ResponseWrapper(response.proxy(), () -> "<SNIPPET>");
+        wrapper.setContentType("text/plain");
+        wrapper.setHeader("Content-Length", "31");
+        wrapper.getOutputStream().write("<html><body>Hello</body></html>".getBytes(StandardCharsets.UTF_8));
+        wrapper.finish();
+        assertEquals("<html><body>Hello</body></html>", response.content());
+        assertEquals(Long.valueOf(31), response.headers.get("Content-Length"));
+    }
+
+    private String write(boolean isHtml, String... parts) throws IOException {
+        StringWriter out = new StringWriter();
+        SnippetWriter writer = new SnippetWriter(out, () -> isHtml, () -> "<SNIPPET>");
+        for (String part : parts) {
+            writer.write(part);
+        }
+        writer.finish();
+        return out.toString();
+    }
+
+    /**
+     * Records the content type, the content length and the content written to the output stream.
+     */
+    private static class TestResponse {
+
+        private final Map<String, Long> headers = new HashMap<>();
+
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+        private String contentType;
+
+        HttpServletResponse proxy() {
+            ServletOutputStream out = new ServletOutputStream() {
+
+                @Override
+                public void write(int b) throws IOException {
+                    content.write(b);
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                }
+            };
+            return (HttpServletResponse) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { HttpServletResponse.class },
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "setContentType":
+                                contentType = (String) args[0];
+                                return null;
+                            case "getContentType":
+                                return contentType;
+                            case "getCharacterEncoding":
+                                return StandardCharsets.UTF_8.name();
+                            case "getOutputStream":
+                                return out;
+                            case "setContentLength":
+                            case "setContentLengthLong":
+                                headers.put("Content-Length", ((Number) args[0]).longValue());
+                                return null;
+                            case "setHeader":
+                            case "addHeader":
+                            case "setIntHeader":
+                            case "addIntHeader":
+                                headers.put(args[0].toString(), Long.valueOf(args[1].toString()));
+                                return null;
+                            default:
+                                return null;
+                        }
+                    });
+        }
+
+        String content() {
+            return new String(content.toByteArray(), StandardCharsets.UTF_8);
+        }
+
+    }
+
 }
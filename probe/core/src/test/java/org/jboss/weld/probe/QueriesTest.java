@@ -19,6 +19,9 @@ package org.jboss.weld.probe;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import org.jboss.weld.exceptions.IllegalArgumentException;
@@ -46,4 +49,44 @@ public class QueriesTest {
         }
     }
 
+    @Test
+    public void testFindFilteredPage() {
+        List<Integer> data = new ArrayList<Integer>();
+        for (int i = 1; i <= 20; i++) {
+            data.add(i);
+        }
+        Queries.Filters<Integer> evenFilters = new Queries.Filters<Integer>(null) {
+
+            @Override
+            boolean test(Integer element) {
+                return element % 2 == 0;
+            }
+
+            @Override
+            void processFilter(String name, String value) {
+            }
+
+            @Override
+            boolean isEmpty() {
+                return false;
+            }
+        };
+        Queries.Page<Integer> page = Queries.find(data, 2, 3, evenFilters);
+        assertEquals(2, page.getIdx());
+        assertEquals(4, page.getLastIdx());
+        assertEquals(10, page.getTotal());
+        assertEquals(Arrays.asList(8, 10, 12), page.getData());
+        // Non-existent page - the first page is returned
+        page = Queries.find(data, 5, 3, evenFilters);
+        assertEquals(1, page.getIdx());
+        assertEquals(Arrays.asList(2, 4, 6), page.getData());
+        // Last page
+        page = Queries.find(data, 4, 3, evenFilters);
+        assertEquals(Arrays.asList(20), page.getData());
+        // No pagination
+        page = Queries.find(data, 1, 0, evenFilters);
+        assertEquals(10, page.getTotal());
+        assertEquals(10, page.getData().size());
+    }
+
 }
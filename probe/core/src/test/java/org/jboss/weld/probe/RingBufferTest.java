@@ -0,0 +1,91 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.probe;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class RingBufferTest {
+
+    @Test
+    public void testOverwrite() {
+        RingBuffer<String> buffer = new RingBuffer<>(3);
+        assertFalse(buffer.add("a"));
+        assertFalse(buffer.add("b"));
+        assertFalse(buffer.add("c"));
+        assertEquals(Arrays.asList("a", "b", "c"), buffer.getAll());
+        // The first overwrite is reported
+        assertTrue(buffer.add("d"));
+        assertFalse(buffer.add("e"));
+        assertEquals(Arrays.asList("c", "d", "e"), buffer.getAll());
+        assertEquals(3, buffer.size());
+    }
+
+    @Test
+    public void testClear() {
+        RingBuffer<String> buffer = new RingBuffer<>(3);
+        buffer.add("a");
+        buffer.add("b");
+        assertEquals(2, buffer.clear());
+        assertEquals(0, buffer.size());
+        assertEquals(Collections.emptyList(), buffer.getAll());
+        buffer.add("c");
+        assertEquals(Collections.singletonList("c"), buffer.getAll());
+    }
+
+    @Test
+    public void testOverwriteReportedAfterClear() {
+        RingBuffer<String> buffer = new RingBuffer<>(2);
+        buffer.add("a");
+        buffer.add("b");
+        assertTrue(buffer.add("c"));
+        buffer.clear();
+        assertFalse(buffer.add("d"));
+        assertFalse(buffer.add("e"));
+        // The capacity is exceeded again
+        assertTrue(buffer.add("f"));
+        assertFalse(buffer.add("g"));
+    }
+
+    @Test
+    public void testIndex() {
+        RingBuffer<String> buffer = new RingBuffer<>(2, (element) -> element.charAt(0));
+        buffer.add("a1");
+        buffer.add("b1");
+        assertEquals("a1", buffer.get('a'));
+        assertEquals("b1", buffer.get('b'));
+        // The overwritten element is removed from the index
+        buffer.add("c1");
+        assertNull(buffer.get('a'));
+        assertEquals("c1", buffer.get('c'));
+        buffer.clear();
+        assertNull(buffer.get('b'));
+        assertNull(buffer.get('c'));
+        // No key function
+        RingBuffer<String> notIndexed = new RingBuffer<>(2);
+        notIndexed.add("a1");
+        assertNull(notIndexed.get('a'));
+    }
+
+}
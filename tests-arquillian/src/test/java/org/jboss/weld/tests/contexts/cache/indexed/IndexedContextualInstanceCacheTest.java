@@ -0,0 +1,69 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.contexts.cache.indexed;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.context.spi.AlterableContext;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.context.cache.RequestScopedCacheSlots;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.test.util.Utils;
+import org.jboss.weld.tests.util.PropertiesBuilder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests {@link ConfigurationKey#INDEXED_CONTEXTUAL_INSTANCE_CACHE}.
+ */
+@RunWith(Arquillian.class)
+public class IndexedContextualInstanceCacheTest {
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(IndexedContextualInstanceCacheTest.class))
+                .addPackage(IndexedContextualInstanceCacheTest.class.getPackage())
+                .addAsResource(PropertiesBuilder.newBuilder().set(ConfigurationKey.INDEXED_CONTEXTUAL_INSTANCE_CACHE.get(), "true").build(), "weld.properties");
+    }
+
+    @Inject
+    BeanManagerImpl beanManager;
+
+    @Inject
+    Counter counter;
+
+    @Test
+    public void testInstanceCachedAndInvalidated() {
+        assertNotNull(beanManager.getServices().get(RequestScopedCacheSlots.class));
+        // the test method is invoked within a bound request context
+        assertEquals(1, counter.increment());
+        assertEquals(2, counter.increment());
+        // destroying the instance flushes the cache
+        ((AlterableContext) beanManager.getContext(RequestScoped.class)).destroy(beanManager.resolve(beanManager.getBeans(Counter.class)));
+        assertEquals(1, counter.increment());
+    }
+
+}
@@ -23,6 +23,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
 
@@ -73,4 +74,50 @@ public class CreationalContextTest {
         }
         assertEquals(expectedDependentInstanceClasses, actualDependentInstanceClasses);
     }
+
+    @Test
+    public void testNestedDependentsDestroyedWithParentWithoutPreDestroy(BeanManager manager) {
+        Bean<InjectedBean> bean = Reflections.cast(manager.getBeans(InjectedBean.class).iterator().next());
+        CreationalContext<InjectedBean> cc = manager.createCreationalContext(bean);
+        InjectedBean instance = bean.create(cc);
+        reset();
+        bean.destroy(instance, cc);
+        // InjectedBean.dependency2 and Bravo.dependency
+        assertEquals(2, DependencyWithPreDestroy.DESTROYED.get());
+        // InjectedBean.dependency4 and Delta.dependency
+        assertEquals(2, Producer.DISPOSED.get());
+        // the dependency of the @Juicy String producer method
+        assertEquals(1, Echo.DESTROYED.get());
+    }
+
+    @Test
+    public void testNestedDependentsDestroyedWithParentWithPreDestroy(BeanManager manager) {
+        Bean<Foxtrot> bean = Reflections.cast(manager.getBeans(Foxtrot.class).iterator().next());
+        CreationalContext<Foxtrot> cc = manager.createCreationalContext(bean);
+        Foxtrot instance = bean.create(cc);
+        reset();
+        bean.destroy(instance, cc);
+        assertEquals(1, Foxtrot.DESTROYED.get());
+        // Bravo.dependency
+        assertEquals(1, DependencyWithPreDestroy.DESTROYED.get());
+        // Delta.dependency
+        assertEquals(1, Producer.DISPOSED.get());
+    }
+
+    @Test
+    public void testNestedDependentsDestroyedWithInstance(Instance<Foxtrot> instance) {
+        Foxtrot foxtrot = instance.get();
+        reset();
+        instance.destroy(foxtrot);
+        assertEquals(1, Foxtrot.DESTROYED.get());
+        assertEquals(1, DependencyWithPreDestroy.DESTROYED.get());
+        assertEquals(1, Producer.DISPOSED.get());
+    }
+
+    private static void reset() {
+        DependencyWithPreDestroy.DESTROYED.set(0);
+        Producer.DISPOSED.set(0);
+        Echo.DESTROYED.set(0);
+        Foxtrot.DESTROYED.set(0);
+    }
 }
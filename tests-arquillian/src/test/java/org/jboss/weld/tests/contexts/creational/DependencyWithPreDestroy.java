@@ -16,11 +16,16 @@
  */
 package org.jboss.weld.tests.contexts.creational;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import javax.annotation.PreDestroy;
 
 public class DependencyWithPreDestroy {
 
+    static final AtomicInteger DESTROYED = new AtomicInteger();
+
     @PreDestroy
     public void preDestroy() {
+        DESTROYED.incrementAndGet();
     }
 }
@@ -16,14 +16,19 @@
  */
 package org.jboss.weld.tests.contexts.creational;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import javax.annotation.PreDestroy;
 import javax.enterprise.context.Dependent;
 
 @Dependent
 public class Echo {
 
+    static final AtomicInteger DESTROYED = new AtomicInteger();
+
     @PreDestroy
     public void destroy() {
+        DESTROYED.incrementAndGet();
     }
 
 }
@@ -17,12 +17,15 @@
 package org.jboss.weld.tests.contexts.creational;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.enterprise.inject.Disposes;
 import javax.enterprise.inject.Produces;
 
 public class Producer {
 
+    static final AtomicInteger DISPOSED = new AtomicInteger();
+
     // Optimization is not allowed because there is a dependency with @PreDestroy callback
     @Juicy
     @Produces
@@ -41,5 +44,6 @@ public class Producer {
     }
 
     public void disposeBar(@Disposes ProductWithDisposer product) {
+        DISPOSED.incrementAndGet();
     }
 }
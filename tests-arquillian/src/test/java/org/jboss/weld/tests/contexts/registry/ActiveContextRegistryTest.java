@@ -0,0 +1,106 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.contexts.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.context.ActiveContextRegistry;
+import org.jboss.weld.context.RequestContext;
+import org.jboss.weld.context.bound.BoundRequestContext;
+import org.jboss.weld.context.unbound.UnboundLiteral;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.test.util.Utils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests that {@link ActiveContextRegistry} tracks the activation of managed contexts.
+ */
+@RunWith(Arquillian.class)
+public class ActiveContextRegistryTest {
+
+    @Deployment
+    public static Archive<?> deploy() {
+        return ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(ActiveContextRegistryTest.class))
+                .addPackage(ActiveContextRegistryTest.class.getPackage()).addClass(Utils.class);
+    }
+
+    @Inject
+    private BeanManagerImpl beanManager;
+
+    @Inject
+    private BoundRequestContext boundRequestContext;
+
+    @Test
+    public void testActiveContextTracked() throws Exception {
+        final RequestContext unboundRequestContext = beanManager.instance().select(RequestContext.class, UnboundLiteral.INSTANCE).get();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(() -> {
+                assertFalse(beanManager.isContextActive(RequestScoped.class));
+
+                boundRequestContext.associate(new HashMap<String, Object>());
+                boundRequestContext.activate();
+                assertEquals(boundRequestContext, beanManager.getUnwrappedContext(RequestScoped.class));
+
+                // Two active contexts for the same scope
+                unboundRequestContext.activate();
+                try {
+                    beanManager.getContext(RequestScoped.class);
+                    fail();
+                } catch (IllegalStateException expected) {
+                }
+
+                // The remaining active context is found
+                boundRequestContext.invalidate();
+                boundRequestContext.deactivate();
+                assertEquals(unboundRequestContext, beanManager.getUnwrappedContext(RequestScoped.class));
+
+                unboundRequestContext.invalidate();
+                unboundRequestContext.deactivate();
+                assertFalse(beanManager.isContextActive(RequestScoped.class));
+
+                boundRequestContext.associate(new HashMap<String, Object>());
+                boundRequestContext.activate();
+                assertTrue(beanManager.isContextActive(RequestScoped.class));
+                boundRequestContext.invalidate();
+                boundRequestContext.deactivate();
+                assertFalse(beanManager.isContextActive(RequestScoped.class));
+                return null;
+            }).get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.event.async.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.event.Event;
+import javax.enterprise.event.NotificationOptions;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.event.WeldNotificationOptions;
+import org.jboss.weld.test.util.Utils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests {@link WeldNotificationOptions#CONCURRENT}.
+ */
+@RunWith(Arquillian.class)
+public class ConcurrentAsyncNotificationTest {
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(ConcurrentAsyncNotificationTest.class))
+                .addPackage(ConcurrentAsyncNotificationTest.class.getPackage());
+    }
+
+    @Test
+    public void testObserversWithSamePriorityNotifiedConcurrently(Event<Payload> event) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Payload payload = event.fireAsync(new Payload(), NotificationOptions.builder().setExecutor(executor).set(WeldNotificationOptions.CONCURRENT, true).build())
+                    .toCompletableFuture().get(20, TimeUnit.SECONDS);
+            assertEquals(3, payload.getNotified().size());
+            assertTrue(payload.getNotified().containsAll(Arrays.asList("first", "second")));
+            assertEquals("last", payload.getNotified().get(2));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testExceptionsCollected(Event<Failure> event) throws Exception {
+        try {
+            event.fireAsync(new Failure("foo"), WeldNotificationOptions.concurrent()).toCompletableFuture().get(20, TimeUnit.SECONDS);
+            fail();
+        } catch (ExecutionException expected) {
+            assertEquals(2, expected.getCause().getSuppressed().length);
+        }
+    }
+
+}
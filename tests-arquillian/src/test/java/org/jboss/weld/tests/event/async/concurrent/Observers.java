@@ -0,0 +1,60 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2014, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.event.async.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Priority;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.event.ObservesAsync;
+import javax.enterprise.inject.spi.BeanManager;
+
+@ApplicationScoped
+public class Observers {
+
+    public void first(@ObservesAsync @Priority(1) Payload payload, BeanManager manager) throws Exception {
+        assertNotNull(manager.getContext(RequestScoped.class));
+        // only passes if the second observer is notified concurrently
+        payload.getBarrier().await(10, TimeUnit.SECONDS);
+        payload.getNotified().add("first");
+    }
+
+    public void second(@ObservesAsync @Priority(1) Payload payload, BeanManager manager) throws Exception {
+        assertNotNull(manager.getContext(RequestScoped.class));
+        payload.getBarrier().await(10, TimeUnit.SECONDS);
+        payload.getNotified().add("second");
+    }
+
+    public void last(@ObservesAsync @Priority(2) Payload payload) {
+        // observers with lower priority value must be notified first
+        assertEquals(2, payload.getNotified().size());
+        payload.getNotified().add("last");
+    }
+
+    public void fail(@ObservesAsync @Priority(2) Failure failure) {
+        throw new IllegalStateException(failure.getMessage());
+    }
+
+    public void failAgain(@ObservesAsync @Priority(2) Failure failure) {
+        throw new IllegalArgumentException(failure.getMessage());
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.interceptors.cache;
+
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bean.proxy.InterceptionDecorationContext;
+import org.jboss.weld.context.cache.RequestScopedCache;
+import org.jboss.weld.test.util.Utils;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests that an invocation context may be proceeded once the interceptor chain finished, even if the {@link InterceptionDecorationContext} the chain was
+ * started with is no longer valid.
+ */
+@RunWith(Arquillian.class)
+public class DeferredProceedTest {
+
+    @Inject
+    private Baz baz;
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(DeferredProceedTest.class)).addPackage(DeferredProceedTest.class.getPackage());
+    }
+
+    @Test
+    public void testProceedAfterInterceptionFinished() throws Exception {
+        Assert.assertEquals(1, baz.baz());
+        Assert.assertEquals(2, BazInterceptor.lastContext.proceed());
+        // the stack is removed once it gets empty
+        RequestScopedCache.invalidate();
+        Assert.assertEquals(3, BazInterceptor.lastContext.proceed());
+        Assert.assertTrue(InterceptionDecorationContext.empty());
+    }
+}
@@ -56,6 +56,19 @@ public class InterceptionFactoryTest {
         assertEquals(foo1.getClass(), foo2.getClass());
     }
 
+    @Test
+    public void testIdenticalConfigurationsShareProxyClass(@Produced Instance<Foo> fooInstance,
+            @Produced("ejbInterceptorsDependent") Instance<Foo> ejbFooInstance) {
+        Foo foo1 = fooInstance.get();
+        Foo foo2 = fooInstance.get();
+        // Identical configuration
+        assertEquals(foo1.getClass(), foo2.getClass());
+        // Different configuration intercepting the same methods - the proxy class is reused
+        Foo ejbFoo = ejbFooInstance.get();
+        assertEquals("Hello pong", ejbFoo.ping());
+        assertEquals(foo1.getClass(), ejbFoo.getClass());
+    }
+
     @Test
     public void testFooClassLevelBinding(@Produced("classLevel") Foo foo) {
         assertEquals("Hello pong", foo.ping());
@@ -60,6 +60,16 @@ public class Producer {
         return interceptionFactory.createInterceptedInstance(new Foo());
     }
 
+    @Produced("ejbInterceptorsDependent")
+    @Dependent
+    @Produces
+    public Foo produceDependentFooWithEjbInterceptors(InterceptionFactory<Foo> interceptionFactory) {
+        interceptionFactory.configure()
+                .filterMethods((m) -> m.getJavaMember().getName().equals("ping") && m.getJavaMember().getParameterCount() == 0)
+                .findFirst().get().add(new InterceptorsLiteral(HelloInterceptor.class));
+        return interceptionFactory.createInterceptedInstance(new Foo());
+    }
+
     @Produced
     @Dependent
     @Produces
@@ -0,0 +1,71 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2016, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.proxy.client.packageprivate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.test.util.Utils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests that package-private and protected methods of a normal-scoped bean are invoked on the contextual instance directly, not through the method handler.
+ */
+@RunWith(Arquillian.class)
+public class PackagePrivateClientProxyInvocationTest {
+
+    @Inject
+    Counter counter;
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ShrinkWrap.create(BeanArchive.class, Utils.getDeploymentNameAsHash(PackagePrivateClientProxyInvocationTest.class))
+                .addPackage(PackagePrivateClientProxyInvocationTest.class.getPackage());
+    }
+
+    @Test
+    public void testInvocation() {
+        assertEquals(6, counter.add(3, new Step(2)));
+        assertEquals(10, counter.add(2, new Step(2)));
+        // returning this yields the client proxy
+        assertSame(counter, counter.reset());
+        assertEquals(1, counter.add(1, new Step(1)));
+    }
+
+    @Test
+    public void testInvocationNotReflective() {
+        try {
+            counter.fail();
+            fail();
+        } catch (IllegalStateException expected) {
+            // the contextual instance is invoked directly from the client proxy
+            StackTraceElement[] stackTrace = expected.getStackTrace();
+            assertEquals(Counter.class.getName(), stackTrace[0].getClassName());
+            assertEquals(counter.getClass().getName(), stackTrace[1].getClassName());
+        }
+    }
+
+}